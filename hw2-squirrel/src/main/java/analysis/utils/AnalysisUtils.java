@@ -1,6 +1,7 @@
 package analysis.utils;
 
 import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.LongList;
 import datastructures.concrete.dictionaries.ArrayDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
@@ -58,10 +59,10 @@ public class AnalysisUtils {
      * If you want to test something that has some degree of randomness (e.g. testing how long it takes
      * for some code to run), you should try using the 'runTrials' helper method below.
      */
-    public static IList<Long> runSingleTrial(IList<Long> inputs, Function<Long, Long> testerFunction) {
-        IList<Long> trial = new DoubleLinkedList<>();
+    public static LongList runSingleTrial(IList<Long> inputs, Function<Long, Long> testerFunction) {
+        LongList trial = new LongList(inputs.size());
         for (long input : inputs) {
-            trial.add(testerFunction.apply(input));
+            trial.addLong(testerFunction.apply(input));
         }
         return trial;
     }
@@ -70,13 +71,13 @@ public class AnalysisUtils {
      * This method re-runs 'runSingleTrial' the given `numTrial' number of times and returns
      * a list containing the (rounded) average of each trial.
      */
-    public static IList<Long> runTrials(IList<Long> inputs, Function<Long, Long> testerFunction, int numTrials) {
+    public static LongList runTrials(IList<Long> inputs, Function<Long, Long> testerFunction, int numTrials) {
         // Run tester function once but discard result to warm up cache
         // (This helps us obtain more accurate results when testing timing code)
         System.out.println("    Running preliminary trial to warm up caches (will discard result)");
         runSingleTrial(inputs, testerFunction);
 
-        IList<IList<Long>> trials = new DoubleLinkedList<>();
+        IList<LongList> trials = new DoubleLinkedList<>();
         for (int i = 0; i < numTrials; i++) {
             System.out.println("    Starting trial " + i);
             trials.add(runSingleTrial(inputs, testerFunction));
@@ -91,23 +92,30 @@ public class AnalysisUtils {
      *
      * Returns a list containing the (rounded) average of each row.
      */
-    public static IList<Long> average(IList<IList<Long>> entries) {
+    public static LongList average(IList<LongList> entries) {
         if (entries.isEmpty()) {
             throw new IllegalArgumentException("There must be at least one entry before we can take an average");
         }
         int numEntries = entries.size();
+        int numRows = entries.get(0).size();
+        for (LongList entry : entries) {
+            if (entry.size() != numRows) {
+                throw new IllegalArgumentException("Not all columns have the same length");
+            }
+        }
 
-        IList<Long> result = new DoubleLinkedList<>();
-        RowIterator<Long> rowIter = new RowIterator<>(entries);
-        while (rowIter.hasNext()) {
-            IList<Long> trial = rowIter.next();
-            long curr = 0L;
-            for (long val : trial) {
-                curr += val;
+        // Sum the rows with one pass down each column, so nothing gets boxed
+        long[] sums = new long[numRows];
+        for (LongList entry : entries) {
+            for (int i = 0; i < numRows; i++) {
+                sums[i] += entry.getLong(i);
             }
-            result.add(Math.round((double) curr / numEntries));
         }
 
+        LongList result = new LongList(numRows);
+        for (long sum : sums) {
+            result.addLong(Math.round((double) sum / numEntries));
+        }
         return result;
     }
 
@@ -1,6 +1,7 @@
 package analysis.utils;
 
 import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.LongList;
 import datastructures.interfaces.IList;
 
 import java.io.FileWriter;
@@ -13,7 +14,7 @@ import java.util.Iterator;
  */
 public class CsvWriter {
     private IList<String> columnNames;
-    private IList<IList<Long>> columns;
+    private IList<LongList> columns;
 
     public CsvWriter() {
         this.columnNames = new DoubleLinkedList<>();
@@ -24,10 +25,23 @@ public class CsvWriter {
      * Adds a column of data with the given name.
      *
      * Precondition: the column must be the same length as all other columns.
+     *
+     * If the column is a LongList, it is stored as-is; any other list is copied into one.
      */
     public void addColumn(String name, IList<Long> column) {
         this.columnNames.add(name);
-        this.columns.add(column);
+        this.columns.add(toLongList(column));
+    }
+
+    private static LongList toLongList(IList<Long> column) {
+        if (column instanceof LongList) {
+            return (LongList) column;
+        }
+        LongList copy = new LongList(column.size());
+        for (long value : column) {
+            copy.addLong(value);
+        }
+        return copy;
     }
 
     /**
@@ -42,9 +56,25 @@ public class CsvWriter {
             // Print header
             writer.println(this.join(this.columnNames, ","));
 
-            RowIterator<Long> rowIter = new RowIterator<>(this.columns);
-            while (rowIter.hasNext()) {
-                writer.println(this.join(rowIter.next(), ","));
+            int numRows = this.columns.get(0).size();
+            for (LongList column : this.columns) {
+                if (column.size() != numRows) {
+                    throw new IllegalStateException("Not all columns have the same length");
+                }
+            }
+
+            // Print each row straight from the primitive columns, without building
+            // a boxed list per row
+            StringBuilder row = new StringBuilder();
+            for (int i = 0; i < numRows; i++) {
+                row.setLength(0);
+                for (LongList column : this.columns) {
+                    if (row.length() > 0) {
+                        row.append(",");
+                    }
+                    row.append(column.getLong(i));
+                }
+                writer.println(row);
             }
         } catch (IOException ex) {
             // Having to include a "throws IOException" in our method headers everywhere
@@ -1,7 +1,7 @@
 package calculator.ast;
 
 import calculator.errors.EvaluationError;
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.ArrayBackedList;
 import datastructures.interfaces.IList;
 
 /**
@@ -18,14 +18,14 @@ public class AstNode {
      * Creates a leaf node representing a single number.
      */
     public AstNode(double number) {
-        this("" + number, new DoubleLinkedList<>(), ExprType.NUMBER);
+        this("" + number, new ArrayBackedList<>(0), ExprType.NUMBER);
     }
 
     /**
      * Creates a leaf node representing a variable.
      */
     public AstNode(String name) {
-        this(name, new DoubleLinkedList<>(), ExprType.VARIABLE);
+        this(name, new ArrayBackedList<>(0), ExprType.VARIABLE);
     }
 
     /**
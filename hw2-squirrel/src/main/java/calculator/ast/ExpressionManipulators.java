@@ -2,7 +2,8 @@ package calculator.ast;
 
 import calculator.interpreter.Environment;
 import calculator.errors.EvaluationError;
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.ArrayBackedList;
+import datastructures.concrete.DoubleList;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
 // import misc.exceptions.NotYetImplementedException;
@@ -170,7 +171,7 @@ public class ExpressionManipulators {
             // Recurse to get the bottom left node
             AstNode left = handlesSimplifyHelper(variables, node.getChildren().get(0));
             // every node is guaranteed to have at least one child so we could use .get(0) to recurse
-            IList<AstNode> newChildren = new DoubleLinkedList<>();
+            IList<AstNode> newChildren = new ArrayBackedList<>();
             // save it to the new list for further operation
             // or just return a num if there isn't any operation to do
             newChildren.add(left);
@@ -252,15 +253,17 @@ public class ExpressionManipulators {
         } else if (step <= 0) {
             throw new EvaluationError("Step is zero or negative");
         }
-        IList<Double> xSet = new DoubleLinkedList<>();
-        IList<Double> ySet = new DoubleLinkedList<>();
+        // Define the plotting variable in a private copy of the variables, so that
+        // it never leaks into the caller's environment (even if evaluation fails)
+        IDictionary<String, AstNode> plotVariables = env.fork().getVariables();
+        DoubleList xSet = new DoubleList();
+        DoubleList ySet = new DoubleList();
         for (double xVal = varMin; xVal <= varMax; xVal += step) {
-            xSet.add(xVal);
-            variables.put(var, new AstNode(xVal)); // Defines the plotting variable
+            xSet.addDouble(xVal);
+            plotVariables.put(var, new AstNode(xVal));
             // Throws EvaluationError if any other variable is undefined
-            ySet.add(toDoubleHelper(variables, exprToPlot));
+            ySet.addDouble(toDoubleHelper(plotVariables, exprToPlot));
         }
-        variables.remove(var); // Ensure var is removed from variables dictionary after plot
         // Note: every single function we add MUST return an
         // AST node that your "simplify" function is capable of handling.
         // However, your "simplify" function doesn't really know what to do
@@ -1,15 +1,14 @@
 package calculator.gui;
 
+import datastructures.concrete.DoubleList;
 import datastructures.interfaces.IList;
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.JFreeChart;
-import org.jfree.data.xy.XYSeries;
-import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.data.xy.DefaultXYDataset;
 
 import java.awt.*;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.ImageObserver;
-import java.util.Iterator;
 
 /**
  * This class contains some useful utility methods for drawing to the plotting window.
@@ -136,22 +135,16 @@ public class ImageDrawer implements ImageObserver {
             throw new IllegalArgumentException("Number of 'x' values and 'y' values are not the same.");
         }
 
-        Iterator<Double> xIter = xValues.iterator();
-        Iterator<Double> yIter = yValues.iterator();
-
-        // We pair the elements together and add them to a series.
+        // We pair the elements together and add them to a dataset as a single
+        // series. The dataset keeps the coordinates in two plain double arrays
+        // rather than one object per point, so plotting millions of points is fine.
         // We pick an arbitrary name for this series -- the user will never
         // see it because we hide the legend anyways.
-        XYSeries series = new XYSeries("Series 1");
-        while (xIter.hasNext()) {
-            series.add(xIter.next(), yIter.next());
-        }
-
-        // We add our series to the series collection. A SeriesCollection
-        // may contain multiple series in case we want to plot multiple
+        //
+        // A dataset may contain multiple series in case we want to plot multiple
         // datasets on the same chart. We don't do this, however.
-        XYSeriesCollection seriesCollection = new XYSeriesCollection();
-        seriesCollection.addSeries(series);
+        DefaultXYDataset seriesCollection = new DefaultXYDataset();
+        seriesCollection.addSeries("Series 1", new double[][] {toArray(xValues), toArray(yValues)});
 
         // Finally, we create our chart. We hide the legend mostly because
         // it's sort of pointless if we only ever plot one series at a time.
@@ -167,6 +160,20 @@ public class ImageDrawer implements ImageObserver {
         chart.draw(g2, drawRegion);
     }
 
+    // Copies the values into a plain array, skipping the boxed iterator for DoubleLists.
+    private static double[] toArray(IList<Double> values) {
+        if (values instanceof DoubleList) {
+            return ((DoubleList) values).toArray();
+        }
+        double[] result = new double[values.size()];
+        int i = 0;
+        for (double value : values) {
+            result[i] = value;
+            i++;
+        }
+        return result;
+    }
+
     @Override
     public boolean imageUpdate(Image img, int infoflags, int x, int y, int newWidth, int newHeight) {
         boolean widthReady = (infoflags & ImageObserver.WIDTH) != 0;
@@ -7,8 +7,9 @@ import calculator.ast.ControlFlowManipulators;
 import calculator.ast.ExpressionManipulators;
 import calculator.gui.ImageDrawer;
 import calculator.parser.Parser;
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.ArrayBackedList;
 import datastructures.concrete.dictionaries.ArrayDictionary;
+import datastructures.concrete.dictionaries.PersistentHashDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
 
@@ -39,7 +40,7 @@ public class Calculator {
         this.parser = new Parser();
         this.interpreter = new Interpreter();
 
-        this.variables = new ArrayDictionary<>();
+        this.variables = new PersistentHashDictionary<>();
         this.imageDrawer = imageDrawer;
 
         this.customFunctions = new ArrayDictionary<>();
@@ -105,7 +106,7 @@ public class Calculator {
         } else if (node.isVariable()) {
             return node;
         } else {
-            IList<AstNode> newChildren = new DoubleLinkedList<>();
+            IList<AstNode> newChildren = new ArrayBackedList<>();
             for (AstNode oldChild : node.getChildren()) {
                 newChildren.add(injectSimplifyHelper(env, oldChild));
             }
@@ -126,7 +127,7 @@ public class Calculator {
         if (inner.isOperation() && inner.getName().equals("simplify")) {
             return inner;
         } else {
-            IList<AstNode> children = new DoubleLinkedList<>();
+            IList<AstNode> children = new ArrayBackedList<>();
             children.add(inner);
             return new AstNode("simplify", children);
         }
@@ -158,7 +159,7 @@ public class Calculator {
             int currPrecedenceLevel = hasPrecedence ? this.precedenceMap.get(name) : STRONGEST_PRECEDENCE;
             int childPrecedenceLevel = hasPrecedence ? currPrecedenceLevel : WEAKEST_PRECEDENCE;
 
-            IList<String> children = new DoubleLinkedList<>();
+            IList<String> children = new ArrayBackedList<>();
             for (AstNode child : node.getChildren()) {
                 children.add(this.convertToString(child, childPrecedenceLevel));
             }
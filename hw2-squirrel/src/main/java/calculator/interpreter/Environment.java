@@ -3,6 +3,8 @@ package calculator.interpreter;
 import calculator.ast.AstNode;
 import calculator.ast.AstManipulator;
 import calculator.gui.ImageDrawer;
+import datastructures.concrete.dictionaries.ArrayDictionary;
+import datastructures.concrete.dictionaries.PersistentHashDictionary;
 import datastructures.interfaces.IDictionary;
 
 /**
@@ -16,6 +18,7 @@ import datastructures.interfaces.IDictionary;
  *
  * - getVariables()
  * - getImageDrawer()
+ * - fork()
  *
  * You can ignore all other methods -- they're used internally by
  * the code you were provided.
@@ -46,6 +49,34 @@ public class Environment {
         return this.variables;
     }
 
+    /**
+     * Returns a copy of this environment whose variables can be changed without
+     * affecting this one. Everything else is shared.
+     *
+     * If the variables are stored in a PersistentHashDictionary, this runs in O(1) time:
+     * the copy shares all of its structure with the original. If they are stored in an
+     * ArrayDictionary, they are copied into a new one in O(n) time.
+     *
+     * @throws UnsupportedOperationException  if this environment was created with some
+     *                                        other kind of variables dictionary
+     */
+    public Environment fork() {
+        IDictionary<String, AstNode> forkedVariables;
+        if (this.variables instanceof PersistentHashDictionary) {
+            forkedVariables = ((PersistentHashDictionary<String, AstNode>) this.variables).fork();
+        } else if (this.variables instanceof ArrayDictionary) {
+            forkedVariables = new ArrayDictionary<>((ArrayDictionary<String, AstNode>) this.variables);
+        } else {
+            throw new UnsupportedOperationException();
+        }
+        return new Environment(
+                forkedVariables,
+                this.imageDrawer,
+                this.customFunctions,
+                this.specialFunctions,
+                this.interpreter);
+    }
+
     /**
      * Returns a class that contains a variety of useful methods for
      * drawing and plotting data.
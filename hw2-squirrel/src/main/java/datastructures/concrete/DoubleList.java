@@ -0,0 +1,223 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * A growable list of primitive doubles.
+ *
+ * The values are stored unboxed in a single double[], so a list of n values takes
+ * about 8n bytes instead of the ~48n bytes a linked list of Doubles would. The
+ * addDouble/getDouble family of methods never boxes; the IList methods are only an
+ * adapter so that the list can be passed to code expecting an IList<Double>.
+ *
+ * This list cannot store null.
+ *
+ * @see IList
+ */
+public class DoubleList implements IList<Double> {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private double[] items;
+    private int size;
+
+    public DoubleList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DoubleList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.items = new double[initialCapacity];
+        this.size = 0;
+    }
+
+    // Makes sure the backing array can hold at least 'capacity' values, growing it by half
+    // of its current length (or more) so that repeated adds stay amortized O(1).
+    private void ensureCapacity(int capacity) {
+        if (capacity > items.length) {
+            int newLength = Math.max(capacity, items.length + (items.length >> 1) + 1);
+            double[] newItems = new double[newLength];
+            System.arraycopy(items, 0, newItems, 0, size);
+            this.items = newItems;
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private static double unbox(Double item) {
+        if (item == null) {
+            throw new IllegalArgumentException("DoubleList cannot store null values");
+        }
+        return item;
+    }
+
+    /**
+     * Adds the given value to the end of the list.
+     */
+    public void addDouble(double value) {
+        ensureCapacity(size + 1);
+        items[size] = value;
+        size++;
+    }
+
+    /**
+     * Returns the value located at the given index.
+     *
+     * @throws IndexOutOfBoundsException if the index < 0 or index >= this.size()
+     */
+    public double getDouble(int index) {
+        checkIndex(index);
+        return items[index];
+    }
+
+    /**
+     * Overwrites the value located at the given index.
+     *
+     * @throws IndexOutOfBoundsException if the index < 0 or index >= this.size()
+     */
+    public void setDouble(int index, double value) {
+        checkIndex(index);
+        items[index] = value;
+    }
+
+    /**
+     * Removes and returns the value from the end of this list.
+     *
+     * @throws EmptyContainerException if the list is empty
+     */
+    public double removeDouble() {
+        if (size == 0) {
+            throw new EmptyContainerException();
+        }
+        size--;
+        return items[size];
+    }
+
+    /**
+     * Returns a new array containing exactly the values in this list, in order.
+     */
+    public double[] toArray() {
+        double[] result = new double[size];
+        System.arraycopy(items, 0, result, 0, size);
+        return result;
+    }
+
+    @Override
+    public void add(Double item) {
+        addDouble(unbox(item));
+    }
+
+    @Override
+    public Double remove() {
+        return removeDouble();
+    }
+
+    @Override
+    public Double get(int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    public void set(int index, Double item) {
+        setDouble(index, unbox(item));
+    }
+
+    // Pre : Throws IndexOutOfBoundsException if the index < 0 or index >= this.size() + 1
+    // Post: Inserts the given item at the given index, shifting later items up by one.
+    @Override
+    public void insert(int index, Double item) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        double value = unbox(item);
+        ensureCapacity(size + 1);
+        System.arraycopy(items, index, items, index + 1, size - index);
+        items[index] = value;
+        size++;
+    }
+
+    // Pre : Throws IndexOutOfBoundsException if the index < 0 or index >= this.size()
+    // Post: Deletes and returns the item at the given index, shifting later items down by one.
+    @Override
+    public Double delete(int index) {
+        checkIndex(index);
+        double result = items[index];
+        System.arraycopy(items, index + 1, items, index, size - index - 1);
+        size--;
+        return result;
+    }
+
+    // Returns the index of the first occurrence of the given item, or -1 if it is absent.
+    // Values are compared the same way Double.equals compares them.
+    @Override
+    public int indexOf(Double item) {
+        if (item == null) {
+            return -1;
+        }
+        long bits = Double.doubleToLongBits(item);
+        for (int i = 0; i < size; i++) {
+            if (Double.doubleToLongBits(items[i]) == bits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(Double other) {
+        return indexOf(other) != -1;
+    }
+
+    @Override
+    public Iterator<Double> iterator() {
+        return new DoubleListIterator(this);
+    }
+
+    // Returns a primitive spliterator over the backing array. Streams that know they
+    // are working with a Spliterator.OfDouble can read the values without boxing them.
+    @Override
+    public Spliterator.OfDouble spliterator() {
+        return Spliterators.spliterator(items, 0, size, Spliterator.ORDERED);
+    }
+
+    private static class DoubleListIterator implements Iterator<Double> {
+        private DoubleList list;
+        private int index;
+
+        public DoubleListIterator(DoubleList list) {
+            this.list = list;
+            this.index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < list.size;
+        }
+
+        @Override
+        public Double next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            double result = list.items[index];
+            index++;
+            return result;
+        }
+    }
+}
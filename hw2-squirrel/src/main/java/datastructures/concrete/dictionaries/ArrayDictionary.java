@@ -30,6 +30,16 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
         this.size = 0;
     }
 
+    // Post: Creates a dictionary holding the same key-value pairs as 'other'. Later
+    //       changes to either dictionary are not seen by the other.
+    public ArrayDictionary(ArrayDictionary<K, V> other) {
+        pairs = this.makeArrayOfPairs(other.pairs.length);
+        for (int i = 0; i < other.size; i++) {
+            pairs[i] = new Pair<K, V>(other.pairs[i].key, other.pairs[i].value);
+        }
+        this.size = other.size;
+    }
+
     /**
      * This method will return a new, empty array of the given size
      * that can contain Pair<K, V> objects.
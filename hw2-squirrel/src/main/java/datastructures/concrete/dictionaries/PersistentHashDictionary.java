@@ -0,0 +1,447 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+/**
+ * A hash array mapped trie (HAMT) whose nodes are never modified once built.
+ *
+ * Each level of the trie uses 5 more bits of the key's hash to pick one of 32
+ * children, so every operation touches O(log32 n) nodes. Changing a key copies
+ * only the nodes on the path to it; every other node is shared with the old
+ * version. This follows the compact "CHAMP" layout: each node keeps two bitmaps
+ * (one for the key-value pairs stored inline and one for the child nodes) and
+ * a single array holding the pairs from the front and the children from the back.
+ *
+ * A PersistentHashDictionary object is a lightweight handle onto one version of
+ * the trie:
+ *
+ *  - 'assoc' and 'dissoc' return a new handle and leave this one untouched.
+ *  - 'put' and 'remove' move this handle to a new version. Handles created
+ *    earlier by 'fork', 'assoc' or 'dissoc' don't see the change.
+ *  - 'fork' returns an independent handle to the same version in O(1) time.
+ *
+ * Handles are not thread-safe, but the versions themselves are immutable, so
+ * each thread can safely work with its own fork.
+ *
+ * @see IDictionary
+ */
+public class PersistentHashDictionary<K, V> implements IDictionary<K, V> {
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+    private static final int HASH_BITS = 32;
+
+    // Returned by Node.find when the key is absent (since null is a valid value).
+    private static final Object NOT_FOUND = new Object();
+
+    private Node<K, V> root;
+    private int size;
+
+    public PersistentHashDictionary() {
+        this(BitmapNode.empty(), 0);
+    }
+
+    private PersistentHashDictionary(Node<K, V> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    // Spreads the high bits of the hash code into the low bits, which pick the
+    // child at the top levels of the trie.
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean keysEqual(Object a, Object b) {
+        return a == b || (a != null && a.equals(b));
+    }
+
+    /**
+     * Returns a new dictionary that has all the pairs of this one, plus the given pair
+     * (replacing the old value if the key is already present). This dictionary is not
+     * changed.
+     */
+    public PersistentHashDictionary<K, V> assoc(K key, V value) {
+        Change change = new Change();
+        Node<K, V> newRoot = root.assoc(key, value, hash(key), 0, change);
+        return new PersistentHashDictionary<>(newRoot, change.sizeChanged ? size + 1 : size);
+    }
+
+    /**
+     * Returns a new dictionary that has all the pairs of this one except the given key
+     * (which may be absent). This dictionary is not changed.
+     */
+    public PersistentHashDictionary<K, V> dissoc(K key) {
+        Change change = new Change();
+        Node<K, V> newRoot = root.dissoc(key, hash(key), 0, change);
+        return new PersistentHashDictionary<>(newRoot, change.sizeChanged ? size - 1 : size);
+    }
+
+    /**
+     * Returns a new handle to the same version of the dictionary, in O(1) time.
+     * Later puts and removes on either handle are not seen by the other.
+     */
+    public PersistentHashDictionary<K, V> fork() {
+        return new PersistentHashDictionary<>(root, size);
+    }
+
+    // Pre : Throws NoSuchKeyException if the dictionary does not contain the given key.
+    // Post: Returns the value corresponding to the given key.
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        Object result = root.find(key, hash(key), 0);
+        if (result == NOT_FOUND) {
+            throw new NoSuchKeyException();
+        }
+        return (V) result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(K key, V defaultValue) {
+        Object result = root.find(key, hash(key), 0);
+        return result == NOT_FOUND ? defaultValue : (V) result;
+    }
+
+    // Moves this handle to a version that also contains the given pair.
+    @Override
+    public void put(K key, V value) {
+        Change change = new Change();
+        root = root.assoc(key, value, hash(key), 0, change);
+        if (change.sizeChanged) {
+            size++;
+        }
+    }
+
+    // Pre : Throws NoSuchKeyException if the dictionary does not contain the given key.
+    // Post: Moves this handle to a version without the given key, and returns its old value.
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        int hash = hash(key);
+        Object oldValue = root.find(key, hash, 0);
+        if (oldValue == NOT_FOUND) {
+            throw new NoSuchKeyException();
+        }
+        root = root.dissoc(key, hash, 0, new Change());
+        size--;
+        return (V) oldValue;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return root.find(key, hash(key), 0) != NOT_FOUND;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    // Records whether an assoc or dissoc added or removed a key (as opposed to
+    // replacing a value or finding nothing to remove).
+    private static class Change {
+        public boolean sizeChanged = false;
+    }
+
+    private abstract static class Node<K, V> {
+        // Returns the value for the key, or NOT_FOUND.
+        public abstract Object find(K key, int hash, int shift);
+
+        // Returns a node with the pair added, or 'this' if nothing changed.
+        public abstract Node<K, V> assoc(K key, V value, int hash, int shift, Change change);
+
+        // Returns a node without the key, or 'this' if the key was absent.
+        public abstract Node<K, V> dissoc(K key, int hash, int shift, Change change);
+
+        // Returns true if this node holds exactly one pair and no children, in which
+        // case the parent stores that pair inline instead of keeping this node.
+        public abstract boolean hasSinglePair();
+
+        public abstract K firstKey();
+
+        public abstract V firstValue();
+    }
+
+    private static final class BitmapNode<K, V> extends Node<K, V> {
+        private static final BitmapNode<?, ?> EMPTY = new BitmapNode<>(0, 0, new Object[0]);
+
+        // Bit i of 'dataMap' is set if the pair for hash fragment i is stored inline;
+        // bit i of 'nodeMap' is set if it lives in a child node.
+        // content = [key0, value0, key1, value1, ..., childN, ..., child1, child0]
+        private final int dataMap;
+        private final int nodeMap;
+        private final Object[] content;
+
+        public BitmapNode(int dataMap, int nodeMap, Object[] content) {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        @SuppressWarnings("unchecked")
+        public static <K, V> BitmapNode<K, V> empty() {
+            return (BitmapNode<K, V>) EMPTY;
+        }
+
+        private static int bitFor(int hash, int shift) {
+            return 1 << ((hash >>> shift) & LEVEL_MASK);
+        }
+
+        private int dataIndex(int bit) {
+            return Integer.bitCount(dataMap & (bit - 1));
+        }
+
+        private int nodeIndex(int bit) {
+            return content.length - 1 - Integer.bitCount(nodeMap & (bit - 1));
+        }
+
+        @SuppressWarnings("unchecked")
+        private K keyAt(int dataIndex) {
+            return (K) content[2 * dataIndex];
+        }
+
+        @SuppressWarnings("unchecked")
+        private V valueAt(int dataIndex) {
+            return (V) content[2 * dataIndex + 1];
+        }
+
+        @SuppressWarnings("unchecked")
+        private Node<K, V> nodeAt(int nodeIndex) {
+            return (Node<K, V>) content[nodeIndex];
+        }
+
+        @Override
+        public Object find(K key, int hash, int shift) {
+            int bit = bitFor(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int index = dataIndex(bit);
+                return keysEqual(keyAt(index), key) ? valueAt(index) : NOT_FOUND;
+            } else if ((nodeMap & bit) != 0) {
+                return nodeAt(nodeIndex(bit)).find(key, hash, shift + BITS_PER_LEVEL);
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        public Node<K, V> assoc(K key, V value, int hash, int shift, Change change) {
+            int bit = bitFor(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int index = dataIndex(bit);
+                K existingKey = keyAt(index);
+                if (keysEqual(existingKey, key)) {
+                    if (valueAt(index) == value) {
+                        return this;
+                    }
+                    Object[] newContent = content.clone();
+                    newContent[2 * index + 1] = value;
+                    return new BitmapNode<>(dataMap, nodeMap, newContent);
+                }
+                // Two different keys share this fragment, so push both down a level
+                Node<K, V> child = mergePairs(
+                        existingKey, valueAt(index), hash(existingKey),
+                        key, value, hash, shift + BITS_PER_LEVEL);
+                change.sizeChanged = true;
+                return copyAndMigrateToNode(bit, child);
+            } else if ((nodeMap & bit) != 0) {
+                int index = nodeIndex(bit);
+                Node<K, V> child = nodeAt(index);
+                Node<K, V> newChild = child.assoc(key, value, hash, shift + BITS_PER_LEVEL, change);
+                if (newChild == child) {
+                    return this;
+                }
+                Object[] newContent = content.clone();
+                newContent[index] = newChild;
+                return new BitmapNode<>(dataMap, nodeMap, newContent);
+            }
+            change.sizeChanged = true;
+            return copyAndInsertPair(bit, key, value);
+        }
+
+        @Override
+        public Node<K, V> dissoc(K key, int hash, int shift, Change change) {
+            int bit = bitFor(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int index = dataIndex(bit);
+                if (!keysEqual(keyAt(index), key)) {
+                    return this;
+                }
+                change.sizeChanged = true;
+                return copyAndRemovePair(bit);
+            } else if ((nodeMap & bit) != 0) {
+                int index = nodeIndex(bit);
+                Node<K, V> child = nodeAt(index);
+                Node<K, V> newChild = child.dissoc(key, hash, shift + BITS_PER_LEVEL, change);
+                if (newChild == child) {
+                    return this;
+                }
+                if (newChild.hasSinglePair()) {
+                    // Keep the trie compact: pull a lone pair back up into this node
+                    return copyAndMigrateToPair(bit, newChild.firstKey(), newChild.firstValue());
+                }
+                Object[] newContent = content.clone();
+                newContent[index] = newChild;
+                return new BitmapNode<>(dataMap, nodeMap, newContent);
+            }
+            return this;
+        }
+
+        @Override
+        public boolean hasSinglePair() {
+            return nodeMap == 0 && Integer.bitCount(dataMap) == 1;
+        }
+
+        @Override
+        public K firstKey() {
+            return keyAt(0);
+        }
+
+        @Override
+        public V firstValue() {
+            return valueAt(0);
+        }
+
+        private Node<K, V> copyAndInsertPair(int bit, K key, V value) {
+            int index = 2 * dataIndex(bit);
+            Object[] newContent = new Object[content.length + 2];
+            System.arraycopy(content, 0, newContent, 0, index);
+            newContent[index] = key;
+            newContent[index + 1] = value;
+            System.arraycopy(content, index, newContent, index + 2, content.length - index);
+            return new BitmapNode<>(dataMap | bit, nodeMap, newContent);
+        }
+
+        private Node<K, V> copyAndRemovePair(int bit) {
+            int index = 2 * dataIndex(bit);
+            Object[] newContent = new Object[content.length - 2];
+            System.arraycopy(content, 0, newContent, 0, index);
+            System.arraycopy(content, index + 2, newContent, index, content.length - index - 2);
+            return new BitmapNode<>(dataMap ^ bit, nodeMap, newContent);
+        }
+
+        // Replaces the inline pair at 'bit' with the given child node.
+        private Node<K, V> copyAndMigrateToNode(int bit, Node<K, V> child) {
+            int oldIndex = 2 * dataIndex(bit);
+            // Index of the child once the pair is gone and the node bit is set
+            int newIndex = content.length - 2 - Integer.bitCount(nodeMap & (bit - 1));
+            Object[] newContent = new Object[content.length - 1];
+            System.arraycopy(content, 0, newContent, 0, oldIndex);
+            System.arraycopy(content, oldIndex + 2, newContent, oldIndex, newIndex - oldIndex);
+            newContent[newIndex] = child;
+            System.arraycopy(content, newIndex + 2, newContent, newIndex + 1, content.length - newIndex - 2);
+            return new BitmapNode<>(dataMap ^ bit, nodeMap | bit, newContent);
+        }
+
+        // Replaces the child node at 'bit' with the given inline pair.
+        private Node<K, V> copyAndMigrateToPair(int bit, K key, V value) {
+            int oldIndex = nodeIndex(bit);
+            int newIndex = 2 * dataIndex(bit);
+            Object[] newContent = new Object[content.length + 1];
+            System.arraycopy(content, 0, newContent, 0, newIndex);
+            newContent[newIndex] = key;
+            newContent[newIndex + 1] = value;
+            System.arraycopy(content, newIndex, newContent, newIndex + 2, oldIndex - newIndex);
+            System.arraycopy(content, oldIndex + 1, newContent, oldIndex + 2, content.length - oldIndex - 1);
+            return new BitmapNode<>(dataMap | bit, nodeMap ^ bit, newContent);
+        }
+    }
+
+    // Builds the smallest subtree holding two pairs with different keys.
+    private static <K, V> Node<K, V> mergePairs(K key1, V value1, int hash1,
+                                                K key2, V value2, int hash2, int shift) {
+        if (shift >= HASH_BITS) {
+            // Every bit of the two hashes is equal
+            return new CollisionNode<>(hash1, new Object[] {key1, value1, key2, value2});
+        }
+        int fragment1 = (hash1 >>> shift) & LEVEL_MASK;
+        int fragment2 = (hash2 >>> shift) & LEVEL_MASK;
+        if (fragment1 == fragment2) {
+            Node<K, V> child = mergePairs(key1, value1, hash1, key2, value2, hash2, shift + BITS_PER_LEVEL);
+            return new BitmapNode<>(0, 1 << fragment1, new Object[] {child});
+        }
+        int dataMap = (1 << fragment1) | (1 << fragment2);
+        if (fragment1 < fragment2) {
+            return new BitmapNode<>(dataMap, 0, new Object[] {key1, value1, key2, value2});
+        } else {
+            return new BitmapNode<>(dataMap, 0, new Object[] {key2, value2, key1, value1});
+        }
+    }
+
+    // Holds pairs whose keys have exactly the same 32-bit hash, in a flat
+    // [key0, value0, key1, value1, ...] array.
+    private static final class CollisionNode<K, V> extends Node<K, V> {
+        private final int hash;
+        private final Object[] pairs;
+
+        public CollisionNode(int hash, Object[] pairs) {
+            this.hash = hash;
+            this.pairs = pairs;
+        }
+
+        private int indexOf(K key) {
+            for (int i = 0; i < pairs.length; i += 2) {
+                if (keysEqual(pairs[i], key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Object find(K key, int hash, int shift) {
+            int index = indexOf(key);
+            return index == -1 ? NOT_FOUND : pairs[index + 1];
+        }
+
+        @Override
+        public Node<K, V> assoc(K key, V value, int hash, int shift, Change change) {
+            int index = indexOf(key);
+            if (index != -1) {
+                if (pairs[index + 1] == value) {
+                    return this;
+                }
+                Object[] newPairs = pairs.clone();
+                newPairs[index + 1] = value;
+                return new CollisionNode<>(this.hash, newPairs);
+            }
+            Object[] newPairs = new Object[pairs.length + 2];
+            System.arraycopy(pairs, 0, newPairs, 0, pairs.length);
+            newPairs[pairs.length] = key;
+            newPairs[pairs.length + 1] = value;
+            change.sizeChanged = true;
+            return new CollisionNode<>(this.hash, newPairs);
+        }
+
+        @Override
+        public Node<K, V> dissoc(K key, int hash, int shift, Change change) {
+            int index = indexOf(key);
+            if (index == -1) {
+                return this;
+            }
+            Object[] newPairs = new Object[pairs.length - 2];
+            System.arraycopy(pairs, 0, newPairs, 0, index);
+            System.arraycopy(pairs, index + 2, newPairs, index, pairs.length - index - 2);
+            change.sizeChanged = true;
+            return new CollisionNode<>(this.hash, newPairs);
+        }
+
+        @Override
+        public boolean hasSinglePair() {
+            return pairs.length == 2;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public K firstKey() {
+            return (K) pairs[0];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V firstValue() {
+            return (V) pairs[1];
+        }
+    }
+}
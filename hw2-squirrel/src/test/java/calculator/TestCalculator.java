@@ -1,8 +1,15 @@
 package calculator;
 
+import calculator.ast.AstNode;
+import calculator.ast.ExpressionManipulators;
 import calculator.errors.EvaluationError;
 import calculator.gui.ImageDrawer;
 import calculator.interpreter.Calculator;
+import calculator.interpreter.Environment;
+import calculator.interpreter.Interpreter;
+import datastructures.concrete.ArrayBackedList;
+import datastructures.concrete.dictionaries.ArrayDictionary;
+import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
 import misc.BaseTest;
 import org.junit.ComparisonFailure;
@@ -14,6 +21,7 @@ import org.junit.runners.MethodSorters;
 import java.awt.geom.Rectangle2D;
 import java.util.Arrays;
 
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 @FixMethodOrder(MethodSorters.NAME_ASCENDING)
@@ -207,6 +215,49 @@ public class TestCalculator extends BaseTest {
         assertEquals("x", calc.evaluate("x"));
     }
 
+    @Test(timeout=SECOND)
+    public void testPlotCleansUpVariableOnError() {
+        Calculator calc = new Calculator();
+        calc.setImageDrawer(new FakeImageDrawer());
+        calc.evaluate("y := 3");
+
+        try {
+            calc.evaluate("plot(x + y + z, x, 0, 10, 1)");
+            fail("Expected EvaluationError");
+        } catch (EvaluationError err) {
+            // Do nothing
+        }
+        assertEquals("x", calc.evaluate("x"));
+        assertEquals("3", calc.evaluate("y"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testPlotWithArrayDictionaryVariables() {
+        FakeImageDrawer drawer = new FakeImageDrawer();
+        IDictionary<String, AstNode> variables = new ArrayDictionary<>();
+        variables.put("c", new AstNode(2));
+        Environment env = new Environment(
+                variables, drawer, new ArrayDictionary<>(), new ArrayDictionary<>(), new Interpreter());
+
+        IList<AstNode> exprChildren = new ArrayBackedList<>();
+        exprChildren.add(new AstNode("c"));
+        exprChildren.add(new AstNode("x"));
+        IList<AstNode> plotChildren = new ArrayBackedList<>();
+        plotChildren.add(new AstNode("*", exprChildren));
+        plotChildren.add(new AstNode("x"));
+        plotChildren.add(new AstNode(0));
+        plotChildren.add(new AstNode(10));
+        plotChildren.add(new AstNode(1));
+        ExpressionManipulators.plot(env, new AstNode("plot", plotChildren));
+
+        for (int i = 0; i <= 10; i += 1) {
+            assertEquals((double) i, drawer.lastXValues.get(i));
+            assertEquals(2.0 * i, drawer.lastYValues.get(i));
+        }
+        assertEquals(1, variables.size());
+        assertTrue(!variables.containsKey("x"));
+    }
+
     @Test(timeout=SECOND)
     public void testPlotFailsOnUnknown() {
         Calculator calc = new Calculator();
@@ -0,0 +1,93 @@
+package datastructures;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.DoubleList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Iterator;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestDoubleList extends BaseTest {
+    protected DoubleList makeBasicList() {
+        DoubleList list = new DoubleList();
+        list.addDouble(1.5);
+        list.addDouble(2.5);
+        list.addDouble(3.5);
+        return list;
+    }
+
+    @Test(timeout=SECOND)
+    public void testPrimitiveAddGetSet() {
+        DoubleList list = new DoubleList(0);
+        for (int i = 0; i < 1000; i++) {
+            list.addDouble(i * 0.5);
+        }
+        assertEquals(1000, list.size());
+        list.setDouble(10, -1.0);
+        assertEquals(-1.0, list.getDouble(10));
+        assertEquals(499.5, list.getDouble(999));
+        assertEquals(499.5, list.removeDouble());
+        assertEquals(999, list.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testToArrayIsTrimmedCopy() {
+        DoubleList list = this.makeBasicList();
+        double[] values = list.toArray();
+        assertEquals(3, values.length);
+        values[0] = 100.0;
+        assertEquals(1.5, list.getDouble(0));
+    }
+
+    @Test(timeout=SECOND)
+    public void testListView() {
+        IList<Double> list = this.makeBasicList();
+        list.insert(0, 0.5);
+        list.add(4.5);
+        assertEquals(5, list.size());
+        assertEquals(0.5, list.get(0));
+        assertEquals(2.5, list.delete(2));
+        assertEquals(2, list.indexOf(3.5));
+        assertTrue(list.contains(4.5));
+        assertFalse(list.contains(null));
+
+        Iterator<Double> iter = list.iterator();
+        double[] expected = {0.5, 1.5, 3.5, 4.5};
+        for (double value : expected) {
+            assertEquals(value, iter.next());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testErrors() {
+        DoubleList list = new DoubleList();
+        try {
+            list.removeDouble();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            list.getDouble(0);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+        try {
+            list.add(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package datastructures;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.dictionaries.PersistentHashDictionary;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * This file provides some tests for PersistentHashDictionary methods, and for the
+ * fact that its older versions never change.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPersistentHashDictionary extends BaseTest {
+    private PersistentHashDictionary<String, String> makeBasicDictionary() {
+        PersistentHashDictionary<String, String> dict = new PersistentHashDictionary<>();
+        dict.put("keyA", "valA");
+        dict.put("keyB", "valB");
+        dict.put("keyC", "valC");
+        return dict;
+    }
+
+    // Every instance has the same hash code, so they all end up in one collision node.
+    private static class CollidingKey {
+        private final int id;
+
+        public CollidingKey(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CollidingKey && ((CollidingKey) other).id == this.id;
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testBasicPutGetRemove() {
+        PersistentHashDictionary<String, String> dict = makeBasicDictionary();
+        assertEquals(3, dict.size());
+        assertEquals("valB", dict.get("keyB"));
+        assertEquals("valC", dict.remove("keyC"));
+        assertEquals(2, dict.size());
+        assertFalse(dict.containsKey("keyC"));
+        assertEquals("missing", dict.getOrDefault("keyC", "missing"));
+
+        dict.put("keyA", "newA");
+        assertEquals(2, dict.size());
+        assertEquals("newA", dict.get("keyA"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testGetAndRemoveMissingKeyThrows() {
+        PersistentHashDictionary<String, String> dict = makeBasicDictionary();
+        try {
+            dict.get("keyD");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- fall through
+        }
+        try {
+            dict.remove("keyD");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- fall through
+        }
+        assertEquals(3, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullKeyAndValue() {
+        PersistentHashDictionary<String, String> dict = makeBasicDictionary();
+        dict.put(null, "nullVal");
+        dict.put("keyD", null);
+        assertEquals(5, dict.size());
+        assertEquals("nullVal", dict.get(null));
+        assertTrue(dict.containsKey("keyD"));
+        assertEquals(null, dict.get("keyD"));
+        assertEquals("nullVal", dict.remove(null));
+        assertFalse(dict.containsKey(null));
+    }
+
+    @Test(timeout=SECOND)
+    public void testAssocAndDissocLeaveOriginalUnchanged() {
+        PersistentHashDictionary<String, String> original = makeBasicDictionary();
+        PersistentHashDictionary<String, String> added = original.assoc("keyD", "valD");
+        PersistentHashDictionary<String, String> replaced = original.assoc("keyA", "newA");
+        PersistentHashDictionary<String, String> removed = original.dissoc("keyB");
+        PersistentHashDictionary<String, String> unchanged = original.dissoc("keyZ");
+
+        assertEquals(3, original.size());
+        assertEquals("valA", original.get("keyA"));
+        assertTrue(original.containsKey("keyB"));
+        assertFalse(original.containsKey("keyD"));
+
+        assertEquals(4, added.size());
+        assertEquals("valD", added.get("keyD"));
+        assertEquals(3, replaced.size());
+        assertEquals("newA", replaced.get("keyA"));
+        assertEquals(2, removed.size());
+        assertFalse(removed.containsKey("keyB"));
+        assertEquals(3, unchanged.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testForkIsIndependent() {
+        PersistentHashDictionary<String, String> dict = makeBasicDictionary();
+        PersistentHashDictionary<String, String> copy = dict.fork();
+        copy.put("keyD", "valD");
+        copy.remove("keyA");
+        dict.put("keyB", "newB");
+
+        assertEquals(3, dict.size());
+        assertTrue(dict.containsKey("keyA"));
+        assertFalse(dict.containsKey("keyD"));
+        assertEquals("newB", dict.get("keyB"));
+
+        assertEquals(3, copy.size());
+        assertFalse(copy.containsKey("keyA"));
+        assertEquals("valD", copy.get("keyD"));
+        assertEquals("valB", copy.get("keyB"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testCollidingKeys() {
+        PersistentHashDictionary<CollidingKey, Integer> dict = new PersistentHashDictionary<>();
+        for (int i = 0; i < 10; i++) {
+            dict.put(new CollidingKey(i), i);
+        }
+        PersistentHashDictionary<CollidingKey, Integer> before = dict.fork();
+        assertEquals(10, dict.size());
+        for (int i = 0; i < 10; i += 2) {
+            assertEquals(i, (int) dict.remove(new CollidingKey(i)));
+        }
+        assertEquals(5, dict.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i % 2 == 1, dict.containsKey(new CollidingKey(i)));
+            assertEquals(i, (int) before.get(new CollidingKey(i)));
+        }
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testManyPutsAndRemoves() {
+        int cap = 100000;
+        PersistentHashDictionary<Integer, Integer> dict = new PersistentHashDictionary<>();
+        for (int i = 0; i < cap; i++) {
+            dict.put(i, i * 2);
+        }
+        PersistentHashDictionary<Integer, Integer> full = dict.fork();
+        for (int i = 0; i < cap; i += 3) {
+            dict.remove(i);
+        }
+        assertEquals(cap, full.size());
+        assertEquals(cap - (cap + 2) / 3, dict.size());
+        for (int i = 0; i < cap; i++) {
+            assertEquals(i * 2, (int) full.get(i));
+            assertEquals(i % 3 != 0, dict.containsKey(i));
+        }
+        for (int i = 0; i < cap; i++) {
+            if (i % 3 != 0) {
+                dict.remove(i);
+            }
+        }
+        assertTrue(dict.isEmpty());
+        assertEquals(cap, full.size());
+    }
+}
@@ -0,0 +1,119 @@
+package analysis.experiments;
+
+import analysis.utils.AnalysisUtils;
+import analysis.utils.CsvWriter;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.ChainedHashDictionary.ResizeMode;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IList;
+
+import java.util.Arrays;
+
+/**
+ * Compares the latency of individual puts into a ChainedHashDictionary under the
+ * blocking and incremental resize modes.
+ *
+ * Tests 1 to 3 time every put into a dictionary using blocking resizes, and report the
+ * median (p50), 99th percentile (p99) and slowest single put (in nanoseconds). Tests 4
+ * to 6 do the same with incremental resizes. A blocking resize only shows up in the
+ * slowest puts, so the percentiles show whether incremental resizing trades it for
+ * slower typical puts. Tests 7 and 8 report the total time for all puts (in
+ * milliseconds), to check that incremental resizing doesn't cost much throughput.
+ *
+ * Note that a garbage collection pause during a put also counts as a slow put, so
+ * run this with a heap large enough to avoid full collections.
+ */
+public class Experiment4 {
+    public static final int NUM_TRIALS = 5;
+    public static final long MAX_DICTIONARY_SIZE = 2000000;
+    public static final long STEP = 100000;
+
+    public static void main(String[] args) {
+        IList<Long> dictionarySizes = AnalysisUtils.makeList(STEP, MAX_DICTIONARY_SIZE, STEP);
+
+        System.out.println("Starting test");
+        IList<Long> test1Results = AnalysisUtils.runTrials(dictionarySizes, Experiment4::test1, NUM_TRIALS);
+        IList<Long> test2Results = AnalysisUtils.runTrials(dictionarySizes, Experiment4::test2, NUM_TRIALS);
+        IList<Long> test3Results = AnalysisUtils.runTrials(dictionarySizes, Experiment4::test3, NUM_TRIALS);
+        IList<Long> test4Results = AnalysisUtils.runTrials(dictionarySizes, Experiment4::test4, NUM_TRIALS);
+        IList<Long> test5Results = AnalysisUtils.runTrials(dictionarySizes, Experiment4::test5, NUM_TRIALS);
+        IList<Long> test6Results = AnalysisUtils.runTrials(dictionarySizes, Experiment4::test6, NUM_TRIALS);
+        IList<Long> test7Results = AnalysisUtils.runTrials(dictionarySizes, Experiment4::test7, NUM_TRIALS);
+        IList<Long> test8Results = AnalysisUtils.runTrials(dictionarySizes, Experiment4::test8, NUM_TRIALS);
+
+        System.out.println("Saving experiment results to file");
+        CsvWriter writer = new CsvWriter();
+        writer.addColumn("DictionarySize", dictionarySizes);
+        writer.addColumn("BlockingP50PutNanos", test1Results);
+        writer.addColumn("BlockingP99PutNanos", test2Results);
+        writer.addColumn("BlockingMaxPutNanos", test3Results);
+        writer.addColumn("IncrementalP50PutNanos", test4Results);
+        writer.addColumn("IncrementalP99PutNanos", test5Results);
+        writer.addColumn("IncrementalMaxPutNanos", test6Results);
+        writer.addColumn("BlockingTotalMillis", test7Results);
+        writer.addColumn("IncrementalTotalMillis", test8Results);
+        writer.writeToFile("experimentdata/experiment4.csv");
+
+        System.out.println("All done!");
+    }
+
+    public static long test1(long dictionarySize) {
+        return putNanosPercentile(new ChainedHashDictionary<>(ResizeMode.BLOCKING), dictionarySize, 0.50);
+    }
+
+    public static long test2(long dictionarySize) {
+        return putNanosPercentile(new ChainedHashDictionary<>(ResizeMode.BLOCKING), dictionarySize, 0.99);
+    }
+
+    public static long test3(long dictionarySize) {
+        return putNanosPercentile(new ChainedHashDictionary<>(ResizeMode.BLOCKING), dictionarySize, 1.0);
+    }
+
+    public static long test4(long dictionarySize) {
+        return putNanosPercentile(new ChainedHashDictionary<>(ResizeMode.INCREMENTAL), dictionarySize, 0.50);
+    }
+
+    public static long test5(long dictionarySize) {
+        return putNanosPercentile(new ChainedHashDictionary<>(ResizeMode.INCREMENTAL), dictionarySize, 0.99);
+    }
+
+    public static long test6(long dictionarySize) {
+        return putNanosPercentile(new ChainedHashDictionary<>(ResizeMode.INCREMENTAL), dictionarySize, 1.0);
+    }
+
+    public static long test7(long dictionarySize) {
+        return totalPutMillis(new ChainedHashDictionary<>(ResizeMode.BLOCKING), dictionarySize);
+    }
+
+    public static long test8(long dictionarySize) {
+        return totalPutMillis(new ChainedHashDictionary<>(ResizeMode.INCREMENTAL), dictionarySize);
+    }
+
+    // Times every put individually and returns the given percentile of those times,
+    // where 1.0 is the slowest put. The keys are built before the clock starts, so
+    // that only the puts themselves are timed.
+    private static long putNanosPercentile(IDictionary<String, Long> dict, long dictionarySize,
+                                           double percentile) {
+        String[] keys = new String[(int) dictionarySize];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "term" + i;
+        }
+        long[] times = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            long start = System.nanoTime();
+            dict.put(keys[i], (long) i);
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        int index = (int) Math.ceil(percentile * times.length) - 1;
+        return times[Math.max(0, index)];
+    }
+
+    private static long totalPutMillis(IDictionary<String, Long> dict, long dictionarySize) {
+        long start = System.currentTimeMillis();
+        for (long i = 0; i < dictionarySize; i++) {
+            dict.put("term" + i, i);
+        }
+        return System.currentTimeMillis() - start;
+    }
+}
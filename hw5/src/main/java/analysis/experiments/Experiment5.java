@@ -0,0 +1,99 @@
+package analysis.experiments;
+
+import analysis.utils.AnalysisUtils;
+import analysis.utils.CsvWriter;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.IList;
+
+/**
+ * Floods a ChainedHashDictionary with keys that all have the same hash code, to check
+ * that lookups stay logarithmic once a bucket has been turned into a tree.
+ *
+ * The keys are strings built from the blocks "Aa" and "BB", which have the same hash
+ * code, so every key lands in one bucket. This is the classic way to attack a hash
+ * table keyed by user-supplied strings, such as crawled URIs or words.
+ *
+ * Test 1 reports the average time per lookup (in nanoseconds) with colliding keys,
+ * and test 2 the same with ordinary keys, for comparison. Test 3 reports the max
+ * probe length from getStats() with colliding keys: the height of the bucket's tree,
+ * which should grow like log(n).
+ */
+public class Experiment5 {
+    public static final int NUM_TRIALS = 5;
+    public static final long MAX_DICTIONARY_SIZE = 200000;
+    public static final long STEP = 10000;
+
+    // 2^18 distinct strings, enough for MAX_DICTIONARY_SIZE
+    public static final int BLOCKS_PER_KEY = 18;
+
+    public static void main(String[] args) {
+        IList<Long> dictionarySizes = AnalysisUtils.makeList(STEP, MAX_DICTIONARY_SIZE, STEP);
+
+        System.out.println("Starting test");
+        IList<Long> test1Results = AnalysisUtils.runTrials(dictionarySizes, Experiment5::test1, NUM_TRIALS);
+        IList<Long> test2Results = AnalysisUtils.runTrials(dictionarySizes, Experiment5::test2, NUM_TRIALS);
+        IList<Long> test3Results = AnalysisUtils.runTrials(dictionarySizes, Experiment5::test3, 1);
+
+        System.out.println("Saving experiment results to file");
+        CsvWriter writer = new CsvWriter();
+        writer.addColumn("DictionarySize", dictionarySizes);
+        writer.addColumn("CollidingNanosPerGet", test1Results);
+        writer.addColumn("OrdinaryNanosPerGet", test2Results);
+        writer.addColumn("CollidingMaxProbeLength", test3Results);
+        writer.writeToFile("experimentdata/experiment5.csv");
+
+        System.out.println("All done!");
+    }
+
+    public static long test1(long dictionarySize) {
+        return nanosPerGet(makeKeys((int) dictionarySize, true));
+    }
+
+    public static long test2(long dictionarySize) {
+        return nanosPerGet(makeKeys((int) dictionarySize, false));
+    }
+
+    public static long test3(long dictionarySize) {
+        return fill(makeKeys((int) dictionarySize, true)).getStats().getMaxProbeLength();
+    }
+
+    private static String[] makeKeys(int count, boolean colliding) {
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            if (colliding) {
+                StringBuilder key = new StringBuilder();
+                for (int b = 0; b < BLOCKS_PER_KEY; b++) {
+                    key.append((i >>> b & 1) == 0 ? "Aa" : "BB");
+                }
+                keys[i] = key.toString();
+            } else {
+                keys[i] = Integer.toString(i);
+            }
+        }
+        return keys;
+    }
+
+    private static ChainedHashDictionary<String, Integer> fill(String[] keys) {
+        ChainedHashDictionary<String, Integer> dict = new ChainedHashDictionary<>();
+        for (int i = 0; i < keys.length; i++) {
+            dict.put(keys[i], i);
+        }
+        return dict;
+    }
+
+    private static long nanosPerGet(String[] keys) {
+        ChainedHashDictionary<String, Integer> dict = fill(keys);
+
+        long start = System.nanoTime();
+        long checksum = 0;
+        for (String key : keys) {
+            checksum += dict.get(key);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (checksum < 0) {
+            // Never happens, but stops the JIT from dropping the lookups
+            System.out.println(checksum);
+        }
+        return elapsed / keys.length;
+    }
+}
@@ -0,0 +1,142 @@
+package analysis.experiments;
+
+import analysis.utils.AnalysisUtils;
+import analysis.utils.CsvWriter;
+import datastructures.concrete.ArrayHeap;
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.MeldablePriorityQueue;
+import datastructures.interfaces.IList;
+import datastructures.interfaces.IPriorityQueue;
+
+import java.util.Random;
+
+/**
+ * Compares ArrayHeap with MeldablePriorityQueue when combining the partial results of
+ * a parallel top-k: NUM_PARTS heaps each hold the k biggest items one thread has seen,
+ * and are reduced into a single heap of the k biggest items overall.
+ *
+ * An ArrayHeap can't be merged, so test 1 drains every part and re-inserts its items
+ * one at a time, and test 2 drains every part into a list and adds it with insertAll.
+ * Test 3 melds the MeldablePriorityQueue parts in O(1) each. These three report only
+ * the time to combine the parts (in milliseconds).
+ *
+ * Tests 4 and 5 repeat tests 2 and 3, but then also remove the smallest items until
+ * only k are left, and report the time for the whole reduction (in milliseconds).
+ * A pairing heap's removeMin is slower than an array heap's, so this shows when the
+ * cheap meld actually pays off. The parts are always built before the clock starts.
+ */
+public class Experiment6 {
+    public static final int NUM_TRIALS = 5;
+    public static final int NUM_PARTS = 64;
+    public static final long MAX_K = 50000;
+    public static final long STEP = 2500;
+
+    public static void main(String[] args) {
+        IList<Long> ks = AnalysisUtils.makeList(STEP, MAX_K, STEP);
+
+        System.out.println("Starting test");
+        IList<Long> test1Results = AnalysisUtils.runTrials(ks, Experiment6::test1, NUM_TRIALS);
+        IList<Long> test2Results = AnalysisUtils.runTrials(ks, Experiment6::test2, NUM_TRIALS);
+        IList<Long> test3Results = AnalysisUtils.runTrials(ks, Experiment6::test3, NUM_TRIALS);
+        IList<Long> test4Results = AnalysisUtils.runTrials(ks, Experiment6::test4, NUM_TRIALS);
+        IList<Long> test5Results = AnalysisUtils.runTrials(ks, Experiment6::test5, NUM_TRIALS);
+
+        System.out.println("Saving experiment results to file");
+        CsvWriter writer = new CsvWriter();
+        writer.addColumn("K", ks);
+        writer.addColumn("ReinsertCombineMillis", test1Results);
+        writer.addColumn("InsertAllCombineMillis", test2Results);
+        writer.addColumn("MeldCombineMillis", test3Results);
+        writer.addColumn("InsertAllTotalMillis", test4Results);
+        writer.addColumn("MeldTotalMillis", test5Results);
+        writer.writeToFile("experimentdata/experiment6.csv");
+
+        System.out.println("All done!");
+    }
+
+    public static long test1(long k) {
+        ArrayHeap<Long>[] parts = makeArrayHeaps(k);
+
+        long start = System.currentTimeMillis();
+        for (int i = 1; i < NUM_PARTS; i++) {
+            while (!parts[i].isEmpty()) {
+                parts[0].insert(parts[i].removeMin());
+            }
+        }
+        return System.currentTimeMillis() - start;
+    }
+
+    public static long test2(long k) {
+        return insertAllMillis(makeArrayHeaps(k), k, false);
+    }
+
+    public static long test3(long k) {
+        return meldMillis(makeMeldableHeaps(k), k, false);
+    }
+
+    public static long test4(long k) {
+        return insertAllMillis(makeArrayHeaps(k), k, true);
+    }
+
+    public static long test5(long k) {
+        return meldMillis(makeMeldableHeaps(k), k, true);
+    }
+
+    private static long insertAllMillis(ArrayHeap<Long>[] parts, long k, boolean trim) {
+        long start = System.currentTimeMillis();
+        for (int i = 1; i < NUM_PARTS; i++) {
+            IList<Long> items = new DoubleLinkedList<>();
+            parts[i].removeMin(parts[i].size(), items);
+            parts[0].insertAll(items);
+        }
+        if (trim) {
+            trim(parts[0], k);
+        }
+        return System.currentTimeMillis() - start;
+    }
+
+    private static long meldMillis(MeldablePriorityQueue<Long>[] parts, long k, boolean trim) {
+        long start = System.currentTimeMillis();
+        for (int i = 1; i < NUM_PARTS; i++) {
+            parts[0].meld(parts[i]);
+        }
+        if (trim) {
+            trim(parts[0], k);
+        }
+        return System.currentTimeMillis() - start;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArrayHeap<Long>[] makeArrayHeaps(long k) {
+        ArrayHeap<Long>[] parts = (ArrayHeap<Long>[]) new ArrayHeap[NUM_PARTS];
+        for (int i = 0; i < NUM_PARTS; i++) {
+            parts[i] = new ArrayHeap<>();
+            fill(parts[i], k, i);
+        }
+        return parts;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MeldablePriorityQueue<Long>[] makeMeldableHeaps(long k) {
+        MeldablePriorityQueue<Long>[] parts = (MeldablePriorityQueue<Long>[]) new MeldablePriorityQueue[NUM_PARTS];
+        for (int i = 0; i < NUM_PARTS; i++) {
+            parts[i] = new MeldablePriorityQueue<>();
+            fill(parts[i], k, i);
+        }
+        return parts;
+    }
+
+    // Every part gets different random items, but the same ones on every trial
+    private static void fill(IPriorityQueue<Long> part, long k, int seed) {
+        Random rand = new Random(seed);
+        for (long i = 0; i < k; i++) {
+            part.insert(rand.nextLong());
+        }
+    }
+
+    private static void trim(IPriorityQueue<Long> heap, long k) {
+        while (heap.size() > k) {
+            heap.removeMin();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package analysis.experiments;
+
+import analysis.utils.AnalysisUtils;
+import analysis.utils.CsvWriter;
+import datastructures.concrete.LongList;
+import datastructures.interfaces.IList;
+import misc.Sorter;
+
+import java.util.Random;
+
+/**
+ * Measures how Sorter.parallelTopKSort scales with the number of threads.
+ *
+ * Tests 1 to 4 find the top K of a list of random longs with 1, 2, 4 and 8 threads.
+ * Tests 5 and 6 sort the whole list (k = n, like Graph.findMinimumSpanningTree does)
+ * with 1 and 8 threads. Each test reports the total time for 10 runs (in milliseconds).
+ *
+ * With 1 thread, parallelTopKSort is just topKSort, so test 1 is the baseline. Thread
+ * counts above the number of cores on the machine shouldn't help.
+ */
+public class Experiment7 {
+    public static final int NUM_TRIALS = 5;
+    public static final long MAX_LIST_SIZE = 2000000;
+    public static final long STEP = 100000;
+    public static final int K = 500;
+
+    public static void main(String[] args) {
+        IList<Long> listSizes = AnalysisUtils.makeList(STEP, MAX_LIST_SIZE, STEP);
+
+        System.out.println("Starting test");
+        IList<Long> test1Results = AnalysisUtils.runTrials(listSizes, Experiment7::test1, NUM_TRIALS);
+        IList<Long> test2Results = AnalysisUtils.runTrials(listSizes, Experiment7::test2, NUM_TRIALS);
+        IList<Long> test3Results = AnalysisUtils.runTrials(listSizes, Experiment7::test3, NUM_TRIALS);
+        IList<Long> test4Results = AnalysisUtils.runTrials(listSizes, Experiment7::test4, NUM_TRIALS);
+        IList<Long> test5Results = AnalysisUtils.runTrials(listSizes, Experiment7::test5, NUM_TRIALS);
+        IList<Long> test6Results = AnalysisUtils.runTrials(listSizes, Experiment7::test6, NUM_TRIALS);
+
+        System.out.println("Saving experiment results to file");
+        CsvWriter writer = new CsvWriter();
+        writer.addColumn("ListSize", listSizes);
+        writer.addColumn("TopK1ThreadMillis", test1Results);
+        writer.addColumn("TopK2ThreadsMillis", test2Results);
+        writer.addColumn("TopK4ThreadsMillis", test3Results);
+        writer.addColumn("TopK8ThreadsMillis", test4Results);
+        writer.addColumn("FullSort1ThreadMillis", test5Results);
+        writer.addColumn("FullSort8ThreadsMillis", test6Results);
+        writer.writeToFile("experimentdata/experiment7.csv");
+
+        System.out.println("All done!");
+    }
+
+    public static long test1(long listSize) {
+        return timeSort(listSize, K, 1);
+    }
+
+    public static long test2(long listSize) {
+        return timeSort(listSize, K, 2);
+    }
+
+    public static long test3(long listSize) {
+        return timeSort(listSize, K, 4);
+    }
+
+    public static long test4(long listSize) {
+        return timeSort(listSize, K, 8);
+    }
+
+    public static long test5(long listSize) {
+        return timeSort(listSize, (int) listSize, 1);
+    }
+
+    public static long test6(long listSize) {
+        return timeSort(listSize, (int) listSize, 8);
+    }
+
+    private static long timeSort(long listSize, int k, int parallelism) {
+        Random rand = new Random(373);
+        LongList list = new LongList((int) listSize);
+        for (long i = 0; i < listSize; i++) {
+            list.addLong(rand.nextLong());
+        }
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 10; i++) {
+            Sorter.parallelTopKSort(k, list, parallelism);
+        }
+        return System.currentTimeMillis() - start;
+    }
+}
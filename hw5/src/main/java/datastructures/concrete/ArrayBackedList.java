@@ -0,0 +1,187 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * An IList backed by a resizable array.
+ *
+ * Unlike DoubleLinkedList, get and set run in O(1) time, and add runs in amortized
+ * O(1) time. Inserting or deleting anywhere but the end shifts the later elements,
+ * so those operations run in O(n) time.
+ *
+ * @see IList
+ */
+public class ArrayBackedList<T> implements IList<T> {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private T[] items;
+    private int size;
+
+    public ArrayBackedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ArrayBackedList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.items = makeArrayOfT(initialCapacity);
+        this.size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] makeArrayOfT(int arraySize) {
+        return (T[]) new Object[arraySize];
+    }
+
+    // Makes sure the backing array can hold at least 'capacity' items, growing it by half
+    // of its current length (or more) so that repeated adds stay amortized O(1).
+    private void ensureCapacity(int capacity) {
+        if (capacity > items.length) {
+            int newLength = Math.max(capacity, items.length + (items.length >> 1) + 1);
+            T[] newItems = makeArrayOfT(newLength);
+            System.arraycopy(items, 0, newItems, 0, size);
+            this.items = newItems;
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    // Adds the given item to the end of the list.
+    @Override
+    public void add(T item) {
+        ensureCapacity(size + 1);
+        items[size] = item;
+        size++;
+    }
+
+    // Pre : Throws EmptyContainerException if the container is empty.
+    // Post: Removes and returns the item from the end of this list.
+    @Override
+    public T remove() {
+        if (size == 0) {
+            throw new EmptyContainerException();
+        }
+        size--;
+        T result = items[size];
+        items[size] = null; // Let the garbage collector reclaim the item
+        return result;
+    }
+
+    // Pre : Throws IndexOutOfBoundsException if the index < 0 or index >= this.size()
+    // Post: Returns the item located at the given index.
+    @Override
+    public T get(int index) {
+        checkIndex(index);
+        return items[index];
+    }
+
+    // Pre : Throws IndexOutOfBoundsException if the index < 0 or index >= this.size()
+    // Post: Overwrites the element located at the given index with the new item.
+    @Override
+    public void set(int index, T item) {
+        checkIndex(index);
+        items[index] = item;
+    }
+
+    // Pre : Throws IndexOutOfBoundsException if the index < 0 or index >= this.size() + 1
+    // Post: Inserts the given item at the given index, shifting later items up by one.
+    @Override
+    public void insert(int index, T item) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureCapacity(size + 1);
+        System.arraycopy(items, index, items, index + 1, size - index);
+        items[index] = item;
+        size++;
+    }
+
+    // Pre : Throws IndexOutOfBoundsException if the index < 0 or index >= this.size()
+    // Post: Deletes and returns the item at the given index, shifting later items down by one.
+    @Override
+    public T delete(int index) {
+        checkIndex(index);
+        T result = items[index];
+        System.arraycopy(items, index + 1, items, index, size - index - 1);
+        size--;
+        items[size] = null;
+        return result;
+    }
+
+    // Returns the index of the first occurrence of the given item, or -1 if it is absent.
+    @Override
+    public int indexOf(T item) {
+        for (int i = 0; i < size; i++) {
+            if (items[i] == item || (items[i] != null && items[i].equals(item))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(T other) {
+        return indexOf(other) != -1;
+    }
+
+    // Post: Copies every item of 'other' onto the end of this list, growing the backing
+    //       array at most once. Leaves 'other' unchanged; 'other' may be this list.
+    public void addAll(ArrayBackedList<T> other) {
+        int otherSize = other.size;
+        ensureCapacity(size + otherSize);
+        System.arraycopy(other.items, 0, items, size, otherSize);
+        size += otherSize;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayBackedListIterator<>(this);
+    }
+
+    // Splits the backing array directly, so parallel streams get evenly sized halves.
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(items, 0, size, Spliterator.ORDERED);
+    }
+
+    private static class ArrayBackedListIterator<T> implements Iterator<T> {
+        private ArrayBackedList<T> list;
+        private int index;
+
+        public ArrayBackedListIterator(ArrayBackedList<T> list) {
+            this.list = list;
+            this.index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < list.size;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T result = list.items[index];
+            index++;
+            return result;
+        }
+    }
+}
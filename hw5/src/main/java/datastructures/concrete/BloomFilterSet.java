@@ -0,0 +1,209 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IProbabilisticSet;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.function.ToLongFunction;
+
+/**
+ * A Bloom filter: a fixed-size bit array plus k hash functions.
+ *
+ * Adding an item sets the k bits it hashes to; 'mightContain' checks that all k of
+ * them are set. The filter is sized from the number of items it is expected to hold
+ * and the false positive rate wanted at that point, and takes about
+ * -ln(rate) / ln(2)^2 bits per item (under 10 bits per item for a 1% rate).
+ *
+ * The k bit positions are derived from a single 64-bit hash of the item using enhanced
+ * double hashing, so the quality of the filter depends on that hash. By default it is
+ * built from hashCode(), which only has 32 bits; when storing many millions of items,
+ * pass in a real 64-bit hash such as 'hashString'.
+ *
+ * @see IProbabilisticSet
+ */
+public class BloomFilterSet<T> implements IProbabilisticSet<T> {
+    private static final int MAGIC = 0x424C4F4D; // "BLOM"
+
+    private final long[] bits;
+    private final long numBits;
+    private final int numHashes;
+    private final double falsePositiveRate;
+    private final ToLongFunction<? super T> hasher;
+    private long size;
+
+    /**
+     * Creates a filter for about 'expectedInsertions' items that uses the items' hashCode.
+     *
+     * @throws IllegalArgumentException if expectedInsertions is not positive, or the
+     *                                  false positive rate is not between 0 and 1
+     */
+    public BloomFilterSet(long expectedInsertions, double falsePositiveRate) {
+        this(expectedInsertions, falsePositiveRate, BloomFilterSet::defaultHash);
+    }
+
+    /**
+     * Creates a filter for about 'expectedInsertions' items that uses the given
+     * function to compute a 64-bit hash of each item.
+     *
+     * @throws IllegalArgumentException if expectedInsertions is not positive, the
+     *                                  false positive rate is not between 0 and 1, or
+     *                                  the hasher is null
+     */
+    public BloomFilterSet(long expectedInsertions, double falsePositiveRate, ToLongFunction<? super T> hasher) {
+        if (expectedInsertions <= 0 || !(falsePositiveRate > 0.0 && falsePositiveRate < 1.0) || hasher == null) {
+            throw new IllegalArgumentException();
+        }
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        long words = (optimalBits + 63) / 64;
+        if (words > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloom filter would be too large");
+        }
+        this.bits = new long[(int) words];
+        this.numBits = words * 64;
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * ln2));
+        this.falsePositiveRate = falsePositiveRate;
+        this.hasher = hasher;
+        this.size = 0;
+    }
+
+    private BloomFilterSet(long[] bits, int numHashes, double falsePositiveRate,
+                           long size, ToLongFunction<? super T> hasher) {
+        this.bits = bits;
+        this.numBits = (long) bits.length * 64;
+        this.numHashes = numHashes;
+        this.falsePositiveRate = falsePositiveRate;
+        this.hasher = hasher;
+        this.size = size;
+    }
+
+    /**
+     * Spreads an item's 32-bit hashCode into 64 bits.
+     */
+    public static long defaultHash(Object item) {
+        return mix(item == null ? 0 : item.hashCode());
+    }
+
+    /**
+     * Returns a 64-bit hash of the given string, suitable for filters holding many
+     * millions of strings (or of objects identified by a string, such as URIs).
+     */
+    public static long hashString(String str) {
+        long h = 0xCBF29CE484222325L; // FNV-1a, then a final mix to spread the bits
+        for (int i = 0; i < str.length(); i++) {
+            h ^= str.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    // The finalizer from MurmurHash3: every input bit affects every output bit.
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // Returns the bit index for the i-th hash function, derived from the two halves of
+    // the item's 64-bit hash (Dillinger and Manolios's enhanced double hashing). The
+    // cubic term keeps items whose second halves share a factor with numBits from all
+    // landing on the same few bits, which plain double hashing suffers from in small
+    // filters.
+    private long bitIndex(long hash, int i) {
+        long hash1 = hash >>> 32;
+        long hash2 = hash & 0xFFFFFFFFL;
+        long combined = hash1 + i * hash2 + ((long) i * i * i - i) / 6;
+        return Long.remainderUnsigned(combined, numBits);
+    }
+
+    @Override
+    public void add(T item) {
+        long hash = hasher.applyAsLong(item);
+        boolean changed = false;
+        for (int i = 0; i < numHashes; i++) {
+            long index = bitIndex(hash, i);
+            long mask = 1L << index;
+            int word = (int) (index >>> 6);
+            if ((bits[word] & mask) == 0) {
+                bits[word] |= mask;
+                changed = true;
+            }
+        }
+        if (changed) {
+            // An item that sets no new bits was (most likely) added before
+            size++;
+        }
+    }
+
+    @Override
+    public boolean mightContain(T item) {
+        long hash = hasher.applyAsLong(item);
+        for (int i = 0; i < numHashes; i++) {
+            long index = bitIndex(hash, i);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public long size() {
+        return this.size;
+    }
+
+    @Override
+    public double falsePositiveRate() {
+        return this.falsePositiveRate;
+    }
+
+    /**
+     * Returns the number of bits in the filter.
+     */
+    public long bitSize() {
+        return this.numBits;
+    }
+
+    /**
+     * Writes this filter to the given output. The output is a short header followed by
+     * the raw bit array, so it takes about bitSize() / 8 bytes.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(numHashes);
+        out.writeDouble(falsePositiveRate);
+        out.writeLong(size);
+        out.writeInt(bits.length);
+        for (long word : bits) {
+            out.writeLong(word);
+        }
+    }
+
+    /**
+     * Reads back a filter written by 'writeTo'. The hasher must be the same one the
+     * filter was built with.
+     *
+     * @throws IOException if the input does not contain a Bloom filter
+     */
+    public static <T> BloomFilterSet<T> readFrom(DataInput in, ToLongFunction<? super T> hasher) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Input is not a saved Bloom filter");
+        }
+        int numHashes = in.readInt();
+        double falsePositiveRate = in.readDouble();
+        long size = in.readLong();
+        int length = in.readInt();
+        if (numHashes <= 0 || length <= 0) {
+            throw new IOException("Saved Bloom filter is corrupt");
+        }
+        long[] bits = new long[length];
+        for (int i = 0; i < length; i++) {
+            bits[i] = in.readLong();
+        }
+        return new BloomFilterSet<>(bits, numHashes, falsePositiveRate, size, hasher);
+    }
+}
@@ -0,0 +1,117 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IMonotonePriorityQueue;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Arrays;
+
+/**
+ * A monotone priority queue for when every priority is within a small, fixed distance
+ * of the last one removed, such as Dijkstra's algorithm with small integer edge
+ * weights (Dial's algorithm) or breadth-first search.
+ *
+ * With a maximum gap of C, the queue keeps a ring of C + 1 buckets, one per priority
+ * from the last one removed up to C past it, so no two priorities in the queue ever
+ * share a bucket. Inserting is O(1), and removing is O(1) amortized plus a scan past
+ * at most C empty buckets.
+ */
+public class BucketQueue<T> implements IMonotonePriorityQueue<T> {
+    private T[][] buckets;
+    private int[] bucketSizes;
+    private long maxGap;
+    private long current; // every priority in the queue is in [current, current + maxGap]
+    private int size;
+
+    /**
+     * Creates a queue that accepts priorities up to maxGap above the last one removed.
+     *
+     * @throws IllegalArgumentException  if maxGap is negative, or too big to give
+     *                                   every priority its own bucket
+     */
+    @SuppressWarnings("unchecked")
+    public BucketQueue(int maxGap) {
+        if (maxGap < 0 || maxGap == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException();
+        }
+        this.buckets = (T[][]) new Object[maxGap + 1][];
+        this.bucketSizes = new int[maxGap + 1];
+        this.maxGap = maxGap;
+        this.current = 0;
+        this.size = 0;
+    }
+
+    private int bucketOf(long key) {
+        return (int) Math.floorMod(key, maxGap + 1);
+    }
+
+    @Override
+    public void insert(long key, T value) {
+        // Read as an unsigned number, key - current is too big both when key < current
+        // and when the subtraction overflows
+        if (Long.compareUnsigned(key - current, maxGap) > 0) {
+            if (size > 0) {
+                throw new IllegalArgumentException("Priority is outside the queue's window");
+            }
+            // An empty queue can start over anywhere. Otherwise it keeps its window, since
+            // the caller may still insert other priorities near the last one removed.
+            current = key;
+        }
+        int index = bucketOf(key);
+        if (buckets[index] == null) {
+            buckets[index] = makeArrayOfT(4);
+        } else if (bucketSizes[index] == buckets[index].length) {
+            buckets[index] = Arrays.copyOf(buckets[index], bucketSizes[index] * 2);
+        }
+        buckets[index][bucketSizes[index]] = value;
+        bucketSizes[index]++;
+        size++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] makeArrayOfT(int arraySize) {
+        return (T[]) new Object[arraySize];
+    }
+
+    @Override
+    public T removeMin() {
+        int index = this.advance();
+        bucketSizes[index]--;
+        T result = buckets[index][bucketSizes[index]];
+        buckets[index][bucketSizes[index]] = null;
+        size--;
+        return result;
+    }
+
+    @Override
+    public T peekMin() {
+        int index = this.advance();
+        return buckets[index][bucketSizes[index] - 1];
+    }
+
+    @Override
+    public long peekMinKey() {
+        this.advance();
+        return current;
+    }
+
+    // Moves 'current' up to the smallest priority in the queue, and returns its bucket.
+    private int advance() {
+        if (size == 0) {
+            throw new EmptyContainerException("Queue is empty");
+        }
+        int index = bucketOf(current);
+        while (bucketSizes[index] == 0) {
+            current++;
+            index++;
+            if (index == bucketSizes.length) {
+                index = 0;
+            }
+        }
+        return index;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
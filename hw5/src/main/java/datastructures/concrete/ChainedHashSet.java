@@ -1,71 +1,378 @@
 package datastructures.concrete;
 
-import datastructures.concrete.dictionaries.ChainedHashDictionary;
-import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.ISet;
-// import misc.exceptions.NoSuchKeyException;
-// import misc.exceptions.NotYetImplementedException;
+import datastructures.interfaces.IStatsProvider;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /**
+ * A hash set that stores its items and their cached hash codes directly in two flat
+ * arrays, using Robin Hood linear probing with backward-shift deletion (the same
+ * layout as OpenAddressingHashDictionary, minus the values).
+ *
+ * Earlier versions wrapped an IDictionary<T, Boolean>, which paid for an unused value
+ * slot per item and a KVPair per item during iteration. The class keeps its old name
+ * so existing callers don't need to change.
+ *
  * @see ISet for more details on what each method is supposed to do.
  */
-public class ChainedHashSet<T> implements ISet<T> {
-    // This should be the only field you need
-    private IDictionary<T, Boolean> map;
+public class ChainedHashSet<T> implements ISet<T>, IStatsProvider {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MIN_CAPACITY = 2;
+    private static final double LOAD_FACTOR = 0.75;
+
+    // Invariants:
+    //  - hashes[i] == 0 means slot i is empty; occupied slots always cache a non-zero hash.
+    //  - Walking forward from any item's home slot, the probe distances of the
+    //    occupied slots never drop below that item's own distance until we reach it.
+    private int[] hashes;
+    private T[] items;
+    private int mask;
+    private int size;
+    private int resizeCount;
 
     public ChainedHashSet() {
-        // No need to change this method
-        this.map = new ChainedHashDictionary<>();
+        allocate(DEFAULT_CAPACITY);
+        this.size = 0;
+        this.resizeCount = 0;
+    }
+
+    /**
+     * Creates a set whose table can hold 'expectedSize' items without resizing. Use
+     * this for the many small sets (such as adjacency sets) where the default table
+     * would mostly be empty.
+     *
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public ChainedHashSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        allocate(capacityFor(expectedSize));
+        this.size = 0;
+        this.resizeCount = 0;
+    }
+
+    // Returns the smallest power of two table that holds expectedSize items under the load factor.
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        this.hashes = new int[capacity];
+        this.items = (T[]) new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    // Spreads the bits of the hash code and reserves 0 as the "empty slot" marker.
+    private static int hash(Object item) {
+        int h = item == null ? 0 : item.hashCode();
+        h *= 0x9E3779B9;
+        h ^= h >>> 16;
+        return h == 0 ? 1 : h;
+    }
+
+    // Returns how far the slot at 'index' is from the home slot of the given hash.
+    private int probeDistance(int hash, int index) {
+        return (index - (hash & mask)) & mask;
+    }
+
+    private static boolean itemsEqual(Object a, Object b) {
+        return a == b || (a != null && a.equals(b));
+    }
+
+    // Returns the slot holding the given item, or -1 if it is absent.
+    private int findSlot(Object item, int hash) {
+        int index = hash & mask;
+        int distance = 0;
+        while (hashes[index] != 0 && probeDistance(hashes[index], index) >= distance) {
+            if (hashes[index] == hash && itemsEqual(items[index], item)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+            distance++;
+        }
+        return -1;
     }
 
     @Override
     public void add(T item) {
-        map.put(item, true);
+        add(item, hash(item));
     }
 
+    // Adds the item with the given (already spread) hash, unless it's already present.
+    private void add(T item, int hash) {
+        if (findSlot(item, hash) != -1) {
+            return;
+        }
+        if (size + 1 > hashes.length * LOAD_FACTOR) {
+            resize(hashes.length * 2);
+        }
+        insertNew(hash, item);
+        size++;
+    }
+
+    // Robin Hood insertion of an item known to be absent: whenever the carried item is
+    // further from home than the resident, they swap and the resident is carried on.
+    private void insertNew(int hash, T item) {
+        int index = hash & mask;
+        int distance = 0;
+        while (hashes[index] != 0) {
+            int existingDistance = probeDistance(hashes[index], index);
+            if (existingDistance < distance) {
+                int tempHash = hashes[index];
+                T tempItem = items[index];
+                hashes[index] = hash;
+                items[index] = item;
+                hash = tempHash;
+                item = tempItem;
+                distance = existingDistance;
+            }
+            index = (index + 1) & mask;
+            distance++;
+        }
+        hashes[index] = hash;
+        items[index] = item;
+    }
+
+    // Pre : Throws NoSuchElementException if the set does not contain the given item.
+    // Post: Removes the given item from the set.
     @Override
     public void remove(T item) {
-        if (!map.containsKey(item)) {
+        int index = findSlot(item, hash(item));
+        if (index == -1) {
             throw new NoSuchElementException("Item not found");
         }
-        map.remove(item);
+        removeAt(index);
+    }
+
+    // Backward-shift deletion: slide the rest of the run back by one until we reach
+    // an empty slot or an item that already sits in its home slot.
+    private void removeAt(int index) {
+        int next = (index + 1) & mask;
+        while (hashes[next] != 0 && probeDistance(hashes[next], next) > 0) {
+            hashes[index] = hashes[next];
+            items[index] = items[next];
+            index = next;
+            next = (next + 1) & mask;
+        }
+        hashes[index] = 0;
+        items[index] = null;
+        size--;
+    }
+
+    // Re-inserts every item into a table of the given capacity using its cached hash.
+    private void resize(int capacity) {
+        this.resizeCount++;
+        int[] oldHashes = this.hashes;
+        T[] oldItems = this.items;
+        allocate(capacity);
+        for (int i = 0; i < oldHashes.length; i++) {
+            if (oldHashes[i] != 0) {
+                insertNew(oldHashes[i], oldItems[i]);
+            }
+        }
     }
 
     @Override
     public boolean contains(T item) {
-        return map.containsKey(item);
+        return findSlot(item, hash(item)) != -1;
     }
 
     @Override
     public int size() {
-        return map.size();
+        return this.size;
+    }
+
+    // Grows the table once up front, and reuses the cached hashes when the other
+    // collection is also a ChainedHashSet.
+    @Override
+    public void addAll(Iterable<? extends T> other) {
+        if (other instanceof ISet) {
+            int needed = capacityFor(size + ((ISet<?>) other).size());
+            if (needed > hashes.length) {
+                resize(needed);
+            }
+        }
+        if (other instanceof ChainedHashSet) {
+            ChainedHashSet<? extends T> set = (ChainedHashSet<? extends T>) other;
+            for (int i = 0; i < set.hashes.length; i++) {
+                if (set.hashes[i] != 0) {
+                    add(set.items[i], set.hashes[i]);
+                }
+            }
+        } else {
+            for (T item : other) {
+                add(item);
+            }
+        }
+    }
+
+    @Override
+    public void removeAll(Iterable<? extends T> other) {
+        for (T item : other) {
+            int index = findSlot(item, hash(item));
+            if (index != -1) {
+                removeAt(index);
+            }
+        }
+    }
+
+    // Scans the table once, removing in place. A backward shift moves the rest of the
+    // run back by one slot, so after a removal the scan stays on the same slot to check
+    // the item that moved into it. If the run wraps past the end of the table, the
+    // shift also moves items from the front of the table, which the scan has already
+    // kept: the one in slot 0 moves to the last slot and is checked a second time,
+    // which is harmless. No item that hasn't been checked yet moves behind the scan.
+    @Override
+    public void retainAll(ISet<? super T> other) {
+        int index = 0;
+        while (index < hashes.length) {
+            if (hashes[index] != 0 && !other.contains(items[index])) {
+                removeAt(index);
+            } else {
+                index++;
+            }
+        }
+    }
+
+    // Runs in O(buckets) time, using the cached hashes. The max probe length counts
+    // the slots a lookup of the worst-placed item compares against, including its own.
+    @Override
+    public StructureStats getStats() {
+        int maxProbe = 0;
+        for (int i = 0; i < hashes.length; i++) {
+            if (hashes[i] != 0) {
+                maxProbe = Math.max(maxProbe, probeDistance(hashes[i], i) + 1);
+            }
+        }
+        long bytes = StructureStats.objectBytes(2 * StructureStats.REFERENCE_BYTES + 3 * Integer.BYTES)
+                + StructureStats.arrayBytes(hashes.length, Integer.BYTES)
+                + StructureStats.arrayBytes(hashes.length, StructureStats.REFERENCE_BYTES);
+        StructureStats stats = new StructureStats(size, hashes.length, bytes, resizeCount);
+        stats.setMaxProbeLength(maxProbe);
+        return stats;
     }
 
     @Override
     public Iterator<T> iterator() {
-        return new SetIterator<>(this.map.iterator());
+        return new SetIterator<>(this.hashes, this.items);
+    }
+
+    // Returns a spliterator that splits the table in half by slot range. The hashes are
+    // spread evenly across the table, so each half ends up with about half the items.
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SetSpliterator<>(this.hashes, this.items, 0, this.hashes.length, this.size);
     }
 
     private static class SetIterator<T> implements Iterator<T> {
-        // This should be the only field you need
-        private Iterator<KVPair<T, Boolean>> iter;
+        private int[] hashes;
+        private T[] items;
+        private int index;
+
+        public SetIterator(int[] hashes, T[] items) {
+            this.hashes = hashes;
+            this.items = items;
+            this.index = findNext(0);
+        }
 
-        public SetIterator(Iterator<KVPair<T, Boolean>> iter) {
-            // No need to change this method.
-            this.iter = iter;
+        // Returns the next occupied slot at or after 'from', or hashes.length if there is none.
+        private int findNext(int from) {
+            while (from < hashes.length && hashes[from] == 0) {
+                from++;
+            }
+            return from;
         }
 
         @Override
         public boolean hasNext() {
-            return iter.hasNext();
+            return index < hashes.length;
         }
 
         @Override
         public T next() {
-            return iter.next().getKey();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T result = items[index];
+            index = findNext(index + 1);
+            return result;
+        }
+    }
+
+    private static class SetSpliterator<T> implements Spliterator<T> {
+        private int[] hashes;
+        private T[] items;
+        private int index;
+        private int fence;
+        private long estimate;
+        private boolean exact; // true until the first split, while 'estimate' is an exact count
+
+        public SetSpliterator(int[] hashes, T[] items, int index, int fence, long estimate) {
+            this.hashes = hashes;
+            this.items = items;
+            this.index = index;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.exact = index == 0 && fence == hashes.length;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (index < fence) {
+                int slot = index;
+                index++;
+                if (hashes[slot] != 0) {
+                    if (estimate > 0) {
+                        estimate--;
+                    }
+                    action.accept(items[slot]);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            for (; index < fence; index++) {
+                if (hashes[index] != 0) {
+                    action.accept(items[index]);
+                }
+            }
+            estimate = 0;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            estimate >>>= 1;
+            exact = false;
+            Spliterator<T> prefix = new SetSpliterator<>(hashes, items, index, mid, estimate);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.DISTINCT | (exact ? Spliterator.SIZED : 0);
         }
     }
 }
@@ -5,17 +5,21 @@
 package datastructures.concrete;
 
 import datastructures.interfaces.IList;
+import datastructures.interfaces.IStatsProvider;
 import misc.exceptions.EmptyContainerException;
 //import misc.exceptions.NotYetImplementedException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 
 /**
  * Note: For more info on the expected behavior of your methods:
  * @see datastructures.interfaces.IList
  * (You should be able to control/command+click "IList" above to open the file from IntelliJ.)
  */
-public class DoubleLinkedList<T> implements IList<T> {
+public class DoubleLinkedList<T> implements IList<T>, IStatsProvider {
     // You may not rename these fields or change their types.
     // We will be inspecting these in our private tests.
     // You also may not add any additional fields.
@@ -215,6 +219,93 @@ public class DoubleLinkedList<T> implements IList<T> {
         return indexOf(other) != -1;
     }
 
+    // Pre : Throws IllegalArgumentException if 'other' is this list.
+    // Post: Moves every node of 'other' onto the end of this list in O(1) time, by
+    //       relinking the nodes instead of copying the items. Leaves 'other' empty.
+    public void appendAll(DoubleLinkedList<T> other) {
+        if (other == this) {
+            throw new IllegalArgumentException();
+        }
+        if (other.front == null) {
+            return;
+        }
+        if (front == null) {
+            front = other.front;
+        } else {
+            back.next = other.front;
+            other.front.prev = back;
+        }
+        back = other.back;
+        size += other.size;
+        other.front = null;
+        other.back = null;
+        other.size = 0;
+    }
+
+    // Post: Reverses the order of the items in O(n) time, by swapping the links of
+    //       every node instead of moving the items.
+    public void reverse() {
+        Node<T> current = front;
+        while (current != null) {
+            Node<T> next = current.next;
+            current.next = current.prev;
+            current.prev = next;
+            current = next;
+        }
+        Node<T> oldFront = front;
+        front = back;
+        back = oldFront;
+    }
+
+    // Pre : Throws IndexOutOfBoundsException if index < 0 or index > this.size()
+    // Post: Cuts this list in two at the given index. This list keeps the items before
+    //       the index, and the returned list takes the nodes from the index onwards.
+    //       Only the walk to the index costs time; no items are copied.
+    public DoubleLinkedList<T> splitAt(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        DoubleLinkedList<T> tail = new DoubleLinkedList<>();
+        if (index == size) {
+            return tail;
+        }
+        Node<T> first = skipTo(index);
+        tail.front = first;
+        tail.back = back;
+        tail.size = size - index;
+        back = first.prev;
+        if (back == null) {
+            front = null;
+        } else {
+            back.next = null;
+        }
+        first.prev = null;
+        size = index;
+        return tail;
+    }
+
+    // Pre : Throws IndexOutOfBoundsException if fromIndex < 0, toIndex > this.size()
+    //       or fromIndex > toIndex.
+    // Post: Returns a view of the items in [fromIndex, toIndex), in O(1) time. Reads and
+    //       writes through the view go straight to this list, and so do insertions and
+    //       deletions. After this list is structurally changed other than through the
+    //       view, the view's behavior is undefined.
+    public IList<T> subListView(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new SubListView<>(this, fromIndex, toIndex - fromIndex);
+    }
+
+    // Runs in O(1) time. Every item has its own node, so the capacity is the size and
+    // the list never resizes.
+    @Override
+    public StructureStats getStats() {
+        long bytes = StructureStats.objectBytes(2 * StructureStats.REFERENCE_BYTES + Integer.BYTES)
+                + size * StructureStats.objectBytes(3 * StructureStats.REFERENCE_BYTES);
+        return new StructureStats(size, size, bytes, 0);
+    }
+
     @Override
     public Iterator<T> iterator() {
         // Note: we have provided a part of the implementation of
@@ -224,6 +315,13 @@ public class DoubleLinkedList<T> implements IList<T> {
         return new DoubleLinkedListIterator<>(this.front);
     }
 
+    // Returns a spliterator that splits by walking to the middle of its range, so both
+    // halves know their exact sizes and no items are copied.
+    @Override
+    public Spliterator<T> spliterator() {
+        return new DoubleLinkedListSpliterator<>(this.front, this.size);
+    }
+
     private static class Node<E> {
         // You may not change the fields in this node or add any new fields.
         public final E data;
@@ -276,4 +374,155 @@ public class DoubleLinkedList<T> implements IList<T> {
             return result;
         }
     }
+
+    private static class SubListView<T> implements IList<T> {
+        private DoubleLinkedList<T> list;
+        private int offset;
+        private int size;
+
+        public SubListView(DoubleLinkedList<T> list, int offset, int size) {
+            this.list = list;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        private void checkIndex(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException();
+            }
+        }
+
+        @Override
+        public void add(T item) {
+            list.insert(offset + size, item);
+            size++;
+        }
+
+        @Override
+        public T remove() {
+            if (size == 0) {
+                throw new EmptyContainerException();
+            }
+            size--;
+            return list.delete(offset + size);
+        }
+
+        @Override
+        public T get(int index) {
+            checkIndex(index);
+            return list.get(offset + index);
+        }
+
+        @Override
+        public void set(int index, T item) {
+            checkIndex(index);
+            list.set(offset + index, item);
+        }
+
+        @Override
+        public void insert(int index, T item) {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException();
+            }
+            list.insert(offset + index, item);
+            size++;
+        }
+
+        @Override
+        public T delete(int index) {
+            checkIndex(index);
+            size--;
+            return list.delete(offset + index);
+        }
+
+        @Override
+        public int indexOf(T item) {
+            int index = 0;
+            for (T current : this) {
+                if (current == item || (current != null && current.equals(item))) {
+                    return index;
+                }
+                index++;
+            }
+            return -1;
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+
+        @Override
+        public boolean contains(T other) {
+            return indexOf(other) != -1;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return Spliterators.iterator(spliterator());
+        }
+
+        // Looks up the first node on every call, since DoubleLinkedList.set replaces nodes.
+        @Override
+        public Spliterator<T> spliterator() {
+            Node<T> first = size == 0 ? null : list.skipTo(offset);
+            return new DoubleLinkedListSpliterator<>(first, size);
+        }
+    }
+
+    private static class DoubleLinkedListSpliterator<T> implements Spliterator<T> {
+        private Node<T> current;
+        private int remaining;
+
+        public DoubleLinkedListSpliterator(Node<T> current, int remaining) {
+            this.current = current;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (remaining == 0) {
+                return false;
+            }
+            action.accept(current.data);
+            current = current.next;
+            remaining--;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            for (; remaining > 0; remaining--) {
+                action.accept(current.data);
+                current = current.next;
+            }
+        }
+
+        // Hands the first half of the remaining nodes to a new spliterator and keeps the
+        // second half. Walking to the middle costs O(n), but that is paid once per
+        // split rather than per item.
+        @Override
+        public Spliterator<T> trySplit() {
+            if (remaining < 2) {
+                return null;
+            }
+            int half = remaining / 2;
+            Node<T> prefixFront = current;
+            for (int i = 0; i < half; i++) {
+                current = current.next;
+            }
+            remaining -= half;
+            return new DoubleLinkedListSpliterator<>(prefixFront, half);
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
 }
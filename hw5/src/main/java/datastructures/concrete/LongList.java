@@ -0,0 +1,222 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * A growable list of primitive longs.
+ *
+ * The values are stored unboxed in a single long[], so a list of n values takes
+ * about 8n bytes instead of the ~48n bytes a linked list of Longs would. The
+ * addLong/getLong family of methods never boxes; the IList methods are only an
+ * adapter so that the list can be passed to code expecting an IList<Long>.
+ *
+ * This list cannot store null.
+ *
+ * @see IList
+ */
+public class LongList implements IList<Long> {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private long[] items;
+    private int size;
+
+    public LongList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.items = new long[initialCapacity];
+        this.size = 0;
+    }
+
+    // Makes sure the backing array can hold at least 'capacity' values, growing it by half
+    // of its current length (or more) so that repeated adds stay amortized O(1).
+    private void ensureCapacity(int capacity) {
+        if (capacity > items.length) {
+            int newLength = Math.max(capacity, items.length + (items.length >> 1) + 1);
+            long[] newItems = new long[newLength];
+            System.arraycopy(items, 0, newItems, 0, size);
+            this.items = newItems;
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private static long unbox(Long item) {
+        if (item == null) {
+            throw new IllegalArgumentException("LongList cannot store null values");
+        }
+        return item;
+    }
+
+    /**
+     * Adds the given value to the end of the list.
+     */
+    public void addLong(long value) {
+        ensureCapacity(size + 1);
+        items[size] = value;
+        size++;
+    }
+
+    /**
+     * Returns the value located at the given index.
+     *
+     * @throws IndexOutOfBoundsException if the index < 0 or index >= this.size()
+     */
+    public long getLong(int index) {
+        checkIndex(index);
+        return items[index];
+    }
+
+    /**
+     * Overwrites the value located at the given index.
+     *
+     * @throws IndexOutOfBoundsException if the index < 0 or index >= this.size()
+     */
+    public void setLong(int index, long value) {
+        checkIndex(index);
+        items[index] = value;
+    }
+
+    /**
+     * Removes and returns the value from the end of this list.
+     *
+     * @throws EmptyContainerException if the list is empty
+     */
+    public long removeLong() {
+        if (size == 0) {
+            throw new EmptyContainerException();
+        }
+        size--;
+        return items[size];
+    }
+
+    /**
+     * Returns a new array containing exactly the values in this list, in order.
+     */
+    public long[] toArray() {
+        long[] result = new long[size];
+        System.arraycopy(items, 0, result, 0, size);
+        return result;
+    }
+
+    @Override
+    public void add(Long item) {
+        addLong(unbox(item));
+    }
+
+    @Override
+    public Long remove() {
+        return removeLong();
+    }
+
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    @Override
+    public void set(int index, Long item) {
+        setLong(index, unbox(item));
+    }
+
+    // Pre : Throws IndexOutOfBoundsException if the index < 0 or index >= this.size() + 1
+    // Post: Inserts the given item at the given index, shifting later items up by one.
+    @Override
+    public void insert(int index, Long item) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        long value = unbox(item);
+        ensureCapacity(size + 1);
+        System.arraycopy(items, index, items, index + 1, size - index);
+        items[index] = value;
+        size++;
+    }
+
+    // Pre : Throws IndexOutOfBoundsException if the index < 0 or index >= this.size()
+    // Post: Deletes and returns the item at the given index, shifting later items down by one.
+    @Override
+    public Long delete(int index) {
+        checkIndex(index);
+        long result = items[index];
+        System.arraycopy(items, index + 1, items, index, size - index - 1);
+        size--;
+        return result;
+    }
+
+    // Returns the index of the first occurrence of the given item, or -1 if it is absent.
+    @Override
+    public int indexOf(Long item) {
+        if (item == null) {
+            return -1;
+        }
+        long value = item;
+        for (int i = 0; i < size; i++) {
+            if (items[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(Long other) {
+        return indexOf(other) != -1;
+    }
+
+    @Override
+    public Iterator<Long> iterator() {
+        return new LongListIterator(this);
+    }
+
+    // Returns a primitive spliterator over the backing array. Streams that know they
+    // are working with a Spliterator.OfLong can read the values without boxing them.
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return Spliterators.spliterator(items, 0, size, Spliterator.ORDERED);
+    }
+
+    private static class LongListIterator implements Iterator<Long> {
+        private LongList list;
+        private int index;
+
+        public LongListIterator(LongList list) {
+            this.list = list;
+            this.index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < list.size;
+        }
+
+        @Override
+        public Long next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            long result = list.items[index];
+            index++;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IStatsProvider;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Arrays;
+
+/**
+ * A 4-heap of values ordered by primitive long priorities, smallest first.
+ *
+ * This has the same layout as ArrayHeap, but keeps the priorities in their own long
+ * array next to the array of values. Sifting compares longs read straight out of
+ * one array, without calling compareTo or following a reference per comparison, and
+ * callers don't need to wrap each value and its priority in a Comparable object.
+ *
+ * Values may be null. Ties between equal priorities are broken arbitrarily.
+ */
+public class LongMinHeap<T> implements IStatsProvider {
+    private static final int NUM_CHILDREN = 4;
+    private static final int DEFAULT_CAPACITY = 30;
+
+    private long[] keys;
+    private T[] values;
+    private int size;
+    private int resizeCount;
+
+    public LongMinHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a heap with room for the given number of entries before it has to grow.
+     *
+     * @throws IllegalArgumentException  if initialCapacity is negative
+     */
+    public LongMinHeap(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.keys = new long[Math.max(1, initialCapacity)];
+        this.values = makeArrayOfT(this.keys.length);
+        this.size = 0;
+        this.resizeCount = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] makeArrayOfT(int arraySize) {
+        return (T[]) new Object[arraySize];
+    }
+
+    /**
+     * Inserts the given value with the given priority.
+     */
+    public void insert(long key, T value) {
+        if (size == keys.length) {
+            this.resizeCount++;
+            keys = Arrays.copyOf(keys, keys.length * NUM_CHILDREN);
+            values = Arrays.copyOf(values, keys.length);
+        }
+        size++;
+        this.percolateUp(size - 1, key, value);
+    }
+
+    /**
+     * Returns, but does not remove, the smallest priority in the heap.
+     *
+     * @throws EmptyContainerException  if the heap is empty
+     */
+    public long peekMinKey() {
+        if (size == 0) {
+            throw new EmptyContainerException("Queue is empty");
+        }
+        return keys[0];
+    }
+
+    /**
+     * Returns, but does not remove, the value with the smallest priority.
+     *
+     * @throws EmptyContainerException  if the heap is empty
+     */
+    public T peekMin() {
+        if (size == 0) {
+            throw new EmptyContainerException("Queue is empty");
+        }
+        return values[0];
+    }
+
+    /**
+     * Removes and returns the value with the smallest priority. Call peekMinKey first
+     * to find out what that priority was.
+     *
+     * @throws EmptyContainerException  if the heap is empty
+     */
+    public T removeMin() {
+        if (size == 0) {
+            throw new EmptyContainerException("Queue is empty");
+        }
+        T result = values[0];
+        size--;
+        long lastKey = keys[size];
+        T lastValue = values[size];
+        values[size] = null;
+        if (size > 0) {
+            this.percolateDown(0, lastKey, lastValue);
+        }
+        return result;
+    }
+
+    /**
+     * Removes the value with the smallest priority and inserts the given one, which is
+     * about twice as fast as calling removeMin then insert. Returns the removed value.
+     *
+     * @throws EmptyContainerException  if the heap is empty
+     */
+    public T replaceMin(long key, T value) {
+        if (size == 0) {
+            throw new EmptyContainerException("Queue is empty");
+        }
+        T result = values[0];
+        this.percolateDown(0, key, value);
+        return result;
+    }
+
+    // Moves the hole at 'index' up until the entry fits, then fills it.
+    private void percolateUp(int index, long key, T value) {
+        while (index > 0) {
+            int parent = (index - 1) / NUM_CHILDREN;
+            if (key >= keys[parent]) {
+                break;
+            }
+            keys[index] = keys[parent];
+            values[index] = values[parent];
+            index = parent;
+        }
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    // Moves the hole at 'index' down until the entry fits, then fills it.
+    private void percolateDown(int index, long key, T value) {
+        while (NUM_CHILDREN * index + 1 < size) {
+            int first = NUM_CHILDREN * index + 1;
+            int end = Math.min(first + NUM_CHILDREN, size);
+            int smallest = first;
+            for (int child = first + 1; child < end; child++) {
+                if (keys[child] < keys[smallest]) {
+                    smallest = child;
+                }
+            }
+            if (keys[smallest] >= key) {
+                break;
+            }
+            keys[index] = keys[smallest];
+            values[index] = values[smallest];
+            index = smallest;
+        }
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    // Runs in O(log n) time. The tree height is the number of levels below the root.
+    @Override
+    public StructureStats getStats() {
+        long bytes = StructureStats.objectBytes(2 * StructureStats.REFERENCE_BYTES + 2 * Integer.BYTES)
+                + StructureStats.arrayBytes(keys.length, Long.BYTES)
+                + StructureStats.arrayBytes(values.length, StructureStats.REFERENCE_BYTES);
+        StructureStats stats = new StructureStats(size, keys.length, bytes, resizeCount);
+        stats.setTreeHeight(StructureStats.dAryHeapHeight(size, NUM_CHILDREN));
+        return stats;
+    }
+}
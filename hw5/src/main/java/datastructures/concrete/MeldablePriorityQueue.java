@@ -0,0 +1,229 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IPriorityQueue;
+import datastructures.interfaces.IStatsProvider;
+import misc.exceptions.EmptyContainerException;
+
+/**
+ * A priority queue that can absorb another queue in O(1) time, implemented as a
+ * pairing heap.
+ *
+ * The heap is a tree where every node is no bigger than its children, and a node's
+ * children are kept in a linked list. Inserting and melding just link two trees, by
+ * making the root with the bigger item the first child of the other. Removing the
+ * min pairs up the root's children left to right, then links the pairs right to left,
+ * which takes O(log(n)) amortized time. Unlike ArrayHeap, two of these queues can be
+ * merged without re-inserting every element, which suits combining partial results
+ * computed on several threads.
+ *
+ * @see IPriorityQueue for details on what each method must do.
+ */
+public class MeldablePriorityQueue<T extends Comparable<T>> implements IPriorityQueue<T>, IStatsProvider {
+    private Node<T> root;
+    private int size;
+
+    public MeldablePriorityQueue() {
+        this.root = null;
+        this.size = 0;
+    }
+
+    @Override
+    public T removeMin() {
+        if (size == 0) {
+            throw new EmptyContainerException("Queue is empty");
+        }
+        Node<T> oldRoot = root;
+        root = pairChildren(oldRoot.child);
+        if (root != null) {
+            root.prev = null;
+        }
+        oldRoot.child = null;
+        oldRoot.inHeap = false;
+        size--;
+        return oldRoot.item;
+    }
+
+    @Override
+    public T peekMin() {
+        if (size == 0) {
+            throw new EmptyContainerException("Queue is empty");
+        }
+        return root.item;
+    }
+
+    @Override
+    public void insert(T item) {
+        this.insertWithHandle(item);
+    }
+
+    /**
+     * Inserts the given item into the queue, and returns a handle that can later be
+     * passed to decreaseKey.
+     *
+     * @throws IllegalArgumentException  if the item is null
+     */
+    public Handle<T> insertWithHandle(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Item is null");
+        }
+        Node<T> node = new Node<>(item);
+        root = root == null ? node : link(root, node);
+        size++;
+        return node;
+    }
+
+    /**
+     * Moves every element of 'other' into this queue in O(1) time, leaving 'other' empty.
+     *
+     * Handles returned by 'other' stay valid, and now belong to this queue.
+     *
+     * @throws IllegalArgumentException  if other is null or is this queue
+     */
+    public void meld(MeldablePriorityQueue<T> other) {
+        if (other == null || other == this) {
+            throw new IllegalArgumentException();
+        }
+        if (other.root != null) {
+            root = root == null ? other.root : link(root, other.root);
+            size += other.size;
+        }
+        other.root = null;
+        other.size = 0;
+    }
+
+    /**
+     * Replaces the item of the given handle with a smaller or equal one. The handle
+     * must come from this queue, or from a queue melded into it.
+     *
+     * @throws IllegalArgumentException  if the handle or the new item is null, if the
+     *                                   handle's item has already been removed, or if
+     *                                   the new item is bigger than the old one
+     */
+    public void decreaseKey(Handle<T> handle, T newItem) {
+        if (handle == null || newItem == null) {
+            throw new IllegalArgumentException();
+        }
+        Node<T> node = (Node<T>) handle;
+        if (!node.inHeap) {
+            throw new IllegalArgumentException("Item is not in a queue");
+        }
+        if (newItem.compareTo(node.item) > 0) {
+            throw new IllegalArgumentException("New item is bigger than the old one");
+        }
+        node.item = newItem;
+        if (node.prev == null) {
+            // Already a root, and only got smaller
+            return;
+        }
+        // Cut the node's subtree out of its sibling list, and link it back in at the top
+        if (node.prev.child == node) {
+            node.prev.child = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        root = link(root, node);
+    }
+
+    // Links two roots, and returns the new root. The other one becomes its first child.
+    private Node<T> link(Node<T> a, Node<T> b) {
+        if (b.item.compareTo(a.item) < 0) {
+            Node<T> temp = a;
+            a = b;
+            b = temp;
+        }
+        b.prev = a;
+        b.next = a.child;
+        if (a.child != null) {
+            a.child.prev = b;
+        }
+        a.child = b;
+        return a;
+    }
+
+    // Combines a list of sibling trees into a single tree, and returns its root.
+    // First links them in pairs left to right, then links the pairs right to left.
+    private Node<T> pairChildren(Node<T> first) {
+        if (first == null) {
+            return null;
+        }
+        // Pass 1: link pairs, and chain the results backwards through 'prev'
+        Node<T> last = null;
+        Node<T> current = first;
+        while (current != null) {
+            Node<T> a = current;
+            Node<T> b = a.next;
+            current = b == null ? null : b.next;
+            a.next = null;
+            Node<T> pair = a;
+            if (b != null) {
+                b.next = null;
+                pair = link(a, b);
+            }
+            pair.prev = last;
+            last = pair;
+        }
+        // Pass 2: fold the pairs into one tree, starting from the last
+        Node<T> result = last;
+        current = last.prev;
+        while (current != null) {
+            Node<T> previous = current.prev;
+            current.prev = null;
+            result.prev = null;
+            result = link(current, result);
+            current = previous;
+        }
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    // Runs in O(1) time. The tree height isn't tracked, since a pairing heap's shape
+    // changes wholesale on every removeMin.
+    @Override
+    public StructureStats getStats() {
+        long bytes = StructureStats.objectBytes(StructureStats.REFERENCE_BYTES + Integer.BYTES)
+                + size * StructureStats.objectBytes(4 * StructureStats.REFERENCE_BYTES + 1);
+        return new StructureStats(size, size, bytes, 0);
+    }
+
+    /**
+     * Refers to one item inserted into a MeldablePriorityQueue, so it can later be found
+     * again by decreaseKey.
+     */
+    public interface Handle<T> {
+        /**
+         * Returns the item this handle currently holds.
+         */
+        T getItem();
+    }
+
+    private static class Node<T> implements Handle<T> {
+        public T item;
+        public Node<T> child;
+        public Node<T> next;
+        // The previous sibling, or the parent if this is a first child
+        public Node<T> prev;
+        public boolean inHeap;
+
+        public Node(T item) {
+            this.item = item;
+            this.child = null;
+            this.next = null;
+            this.prev = null;
+            this.inHeap = true;
+        }
+
+        @Override
+        public T getItem() {
+            return item;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import datastructures.interfaces.IProbabilisticSet;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.function.ToLongFunction;
+
+/**
+ * A Bloom filter that grows as items are added, for when the number of items isn't
+ * known up front (Almeida et al., "Scalable Bloom Filters").
+ *
+ * It keeps a list of plain BloomFilterSets. New items always go into the newest one;
+ * once that filter holds as many items as it was sized for, a filter twice as large
+ * is added, with half the false positive rate of the one before. The rates form a
+ * geometric series that sums to half the rate given to the constructor. The other half
+ * is margin for the small early filters, whose real rate runs above the estimate they
+ * are sized from, so the overall false positive rate stays below the given rate however
+ * many filters get added.
+ *
+ * @see IProbabilisticSet
+ */
+public class ScalableBloomFilterSet<T> implements IProbabilisticSet<T> {
+    private static final int MAGIC = 0x53424C4D; // "SBLM"
+    private static final int GROWTH_FACTOR = 2;
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    private final double falsePositiveRate;
+    private final ToLongFunction<? super T> hasher;
+    private IList<BloomFilterSet<T>> filters;
+    private long currentCapacity;
+    private double currentRate;
+
+    /**
+     * Creates a filter whose first stage holds 'initialCapacity' items, using the
+     * items' hashCode.
+     *
+     * @throws IllegalArgumentException if initialCapacity is not positive, or the
+     *                                  false positive rate is not between 0 and 1
+     */
+    public ScalableBloomFilterSet(long initialCapacity, double falsePositiveRate) {
+        this(initialCapacity, falsePositiveRate, BloomFilterSet::defaultHash);
+    }
+
+    /**
+     * Creates a filter whose first stage holds 'initialCapacity' items, using the
+     * given function to compute a 64-bit hash of each item.
+     *
+     * @throws IllegalArgumentException if initialCapacity is not positive, the false
+     *                                  positive rate is not between 0 and 1, or the
+     *                                  hasher is null
+     */
+    public ScalableBloomFilterSet(long initialCapacity, double falsePositiveRate,
+                                  ToLongFunction<? super T> hasher) {
+        if (initialCapacity <= 0 || !(falsePositiveRate > 0.0 && falsePositiveRate < 1.0) || hasher == null) {
+            throw new IllegalArgumentException();
+        }
+        this.falsePositiveRate = falsePositiveRate;
+        this.hasher = hasher;
+        this.filters = new ArrayBackedList<>();
+        this.currentCapacity = initialCapacity;
+        this.currentRate = falsePositiveRate * (1 - TIGHTENING_RATIO) * TIGHTENING_RATIO;
+        this.filters.add(new BloomFilterSet<>(currentCapacity, currentRate, hasher));
+    }
+
+    private ScalableBloomFilterSet(double falsePositiveRate, ToLongFunction<? super T> hasher) {
+        this.falsePositiveRate = falsePositiveRate;
+        this.hasher = hasher;
+        this.filters = new ArrayBackedList<>();
+    }
+
+    @Override
+    public void add(T item) {
+        // Checking first keeps duplicates from filling up the newest filter
+        if (mightContain(item)) {
+            return;
+        }
+        BloomFilterSet<T> newest = filters.get(filters.size() - 1);
+        if (newest.size() >= currentCapacity) {
+            currentCapacity *= GROWTH_FACTOR;
+            currentRate *= TIGHTENING_RATIO;
+            newest = new BloomFilterSet<>(currentCapacity, currentRate, hasher);
+            filters.add(newest);
+        }
+        newest.add(item);
+    }
+
+    @Override
+    public boolean mightContain(T item) {
+        // The newest filter is the largest, so check it first
+        for (int i = filters.size() - 1; i >= 0; i--) {
+            if (filters.get(i).mightContain(item)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public long size() {
+        long size = 0;
+        for (BloomFilterSet<T> filter : filters) {
+            size += filter.size();
+        }
+        return size;
+    }
+
+    // The first filter gets rate * (1 - r) * r, the next rate * (1 - r) * r^2, and so on,
+    // which sums to rate * r: half the rate given to the constructor.
+    @Override
+    public double falsePositiveRate() {
+        return this.falsePositiveRate;
+    }
+
+    /**
+     * Returns the number of Bloom filters this set currently uses.
+     */
+    public int numFilters() {
+        return filters.size();
+    }
+
+    /**
+     * Writes this set to the given output: a short header followed by each filter.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeDouble(falsePositiveRate);
+        out.writeLong(currentCapacity);
+        out.writeDouble(currentRate);
+        out.writeInt(filters.size());
+        for (BloomFilterSet<T> filter : filters) {
+            filter.writeTo(out);
+        }
+    }
+
+    /**
+     * Reads back a set written by 'writeTo'. The hasher must be the same one the set
+     * was built with.
+     *
+     * @throws IOException if the input does not contain a scalable Bloom filter
+     */
+    public static <T> ScalableBloomFilterSet<T> readFrom(DataInput in, ToLongFunction<? super T> hasher)
+            throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Input is not a saved scalable Bloom filter");
+        }
+        ScalableBloomFilterSet<T> result = new ScalableBloomFilterSet<>(in.readDouble(), hasher);
+        result.currentCapacity = in.readLong();
+        result.currentRate = in.readDouble();
+        int numFilters = in.readInt();
+        if (numFilters <= 0) {
+            throw new IOException("Saved scalable Bloom filter is corrupt");
+        }
+        for (int i = 0; i < numFilters; i++) {
+            result.filters.add(BloomFilterSet.readFrom(in, hasher));
+        }
+        return result;
+    }
+}
@@ -1,21 +1,30 @@
 package datastructures.concrete.dictionaries;
 
 import datastructures.concrete.KVPair;
+import datastructures.concrete.StructureStats;
 import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import datastructures.interfaces.IStatsProvider;
 import misc.exceptions.NoSuchKeyException;
 import java.util.NoSuchElementException;
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 //import javax.xml.bind.annotation.XmlType;
 
 /**
  * @see datastructures.interfaces.IDictionary
  */
-public class ArrayDictionary<K, V> implements IDictionary<K, V> {
+public class ArrayDictionary<K, V> extends IndexedChain<K, V> implements IDictionary<K, V>, IStatsProvider {
     // You may not change or rename this field.
     // We will be inspecting it in our private tests.
     private Pair<K, V>[] pairs;
     private int size;
+    private int resizeCount;
 
     private static final int DEFAULT_CAPACITY = 10;
 
@@ -29,6 +38,7 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
         }
         pairs = this.makeArrayOfPairs(arraySize);
         this.size = 0;
+        this.resizeCount = 0;
     }
 
     /**
@@ -75,10 +85,11 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
     // Pre : throws NoSuchKeyException if the dictionary does not contain the given key
     // Post: Returns the value corresponding to the given key.
     public V get(K key) {
-        if (!containsKey(key)) {
+        int index = getKeyIndex(key);
+        if (index == -1) {
             throw new NoSuchKeyException();
         }
-        return this.pairs[getKeyIndex(key)].value;
+        return this.pairs[index].value;
     }
 
     // Return the index position of the given key.
@@ -96,37 +107,110 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
     // replace its value with the given one.
     @Override
     public void put(K key, V value) {
-        if (containsKey(key)) {
-            this.pairs[getKeyIndex(key)].value = value;
+        int index = getKeyIndex(key);
+        if (index != -1) {
+            this.pairs[index].value = value;
         } else {
-            if (this.size == this.pairs.length) {
-                Pair<K, V>[] newPairs = makeArrayOfPairs(size*2);
-                for (int i = 0; i < size; i++) {
-                    newPairs[i] = this.pairs[i];
-                }
-                this.pairs = newPairs;
-            }
-            this.pairs[size] = new Pair<>(key, value);
-            size++;
+            append(key, value);
         }
     }
 
+    // Adds a pair whose key is known to be absent to the end of the array, doubling
+    // the array first if it's full.
+    private void append(K key, V value) {
+        if (this.size == this.pairs.length) {
+            this.resizeCount++;
+            Pair<K, V>[] newPairs = makeArrayOfPairs(size*2);
+            for (int i = 0; i < size; i++) {
+                newPairs[i] = this.pairs[i];
+            }
+            this.pairs = newPairs;
+        }
+        this.pairs[size] = new Pair<>(key, value);
+        size++;
+    }
 
     // Pre : Throws NoSuchKeyException if the dictionary does not contain the given key.
     // Post: Remove and return the key-value pair corresponding to the given key from the dictionary.
     @Override
     public V remove(K key) {
-        if (!containsKey(key)) {
+        int index = getKeyIndex(key);
+        if (index == -1) {
             throw new NoSuchKeyException();
         }
-        int removedIndex = getKeyIndex(key);
-        V removedVal = this.pairs[removedIndex].value;
-        pairs[removedIndex] = pairs[size - 1];
+        return removeAt(index);
+    }
+
+    // Removes the pair at the given index by moving the last pair into its place.
+    private V removeAt(int index) {
+        V removedVal = this.pairs[index].value;
+        pairs[index] = pairs[size - 1];
         pairs[size - 1] = null;
         size--;
         return removedVal;
     }
 
+    // The compound operations below scan the array for the key only once.
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        int index = getKeyIndex(key);
+        if (index != -1) {
+            return this.pairs[index].value;
+        }
+        append(key, value);
+        return null;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        int index = getKeyIndex(key);
+        if (index != -1) {
+            return this.pairs[index].value;
+        }
+        V value = mappingFunction.apply(key);
+        if (value != null) {
+            append(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        int index = getKeyIndex(key);
+        V newValue = remappingFunction.apply(key, index == -1 ? null : this.pairs[index].value);
+        storeAt(index, key, newValue);
+        return newValue;
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if (value == null) {
+            throw new IllegalArgumentException();
+        }
+        int index = getKeyIndex(key);
+        V newValue = value;
+        if (index != -1) {
+            newValue = remappingFunction.apply(this.pairs[index].value, value);
+        }
+        storeAt(index, key, newValue);
+        return newValue;
+    }
+
+    // Stores the new value for the key found at 'index' (-1 if absent), or removes
+    // the key if the new value is null.
+    private void storeAt(int index, K key, V newValue) {
+        if (newValue == null) {
+            if (index != -1) {
+                removeAt(index);
+            }
+        } else if (index != -1) {
+            this.pairs[index].value = newValue;
+        } else {
+            append(key, newValue);
+        }
+    }
+
     // Returns 'true' if the dictionary contains the given key and 'false' otherwise.
     @Override
     public boolean containsKey(K key) {
@@ -139,10 +223,67 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
         return size;
     }
 
+    // Runs in O(1) time. Lookups scan the array, so every pair is on the probe path.
+    @Override
+    public StructureStats getStats() {
+        StructureStats stats = new StructureStats(size, pairs.length, estimateBytes(), resizeCount);
+        stats.setMaxProbeLength(size);
+        return stats;
+    }
+
+    // Lets ChainedHashDictionary add up its chains without creating a StructureStats per chain.
+    @Override
+    long estimateBytes() {
+        return StructureStats.objectBytes(StructureStats.REFERENCE_BYTES + 2 * Integer.BYTES)
+                + StructureStats.arrayBytes(pairs.length, StructureStats.REFERENCE_BYTES)
+                + size * StructureStats.objectBytes(2 * StructureStats.REFERENCE_BYTES);
+    }
+
     public Iterator<KVPair<K, V>> iterator() {
         return new ArrayDictionaryIterator<>(this.size, this.pairs);
     }
 
+    // Returns a spliterator that splits the pairs array in half by index.
+    @Override
+    public Spliterator<KVPair<K, V>> spliterator() {
+        return new ArrayDictionarySpliterator<>(this.pairs, 0, this.size);
+    }
+
+    // Calls the action on every pair, reading straight from the pairs array.
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(pairs[i].key, pairs[i].value);
+        }
+    }
+
+    @Override
+    public IDictionaryCursor<K, V> cursor() {
+        return new ArrayDictionaryCursor<>(this);
+    }
+
+    @Override
+    int maxProbeLength() {
+        return size;
+    }
+
+    // The following accessors let ChainedHashDictionary walk its chains without
+    // allocating a cursor or iterator per chain. 'index' must be in [0, size).
+    @Override
+    K keyAt(int index) {
+        return pairs[index].key;
+    }
+
+    @Override
+    V valueAt(int index) {
+        return pairs[index].value;
+    }
+
+    @Override
+    void setValueAt(int index, V value) {
+        pairs[index].value = value;
+    }
+
     private static class Pair<K, V> {
         public K key;
         public V value;
@@ -188,5 +329,91 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
         }
     }
 
+    private static class ArrayDictionarySpliterator<K, V> implements Spliterator<KVPair<K, V>> {
+        private Pair<K, V>[] pairs;
+        private int index;
+        private int fence;
+
+        public ArrayDictionarySpliterator(Pair<K, V>[] pairs, int index, int fence) {
+            this.pairs = pairs;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super KVPair<K, V>> action) {
+            if (index >= fence) {
+                return false;
+            }
+            Pair<K, V> current = pairs[index];
+            index++;
+            action.accept(new KVPair<>(current.key, current.value));
+            return true;
+        }
+
+        @Override
+        public Spliterator<KVPair<K, V>> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            Spliterator<KVPair<K, V>> prefix = new ArrayDictionarySpliterator<>(pairs, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    private static class ArrayDictionaryCursor<K, V> implements IDictionaryCursor<K, V> {
+        private ArrayDictionary<K, V> dict;
+        private int index;
+
+        public ArrayDictionaryCursor(ArrayDictionary<K, V> dict) {
+            this.dict = dict;
+            this.index = -1;
+        }
+
+        @Override
+        public boolean advance() {
+            if (index < dict.size) {
+                index++;
+            }
+            return index < dict.size;
+        }
+
+        // Pre : Throws IllegalStateException if the cursor isn't on a pair.
+        // Post: Returns the index of the current pair.
+        private int currentIndex() {
+            if (index < 0 || index >= dict.size) {
+                throw new IllegalStateException();
+            }
+            return index;
+        }
+
+        @Override
+        public K key() {
+            return dict.keyAt(currentIndex());
+        }
+
+        @Override
+        public V value() {
+            return dict.valueAt(currentIndex());
+        }
+
+        @Override
+        public void setValue(V value) {
+            dict.setValueAt(currentIndex(), value);
+        }
+    }
+
 
 }
\ No newline at end of file
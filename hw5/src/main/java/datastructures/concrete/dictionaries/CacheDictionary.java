@@ -0,0 +1,402 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.StructureStats;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IStatsProvider;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * A dictionary with a size limit, which evicts entries on its own to stay under it.
+ *
+ * The limit is a maximum total weight. By default every entry weighs 1, so the limit
+ * is simply a maximum number of entries; a weigher can give entries other weights,
+ * such as their approximate size in bytes. An entry that weighs more than the whole
+ * limit is evicted as soon as it is put.
+ *
+ * Every operation runs in O(1) time, on top of the cost of one hash lookup. Entries
+ * are kept in a ChainedHashDictionary, and are also linked into recency-ordered lists
+ * so that the next entry to evict can be found without searching.
+ *
+ * Only get, getOrDefault and put count as using an entry, and only get and
+ * getOrDefault count towards the hit and miss counters; containsKey and iteration
+ * leave the cache's state alone. This class is not thread-safe.
+ */
+public class CacheDictionary<K, V> implements IDictionary<K, V>, IStatsProvider {
+    /**
+     * Decides which entry is evicted when the cache is over its limit.
+     *
+     * LRU evicts the least recently used entry.
+     *
+     * TINY_LFU keeps new entries in a small LRU window, then only lets them into the
+     * main part of the cache if they have been used more often, recently, than the
+     * entry they would push out. This stops a burst of one-off keys, such as a scan,
+     * from flushing out entries that are used over and over.
+     */
+    public enum EvictionPolicy {
+        LRU,
+        TINY_LFU
+    }
+
+    // Under TINY_LFU, the window holds about 1% of the maximum weight, and the
+    // protected segment up to 80% of the rest.
+    private static final double WINDOW_FRACTION = 0.01;
+    private static final double PROTECTED_FRACTION = 0.8;
+
+    private final long maxWeight;
+    private final ToLongBiFunction<? super K, ? super V> weigher;
+    private final EvictionPolicy policy;
+    private BiConsumer<? super K, ? super V> evictionListener;
+
+    private ChainedHashDictionary<K, Entry<K, V>> entries;
+
+    // Under LRU, every entry is in 'window'. Under TINY_LFU, entries start in 'window';
+    // those admitted into the main part of the cache go to 'probation', and move up to
+    // 'protected' once they are used again.
+    private EntryList<K, V> window;
+    private EntryList<K, V> probation;
+    private EntryList<K, V> protectedEntries;
+    private long windowMaxWeight;
+    private long protectedMaxWeight;
+    private FrequencySketch sketch;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Creates an LRU cache that holds at most the given number of entries.
+     *
+     * @throws IllegalArgumentException if maxEntries is not positive
+     */
+    public CacheDictionary(long maxEntries) {
+        this(maxEntries, EvictionPolicy.LRU);
+    }
+
+    /**
+     * Creates a cache that holds at most the given number of entries.
+     *
+     * @throws IllegalArgumentException if maxEntries is not positive, or policy is null
+     */
+    public CacheDictionary(long maxEntries, EvictionPolicy policy) {
+        this(maxEntries, (key, value) -> 1L, policy);
+    }
+
+    /**
+     * Creates a cache whose entries' weights, as given by the weigher, add up to at
+     * most maxWeight. The weigher is called once each time a value is put.
+     *
+     * @throws IllegalArgumentException if maxWeight is not positive, or weigher or
+     *                                  policy is null
+     */
+    public CacheDictionary(long maxWeight, ToLongBiFunction<? super K, ? super V> weigher,
+                           EvictionPolicy policy) {
+        if (maxWeight <= 0 || weigher == null || policy == null) {
+            throw new IllegalArgumentException();
+        }
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.policy = policy;
+        this.evictionListener = null;
+        this.entries = new ChainedHashDictionary<>();
+        this.window = new EntryList<>();
+        this.probation = new EntryList<>();
+        this.protectedEntries = new EntryList<>();
+        if (policy == EvictionPolicy.TINY_LFU) {
+            this.windowMaxWeight = Math.max(1, (long) (maxWeight * WINDOW_FRACTION));
+            this.protectedMaxWeight = (long) ((maxWeight - this.windowMaxWeight) * PROTECTED_FRACTION);
+            this.sketch = new FrequencySketch(maxWeight);
+        } else {
+            this.windowMaxWeight = maxWeight;
+            this.protectedMaxWeight = 0;
+            this.sketch = null;
+        }
+        this.hitCount = 0;
+        this.missCount = 0;
+        this.evictionCount = 0;
+    }
+
+    /**
+     * Sets the function called with the key and value of every entry the cache evicts
+     * to stay under its limit, or null to stop being notified. It is not called for
+     * entries that are removed or overwritten.
+     */
+    public void setEvictionListener(BiConsumer<? super K, ? super V> evictionListener) {
+        this.evictionListener = evictionListener;
+    }
+
+    @Override
+    public V get(K key) {
+        Entry<K, V> entry = this.lookUp(key);
+        if (entry == null) {
+            throw new NoSuchKeyException();
+        }
+        return entry.value;
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        Entry<K, V> entry = this.lookUp(key);
+        return entry == null ? defaultValue : entry.value;
+    }
+
+    // Finds the entry for the given key, and records the hit or miss.
+    private Entry<K, V> lookUp(K key) {
+        if (this.sketch != null) {
+            this.sketch.increment(key);
+        }
+        Entry<K, V> entry = this.entries.getOrDefault(key, null);
+        if (entry == null) {
+            this.missCount++;
+        } else {
+            this.hitCount++;
+            this.onAccess(entry);
+        }
+        return entry;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        long weight = this.weigher.applyAsLong(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException();
+        }
+        if (this.sketch != null) {
+            this.sketch.increment(key);
+        }
+
+        Entry<K, V> entry = this.entries.getOrDefault(key, null);
+        if (entry == null) {
+            entry = new Entry<>(key, value, weight);
+            this.entries.put(key, entry);
+            this.window.addLast(entry);
+        } else {
+            entry.value = value;
+            entry.list.reweigh(entry, weight);
+            this.onAccess(entry);
+        }
+
+        if (entry.weight > this.maxWeight) {
+            this.evict(entry);
+        }
+        this.evictIfNeeded();
+    }
+
+    @Override
+    public V remove(K key) {
+        Entry<K, V> entry = this.entries.remove(key);
+        entry.list.unlink(entry);
+        return entry.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.entries.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Returns the total weight of the entries in the cache.
+     */
+    public long getWeightedSize() {
+        return this.window.weight + this.probation.weight + this.protectedEntries.weight;
+    }
+
+    /**
+     * Returns the number of calls to get and getOrDefault that found their key.
+     */
+    public long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Returns the number of calls to get and getOrDefault that did not find their key.
+     */
+    public long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Returns the number of entries the cache has evicted to stay under its limit.
+     */
+    public long getEvictionCount() {
+        return this.evictionCount;
+    }
+
+    // Moves the entry to the most recently used end of its list. Under TINY_LFU, an
+    // entry used again while on probation is promoted to the protected segment, which
+    // may demote that segment's least recently used entries back to probation.
+    private void onAccess(Entry<K, V> entry) {
+        if (entry.list != this.probation) {
+            entry.list.moveToLast(entry);
+            return;
+        }
+        this.probation.unlink(entry);
+        this.protectedEntries.addLast(entry);
+        while (this.protectedEntries.weight > this.protectedMaxWeight && this.protectedEntries.first != entry) {
+            Entry<K, V> demoted = this.protectedEntries.first;
+            this.protectedEntries.unlink(demoted);
+            this.probation.addLast(demoted);
+        }
+    }
+
+    private void evictIfNeeded() {
+        if (this.policy == EvictionPolicy.TINY_LFU) {
+            // Entries that overflow the window become candidates for the main part of
+            // the cache. A candidate only stays if it is used more often than the entry
+            // that would be evicted in its place.
+            while (this.window.weight > this.windowMaxWeight) {
+                Entry<K, V> candidate = this.window.first;
+                this.window.unlink(candidate);
+                this.probation.addLast(candidate);
+                if (this.getWeightedSize() > this.maxWeight) {
+                    Entry<K, V> victim = this.probation.first != candidate
+                            ? this.probation.first : this.protectedEntries.first;
+                    if (victim != null) {
+                        boolean admit = this.sketch.frequency(candidate.key) > this.sketch.frequency(victim.key);
+                        this.evict(admit ? victim : candidate);
+                    }
+                }
+            }
+        }
+        while (this.getWeightedSize() > this.maxWeight) {
+            if (this.probation.first != null) {
+                this.evict(this.probation.first);
+            } else if (this.protectedEntries.first != null) {
+                this.evict(this.protectedEntries.first);
+            } else {
+                this.evict(this.window.first);
+            }
+        }
+    }
+
+    private void evict(Entry<K, V> entry) {
+        entry.list.unlink(entry);
+        this.entries.remove(entry.key);
+        this.evictionCount++;
+        if (this.evictionListener != null) {
+            this.evictionListener.accept(entry.key, entry.value);
+        }
+    }
+
+    // Iterates in no particular order.
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new CacheIterator<>(this.entries.iterator());
+    }
+
+    // Runs in O(capacity) time, like the stats of the hash table underneath. The size
+    // is the number of entries, not their weight.
+    @Override
+    public StructureStats getStats() {
+        StructureStats tableStats = this.entries.getStats();
+        long bytes = StructureStats.objectBytes(8 * StructureStats.REFERENCE_BYTES + 6 * Long.BYTES)
+                + tableStats.getEstimatedBytes()
+                + 3 * StructureStats.objectBytes(2 * StructureStats.REFERENCE_BYTES + Long.BYTES)
+                + this.size() * StructureStats.objectBytes(5 * StructureStats.REFERENCE_BYTES + Long.BYTES);
+        if (this.sketch != null) {
+            bytes += this.sketch.estimateBytes();
+        }
+        StructureStats stats = new StructureStats(this.size(), tableStats.getCapacity(), bytes,
+                tableStats.getResizeCount());
+        stats.setMaxProbeLength(tableStats.getMaxProbeLength());
+        stats.setChainLengthHistogram(tableStats.getChainLengthHistogram());
+        return stats;
+    }
+
+    private static class Entry<K, V> {
+        public final K key;
+        public V value;
+        public long weight;
+        public EntryList<K, V> list;
+        public Entry<K, V> prev;
+        public Entry<K, V> next;
+
+        public Entry(K key, V value, long weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.list = null;
+            this.prev = null;
+            this.next = null;
+        }
+    }
+
+    // A doubly linked list of entries, from least to most recently used, that keeps
+    // track of their total weight. The links live in the entries themselves, so an
+    // entry can be unlinked or moved in O(1) time given just the entry.
+    private static class EntryList<K, V> {
+        public Entry<K, V> first;
+        public Entry<K, V> last;
+        public long weight;
+
+        public void addLast(Entry<K, V> entry) {
+            entry.list = this;
+            entry.prev = this.last;
+            entry.next = null;
+            if (this.last == null) {
+                this.first = entry;
+            } else {
+                this.last.next = entry;
+            }
+            this.last = entry;
+            this.weight += entry.weight;
+        }
+
+        public void unlink(Entry<K, V> entry) {
+            if (entry.prev == null) {
+                this.first = entry.next;
+            } else {
+                entry.prev.next = entry.next;
+            }
+            if (entry.next == null) {
+                this.last = entry.prev;
+            } else {
+                entry.next.prev = entry.prev;
+            }
+            entry.list = null;
+            entry.prev = null;
+            entry.next = null;
+            this.weight -= entry.weight;
+        }
+
+        public void moveToLast(Entry<K, V> entry) {
+            if (entry != this.last) {
+                this.unlink(entry);
+                this.addLast(entry);
+            }
+        }
+
+        public void reweigh(Entry<K, V> entry, long newWeight) {
+            this.weight += newWeight - entry.weight;
+            entry.weight = newWeight;
+        }
+    }
+
+    private static class CacheIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private Iterator<KVPair<K, Entry<K, V>>> entries;
+
+        public CacheIterator(Iterator<KVPair<K, Entry<K, V>>> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.entries.hasNext();
+        }
+
+        @Override
+        public KVPair<K, V> next() {
+            Entry<K, V> entry = this.entries.next().getValue();
+            return new KVPair<>(entry.key, entry.value);
+        }
+    }
+}
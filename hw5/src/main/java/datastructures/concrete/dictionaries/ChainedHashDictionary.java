@@ -1,34 +1,87 @@
 package datastructures.concrete.dictionaries;
 
 import datastructures.concrete.KVPair;
+import datastructures.concrete.StructureStats;
 import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import datastructures.interfaces.IStatsProvider;
 // import javafx.util.Pair;
 import misc.exceptions.NoSuchKeyException;
 //import misc.exceptions.NotYetImplementedException;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 //import java.util.NoSuchElementException;
 
 /**
  * @see IDictionary and the assignment page for more details on what each method should do
  */
-public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
+public class ChainedHashDictionary<K, V> implements IDictionary<K, V>, IStatsProvider {
     // You may not change or rename this field: we will be inspecting
     // it using our private tests.
     private IDictionary<K, V>[] chains;
     private int capacity; // Initial counts for chains
     private int size; // tracks the number of key-value pairs
+    private int resizeCount; // number of times the table has grown
 
     private static final double LOAD_FACTOR = 0.5;
 
+    // The last bucket of the chain length histogram in getStats() counts every chain
+    // of length CHAIN_HISTOGRAM_LENGTH - 1 or more.
+    private static final int CHAIN_HISTOGRAM_LENGTH = 8;
+
+    // Number of old buckets moved into the new table by each put/get/remove while an
+    // incremental resize is in progress.
+    private static final int MIGRATE_BUCKETS_PER_OPERATION = 4;
+
+    // A chain that grows past TREEIFY_THRESHOLD pairs is turned into a TreeChain, so
+    // that lookups stay O(log(n)) even if many keys share a hash code. It is turned
+    // back into an ArrayDictionary once it shrinks below UNTREEIFY_THRESHOLD; the gap
+    // stops a chain that hovers around one size from converting back and forth.
+    private static final int TREEIFY_THRESHOLD = 8;
+    private static final int UNTREEIFY_THRESHOLD = 6;
+
+    /**
+     * Controls what happens when the load factor is exceeded.
+     *
+     * BLOCKING rehashes every pair into the bigger table at once. INCREMENTAL keeps the
+     * old table alongside the new one and moves a few buckets on each put/get/remove,
+     * so no single operation pays for the whole rehash.
+     */
+    public enum ResizeMode {
+        BLOCKING,
+        INCREMENTAL
+    }
+
+    private ResizeMode resizeMode;
+
+    // Incremental resize state. While 'oldChains' is non-null, a key whose old bucket
+    // index is >= 'migrateIndex' lives in 'oldChains'; every other key lives in 'chains'.
+    private IDictionary<K, V>[] oldChains;
+    private int migrateIndex;
 
     // You're encouraged to add extra fields (and helper methods) though!
 
     public ChainedHashDictionary() {
+        this(ResizeMode.BLOCKING);
+    }
+
+    public ChainedHashDictionary(ResizeMode resizeMode) {
+        if (resizeMode == null) {
+            throw new IllegalArgumentException();
+        }
         this.capacity = 30;
         this.chains = makeArrayOfChains(capacity);
         this.size = 0;
+        this.resizeCount = 0;
+        this.resizeMode = resizeMode;
+        this.oldChains = null;
+        this.migrateIndex = 0;
     }
 
     /**
@@ -47,11 +100,16 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
 
     // Helper method that converts hash code into a corresponding index.
     private int convertHashCode(K key) {
+        return convertHashCode(key, capacity);
+    }
+
+    // Helper method that converts hash code into an index of a table with the given length.
+    private int convertHashCode(K key, int length) {
         if (key == null) {
             return 0;
         }
         int hashCode = Math.abs(key.hashCode()); // Must be positive
-        return hashCode % capacity;
+        return hashCode % length;
     }
 
 
@@ -61,6 +119,7 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
 
 
     private void resize() {
+        this.resizeCount++;
         IDictionary<K, V>[] oldChains = this.chains;
         this.capacity *= 2;
         this.chains = makeArrayOfChains(capacity);
@@ -75,6 +134,94 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
         size = oldSize;
     }
 
+    // Starts an incremental resize: the current table becomes 'oldChains' and is
+    // drained into a table twice the size by later calls to migrate().
+    private void startIncrementalResize() {
+        this.resizeCount++;
+        this.oldChains = this.chains;
+        this.migrateIndex = 0;
+        this.capacity *= 2;
+        this.chains = makeArrayOfChains(capacity);
+    }
+
+    // Moves up to 'buckets' old buckets into the new table. Does nothing if no
+    // incremental resize is in progress.
+    private void migrate(int buckets) {
+        while (oldChains != null && buckets > 0) {
+            IDictionary<K, V> oldChain = oldChains[migrateIndex];
+            if (oldChain != null) {
+                // Keys are unique, so pairs can go straight into their new chain
+                for (KVPair<K, V> pair : oldChain) {
+                    int index = convertHashCode(pair.getKey());
+                    if (chains[index] == null) {
+                        chains[index] = new ArrayDictionary<>();
+                    }
+                    chains[index].put(pair.getKey(), pair.getValue());
+                    chains[index] = reshape(chains[index]);
+                }
+                oldChains[migrateIndex] = null;
+            }
+            migrateIndex++;
+            buckets--;
+            if (migrateIndex == oldChains.length) {
+                oldChains = null;
+            }
+        }
+    }
+
+    // Returns the table that holds the given key's bucket: the old table while that
+    // bucket hasn't been migrated yet, and the current one otherwise.
+    private IDictionary<K, V>[] findTable(K key) {
+        if (oldChains != null && convertHashCode(key, oldChains.length) >= migrateIndex) {
+            return oldChains;
+        }
+        return chains;
+    }
+
+    // Returns the chain that owns the given key, or null if that chain doesn't exist yet.
+    private IDictionary<K, V> findChain(K key) {
+        IDictionary<K, V>[] table = findTable(key);
+        return table[convertHashCode(key, table.length)];
+    }
+
+    // Returns the chain that owns the given key, creating it if it doesn't exist yet.
+    private IDictionary<K, V> findOrCreateChain(K key) {
+        IDictionary<K, V>[] table = findTable(key);
+        int index = convertHashCode(key, table.length);
+        if (table[index] == null) { // create a new chain if this index is empty
+            table[index] = new ArrayDictionary<>();
+        }
+        return table[index];
+    }
+
+    // Returns the chain converted to a tree if it has grown too long, converted back to
+    // an array if it has shrunk enough, and unchanged otherwise.
+    private IDictionary<K, V> reshape(IDictionary<K, V> chain) {
+        if (chain instanceof ArrayDictionary && chain.size() > TREEIFY_THRESHOLD) {
+            return new TreeChain<>((IndexedChain<K, V>) chain);
+        }
+        if (chain instanceof TreeChain && chain.size() < UNTREEIFY_THRESHOLD) {
+            IndexedChain<K, V> tree = (IndexedChain<K, V>) chain;
+            ArrayDictionary<K, V> array = new ArrayDictionary<>();
+            for (int i = 0; i < tree.size(); i++) {
+                array.put(tree.keyAt(i), tree.valueAt(i));
+            }
+            return array;
+        }
+        return chain;
+    }
+
+    // Finishes an update to the given key's chain: adjusts the size by how much the
+    // chain grew or shrank, and reshapes the chain if its new length calls for it.
+    private void afterChainUpdate(K key, IDictionary<K, V> chain, int oldChainSize) {
+        size += chain.size() - oldChainSize;
+        IDictionary<K, V> reshaped = reshape(chain);
+        if (reshaped != chain) {
+            IDictionary<K, V>[] table = findTable(key);
+            table[convertHashCode(key, table.length)] = reshaped;
+        }
+    }
+
     /**
      * Returns the value corresponding to the given key, if the key exists in the map.
      *
@@ -86,8 +233,7 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
      */
     @Override
     public V getOrDefault(K key, V defaultValue) {
-        int index = convertHashCode(key);
-        IDictionary<K, V> currentChain = chains[index];
+        IDictionary<K, V> currentChain = findChain(key);
         if (currentChain == null) {
             return defaultValue;
         } else {
@@ -98,51 +244,104 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
     // Returns the value corresponding to the given key.
     @Override
     public V get(K key) {
-        if (!this.containsKey(key)) { // Check if key exist
+        migrate(MIGRATE_BUCKETS_PER_OPERATION);
+        IDictionary<K, V> currentChain = findChain(key);
+        if (currentChain == null) { // Check if key exist
             throw new NoSuchKeyException("Key is not found");
         }
-        int index = convertHashCode(key);
-        IDictionary<K, V> currentChain = chains[index];
-        return currentChain.get(key);
+        return currentChain.get(key); // The chain throws if the key is missing
     }
 
     // Adds the key-value pair to the dictionary. If the key already exists in the dictionary,
     // replace its value with the given one.
     @Override
     public void put(K key, V value) {
+        IDictionary<K, V> chain = prepareChainForUpdate(key);
+        int oldChainSize = chain.size();
+        chain.put(key, value);
+        afterChainUpdate(key, chain, oldChainSize);
+    }
+
+    // Does the bookkeeping shared by every operation that may add a key (migrating,
+    // then growing the table if needed) and returns the chain that owns the key.
+    private IDictionary<K, V> prepareChainForUpdate(K key) {
+        migrate(MIGRATE_BUCKETS_PER_OPERATION);
         if (calculateLoadFactor() > LOAD_FACTOR) {
-            resize();
-        }
-        int index = convertHashCode(key);
-        if (chains[index] == null) { // create a new chain if this index is empty
-            chains[index] = new ArrayDictionary<>();
-        }
-        if (!chains[index].containsKey(key)){
-            size++;
+            if (resizeMode == ResizeMode.BLOCKING) {
+                resize();
+            } else {
+                migrate(Integer.MAX_VALUE); // Finish any resize still in progress first
+                startIncrementalResize();
+            }
         }
-        chains[index].put(key, value);
+        return findOrCreateChain(key);
+    }
+
+    // The compound operations below hash the key once and let the chain do the rest
+    // with a single scan or tree search. The size is kept in sync by checking how much
+    // the chain grew or shrank.
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        IDictionary<K, V> chain = prepareChainForUpdate(key);
+        int oldChainSize = chain.size();
+        V result = chain.putIfAbsent(key, value);
+        afterChainUpdate(key, chain, oldChainSize);
+        return result;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        IDictionary<K, V> chain = prepareChainForUpdate(key);
+        int oldChainSize = chain.size();
+        V result = chain.computeIfAbsent(key, mappingFunction);
+        afterChainUpdate(key, chain, oldChainSize);
+        return result;
+    }
 
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        IDictionary<K, V> chain = prepareChainForUpdate(key);
+        int oldChainSize = chain.size();
+        V result = chain.compute(key, remappingFunction);
+        afterChainUpdate(key, chain, oldChainSize);
+        return result;
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if (value == null) {
+            throw new IllegalArgumentException();
+        }
+        IDictionary<K, V> chain = prepareChainForUpdate(key);
+        int oldChainSize = chain.size();
+        V result = chain.merge(key, value, remappingFunction);
+        afterChainUpdate(key, chain, oldChainSize);
+        return result;
     }
 
     // Pre : Throws NoSuchKeyException if the dictionary does not contain the given key.
     // Post: Remove the key-value pair corresponding to the given key from the dictionary.
     @Override
     public V remove(K key) {
-        if (!containsKey(key)) {
+        migrate(MIGRATE_BUCKETS_PER_OPERATION);
+        IDictionary<K, V> chain = findChain(key);
+        if (chain == null) {
             throw new NoSuchKeyException("Key not found");
         }
-        int index = convertHashCode(key);
-        size--;
-        return chains[index].remove(key);
+        int oldChainSize = chain.size();
+        V removed = chain.remove(key); // The chain throws if the key is missing
+        afterChainUpdate(key, chain, oldChainSize);
+        return removed;
     }
 
     // Returns 'true' if the dictionary contains the given key and 'false' otherwise.
     @Override
     public boolean containsKey(K key) {
-        int index = convertHashCode(key);
         // Access the chain, need to check if chain contains key
-        if (chains[index] != null) {
-            return chains[index].containsKey(key);
+        IDictionary<K, V> chain = findChain(key);
+        if (chain != null) {
+            return chain.containsKey(key);
         }
         return false;
     }
@@ -153,14 +352,65 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
         return this.size;
     }
 
+    // Runs in O(buckets) time: looks at every bucket once, but never at the pairs.
+    @Override
+    public StructureStats getStats() {
+        ChainTally tally = new ChainTally();
+        long bytes = StructureStats.objectBytes(3 * StructureStats.REFERENCE_BYTES + 4 * Integer.BYTES)
+                + StructureStats.arrayBytes(chains.length, StructureStats.REFERENCE_BYTES);
+        for (IDictionary<K, V> chain : chains) {
+            tally.add(chain);
+        }
+        if (oldChains != null) {
+            // Only the buckets that haven't been migrated yet still hold pairs
+            bytes += StructureStats.arrayBytes(oldChains.length, StructureStats.REFERENCE_BYTES);
+            for (int i = migrateIndex; i < oldChains.length; i++) {
+                tally.add(oldChains[i]);
+            }
+        }
+        StructureStats stats = new StructureStats(size, chains.length, bytes + tally.bytes, resizeCount);
+        stats.setMaxProbeLength(tally.maxLength);
+        stats.setChainLengthHistogram(tally.histogram);
+        return stats;
+    }
+
     // Returns an iterator that, when used, will yield all key-value pairs
     // contained within this dictionary
     @Override
     public Iterator<KVPair<K, V>> iterator() {
-        // Note: you do not need to change this method
+        // A full scan is O(n) anyway, so finish any incremental resize first and
+        // let the iterator walk a single table.
+        migrate(Integer.MAX_VALUE);
         return new ChainedIterator<>(this.chains);
     }
 
+    // Calls the action on every pair, chain by chain, without creating any KVPairs.
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        migrate(Integer.MAX_VALUE);
+        for (IDictionary<K, V> chain : chains) {
+            if (chain != null) {
+                chain.forEach(action);
+            }
+        }
+    }
+
+    // Returns a spliterator that splits the table in half by chain index. Like
+    // iterator(), this finishes any incremental resize first.
+    @Override
+    public Spliterator<KVPair<K, V>> spliterator() {
+        migrate(Integer.MAX_VALUE);
+        return new ChainedSpliterator<>(this.chains, 0, this.chains.length, this.size);
+    }
+
+    // Returns a cursor over every pair. Like iterator(), this finishes any incremental
+    // resize first so the cursor only has to walk a single table.
+    @Override
+    public IDictionaryCursor<K, V> cursor() {
+        migrate(Integer.MAX_VALUE);
+        return new ChainedCursor<>(this.chains);
+    }
+
     /**
      * Hints:
      *
@@ -249,4 +499,146 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
             return itr.next();
         }
     }
+
+    // Walks the chains directly through IndexedChain's index accessors, so moving
+    // from one chain to the next doesn't allocate anything either.
+    private static class ChainedCursor<K, V> implements IDictionaryCursor<K, V> {
+        private IDictionary<K, V>[] chains;
+        private int chainIndex;
+        private IndexedChain<K, V> chain;
+        private int index;
+
+        public ChainedCursor(IDictionary<K, V>[] chains) {
+            this.chains = chains;
+            this.chainIndex = -1;
+            this.chain = null;
+            this.index = -1;
+        }
+
+        @Override
+        public boolean advance() {
+            if (chain != null) {
+                index++;
+                if (index < chain.size()) {
+                    return true;
+                }
+            }
+            // Move on to the next non-empty chain
+            chain = null;
+            while (chainIndex + 1 < chains.length) {
+                chainIndex++;
+                if (chains[chainIndex] != null && chains[chainIndex].size() > 0) {
+                    chain = (IndexedChain<K, V>) chains[chainIndex];
+                    index = 0;
+                    return true;
+                }
+            }
+            chainIndex = chains.length;
+            return false;
+        }
+
+        // Pre : Throws IllegalStateException if the cursor isn't on a pair.
+        // Post: Returns the chain holding the current pair.
+        private IndexedChain<K, V> currentChain() {
+            if (chain == null) {
+                throw new IllegalStateException();
+            }
+            return chain;
+        }
+
+        @Override
+        public K key() {
+            return currentChain().keyAt(index);
+        }
+
+        @Override
+        public V value() {
+            return currentChain().valueAt(index);
+        }
+
+        @Override
+        public void setValue(V value) {
+            currentChain().setValueAt(index, value);
+        }
+    }
+
+    // Reads the chains through IndexedChain's index accessors, like ChainedCursor.
+    private static class ChainedSpliterator<K, V> implements Spliterator<KVPair<K, V>> {
+        private IDictionary<K, V>[] chains;
+        private int chainIndex;
+        private int fence;
+        private int pairIndex; // index of the next pair within chains[chainIndex]
+        private long estimate;
+        private boolean exact; // true until the first split, while 'estimate' is an exact count
+
+        public ChainedSpliterator(IDictionary<K, V>[] chains, int chainIndex, int fence, long estimate) {
+            this.chains = chains;
+            this.chainIndex = chainIndex;
+            this.fence = fence;
+            this.pairIndex = 0;
+            this.estimate = estimate;
+            this.exact = chainIndex == 0 && fence == chains.length;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super KVPair<K, V>> action) {
+            while (chainIndex < fence) {
+                IndexedChain<K, V> chain = (IndexedChain<K, V>) chains[chainIndex];
+                if (chain != null && pairIndex < chain.size()) {
+                    if (estimate > 0) {
+                        estimate--;
+                    }
+                    action.accept(new KVPair<>(chain.keyAt(pairIndex), chain.valueAt(pairIndex)));
+                    pairIndex++;
+                    return true;
+                }
+                chainIndex++;
+                pairIndex = 0;
+            }
+            return false;
+        }
+
+        // Only splits between chains, and only before this spliterator has started on
+        // a chain, so the two halves never share one.
+        @Override
+        public Spliterator<KVPair<K, V>> trySplit() {
+            int start = pairIndex == 0 ? chainIndex : chainIndex + 1;
+            int mid = (start + fence) >>> 1;
+            if (mid <= start) {
+                return null;
+            }
+            estimate >>>= 1;
+            exact = false;
+            Spliterator<KVPair<K, V>> suffix = new ChainedSpliterator<>(chains, mid, fence, estimate);
+            fence = mid;
+            return suffix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.DISTINCT | Spliterator.NONNULL | (exact ? Spliterator.SIZED : 0);
+        }
+    }
+
+    // Adds up the chains of one table for getStats().
+    private static class ChainTally {
+        public final int[] histogram = new int[CHAIN_HISTOGRAM_LENGTH];
+        public int maxLength = 0;
+        public long bytes = 0;
+
+        public void add(IDictionary<?, ?> chain) {
+            int length = chain == null ? 0 : chain.size();
+            histogram[Math.min(length, CHAIN_HISTOGRAM_LENGTH - 1)]++;
+            if (chain != null) {
+                IndexedChain<?, ?> indexed = (IndexedChain<?, ?>) chain;
+                maxLength = Math.max(maxLength, indexed.maxProbeLength());
+                bytes += indexed.estimateBytes();
+            }
+        }
+    }
 }
@@ -0,0 +1,287 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.KVPair;
+import datastructures.concrete.StructureStats;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IList;
+import datastructures.interfaces.IStatsProvider;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A thread-safe hash dictionary that uses lock striping.
+ *
+ * The keys are split across a fixed number of segments, each of which is its own
+ * ChainedHashDictionary guarded by its own lock. Threads working on keys in
+ * different segments never block each other, and there is no global lock.
+ *
+ * The compound operations (putIfAbsent, computeIfAbsent, compute and merge) are
+ * atomic: the whole read-modify-write happens while holding the key's segment lock.
+ *
+ * Iterators are weakly consistent: they never throw because of concurrent updates,
+ * and they see each segment as it was when the iterator reached that segment.
+ *
+ * @see IDictionary
+ */
+public class ConcurrentChainedHashDictionary<K, V> implements IDictionary<K, V>, IStatsProvider {
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    private Segment<K, V>[] segments;
+    private int segmentShift; // number of bits to drop from a spread hash to get a segment index
+
+    public ConcurrentChainedHashDictionary() {
+        this(DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Creates a dictionary with enough segments for roughly 'concurrencyLevel'
+     * threads to update it at the same time without contention.
+     *
+     * @throws IllegalArgumentException if concurrencyLevel is not positive
+     */
+    public ConcurrentChainedHashDictionary(int concurrencyLevel) {
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException();
+        }
+        int numSegments = 1;
+        int bits = 0;
+        while (numSegments < concurrencyLevel && numSegments < (1 << 16)) {
+            numSegments *= 2;
+            bits++;
+        }
+        this.segments = makeArrayOfSegments(numSegments);
+        for (int i = 0; i < numSegments; i++) {
+            this.segments[i] = new Segment<>();
+        }
+        this.segmentShift = 32 - bits;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Segment<K, V>[] makeArrayOfSegments(int arraySize) {
+        return (Segment<K, V>[]) new Segment[arraySize];
+    }
+
+    // Picks the segment from the high bits of a spread hash. The chains inside each
+    // segment index by the low bits, so the two choices stay independent.
+    private Segment<K, V> segmentFor(K key) {
+        if (segments.length == 1) {
+            return segments[0];
+        }
+        int h = (key == null ? 0 : key.hashCode()) * 0x9E3779B9;
+        return segments[h >>> segmentShift];
+    }
+
+    @Override
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.dict.get(key);
+        }
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.dict.getOrDefault(key, defaultValue);
+        }
+    }
+
+    @Override
+    public void put(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.dict.put(key, value);
+            segment.count = segment.dict.size();
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            V removed = segment.dict.remove(key);
+            segment.count = segment.dict.size();
+            return removed;
+        }
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            return segment.dict.containsKey(key);
+        }
+    }
+
+    /**
+     * Atomically maps the key to the value if the key is absent.
+     *
+     * Returns the value that was already mapped to the key, or null if the given
+     * value was inserted.
+     */
+    @Override
+    public V putIfAbsent(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            V result = segment.dict.putIfAbsent(key, value);
+            segment.count = segment.dict.size();
+            return result;
+        }
+    }
+
+    /**
+     * If the key is absent, atomically computes its value with the given function and
+     * stores it (unless the function returns null). Returns the current value.
+     */
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            V result = segment.dict.computeIfAbsent(key, mappingFunction);
+            segment.count = segment.dict.size();
+            return result;
+        }
+    }
+
+    /**
+     * Atomically replaces the key's value with remappingFunction(key, oldValue), where
+     * oldValue is null if the key is absent. If the function returns null, the key is
+     * removed instead. Returns the new value.
+     */
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            V result = segment.dict.compute(key, remappingFunction);
+            segment.count = segment.dict.size();
+            return result;
+        }
+    }
+
+    /**
+     * Atomically stores the value if the key is absent, and otherwise replaces the old
+     * value with remappingFunction(oldValue, value). If the function returns null, the
+     * key is removed instead. Returns the new value.
+     */
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if (value == null) {
+            throw new IllegalArgumentException();
+        }
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            V result = segment.dict.merge(key, value, remappingFunction);
+            segment.count = segment.dict.size();
+            return result;
+        }
+    }
+
+    // Returns the number of key-value pairs. While other threads are updating the
+    // dictionary, this is only an estimate.
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.count;
+        }
+        return size;
+    }
+
+    // Runs in O(buckets) time and adds up the stats of every segment, locking one
+    // segment at a time. The chain length histograms are summed bucket by bucket.
+    @Override
+    public StructureStats getStats() {
+        int size = 0;
+        int capacity = 0;
+        long bytes = StructureStats.objectBytes(StructureStats.REFERENCE_BYTES + Integer.BYTES)
+                + StructureStats.arrayBytes(segments.length, StructureStats.REFERENCE_BYTES)
+                + segments.length * StructureStats.objectBytes(StructureStats.REFERENCE_BYTES + Integer.BYTES);
+        int resizeCount = 0;
+        int maxProbe = 0;
+        int[] histogram = null;
+        for (Segment<K, V> segment : segments) {
+            StructureStats segmentStats;
+            synchronized (segment) {
+                segmentStats = segment.dict.getStats();
+            }
+            size += segmentStats.getSize();
+            capacity += segmentStats.getCapacity();
+            bytes += segmentStats.getEstimatedBytes();
+            resizeCount += segmentStats.getResizeCount();
+            maxProbe = Math.max(maxProbe, segmentStats.getMaxProbeLength());
+            int[] segmentHistogram = segmentStats.getChainLengthHistogram();
+            if (histogram == null) {
+                histogram = segmentHistogram;
+            } else {
+                for (int i = 0; i < histogram.length; i++) {
+                    histogram[i] += segmentHistogram[i];
+                }
+            }
+        }
+        StructureStats stats = new StructureStats(size, capacity, bytes, resizeCount);
+        stats.setMaxProbeLength(maxProbe);
+        stats.setChainLengthHistogram(histogram);
+        return stats;
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new ConcurrentIterator<>(this.segments);
+    }
+
+    private static class Segment<K, V> {
+        public final ChainedHashDictionary<K, V> dict = new ChainedHashDictionary<>();
+
+        // Written only while holding the segment's lock, but read without it by size()
+        public volatile int count = 0;
+    }
+
+    private static class ConcurrentIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private Segment<K, V>[] segments;
+        private int segmentIndex;
+        private Iterator<KVPair<K, V>> current;
+
+        public ConcurrentIterator(Segment<K, V>[] segments) {
+            this.segments = segments;
+            this.segmentIndex = 0;
+            this.current = null;
+        }
+
+        // Copies the pairs of the next segment while holding its lock, so that other
+        // threads can keep updating that segment while we hand out its pairs.
+        private Iterator<KVPair<K, V>> snapshot(Segment<K, V> segment) {
+            IList<KVPair<K, V>> pairs = new DoubleLinkedList<>();
+            synchronized (segment) {
+                for (KVPair<K, V> pair : segment.dict) {
+                    pairs.add(pair);
+                }
+            }
+            return pairs.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (current == null || !current.hasNext()) {
+                if (segmentIndex == segments.length) {
+                    return false;
+                }
+                current = snapshot(segments[segmentIndex]);
+                segmentIndex++;
+            }
+            return true;
+        }
+
+        @Override
+        public KVPair<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+    }
+}
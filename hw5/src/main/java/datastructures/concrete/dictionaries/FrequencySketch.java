@@ -0,0 +1,104 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.StructureStats;
+
+/**
+ * Estimates how often each key has been seen recently, in a fixed amount of memory.
+ *
+ * This is a count-min sketch with four rows of 4-bit counters, packed sixteen to a
+ * long. A key's estimate is the smallest of its four counters, so collisions can only
+ * make it too high, never too low. Once the number of increments reaches ten times the
+ * table size, every counter is halved, so keys that were popular long ago fade out.
+ */
+class FrequencySketch {
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long HALF_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+
+    private long[] table;
+    private int sampleSize;
+    private int additions;
+
+    /**
+     * Creates a sketch sized for roughly the given number of distinct keys.
+     */
+    public FrequencySketch(long expectedKeys) {
+        int length = 16;
+        while (length < expectedKeys && length < (1 << 16)) {
+            length *= 2;
+        }
+        this.table = new long[length];
+        this.sampleSize = 10 * length;
+        this.additions = 0;
+    }
+
+    /**
+     * Returns the estimated number of times the key was seen, at most 15.
+     */
+    public int frequency(Object key) {
+        int hash = spread(key);
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < SEEDS.length; row++) {
+            int index = indexOf(hash, row);
+            int offset = offsetOf(hash, row);
+            frequency = Math.min(frequency, (int) ((table[index] >>> offset) & 0xf));
+        }
+        return frequency;
+    }
+
+    /**
+     * Records one more sighting of the key.
+     */
+    public void increment(Object key) {
+        int hash = spread(key);
+        boolean added = false;
+        for (int row = 0; row < SEEDS.length; row++) {
+            int index = indexOf(hash, row);
+            int offset = offsetOf(hash, row);
+            if (((table[index] >>> offset) & 0xf) < MAX_COUNT) {
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+        if (added) {
+            additions++;
+            if (additions == sampleSize) {
+                reset();
+            }
+        }
+    }
+
+    // Halves every counter at once: shifting a whole long right by one moves each
+    // counter's low bit into its neighbor, and the mask clears those stray bits.
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & HALF_MASK;
+        }
+        additions /= 2;
+    }
+
+    private static int spread(Object key) {
+        int hash = key == null ? 0 : key.hashCode();
+        hash *= 0x9e3779b9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private int indexOf(int hash, int row) {
+        long mixed = (hash + SEEDS[row]) * SEEDS[row];
+        mixed += mixed >>> 32;
+        return (int) mixed & (table.length - 1);
+    }
+
+    // Each row uses its own four of the sixteen counters in a long, so two rows can't
+    // share a counter even when they pick the same long.
+    private static int offsetOf(int hash, int row) {
+        return ((row << 2) + ((hash >>> (row << 3)) & 3)) << 2;
+    }
+
+    public long estimateBytes() {
+        return StructureStats.objectBytes(StructureStats.REFERENCE_BYTES + 2 * Integer.BYTES)
+                + StructureStats.arrayBytes(table.length, Long.BYTES);
+    }
+}
@@ -0,0 +1,25 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.interfaces.IDictionary;
+
+/**
+ * A dictionary that can be used as one of ChainedHashDictionary's chains.
+ *
+ * Besides the usual dictionary methods, a chain lets its pairs be read by position,
+ * from 0 to size() - 1, in no particular order. ChainedHashDictionary's cursor and
+ * spliterator walk the chains this way, so they never create an iterator per chain.
+ * Positions stay the same until a key is added or removed.
+ */
+abstract class IndexedChain<K, V> implements IDictionary<K, V> {
+    abstract K keyAt(int index);
+
+    abstract V valueAt(int index);
+
+    abstract void setValueAt(int index, V value);
+
+    // Returns the number of keys a lookup compares against in the worst case.
+    abstract int maxProbeLength();
+
+    // Returns the estimated heap footprint of the chain, in bytes.
+    abstract long estimateBytes();
+}
@@ -0,0 +1,300 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A hash dictionary specialized for primitive long keys and long values.
+ *
+ * Keys and values are stored in two flat, parallel arrays using open addressing
+ * with linear probing, so the getLong/putLong family of methods never allocates.
+ * The boxed IDictionary methods are only an adapter for existing callers.
+ *
+ * @see IDictionary
+ */
+public class LongLongHashDictionary implements IDictionary<Long, Long> {
+    private static final int DEFAULT_CAPACITY = 16;
+    // The largest power of two that an array length can be
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final double LOAD_FACTOR = 0.5;
+
+    // A key of 0 marks an empty slot, so the real key 0 is stored on the side
+    // in 'hasZeroKey' and 'zeroValue'.
+    private long[] keys;
+    private long[] values;
+    private boolean hasZeroKey;
+    private long zeroValue;
+    private int mask;
+    private int size; // number of pairs, including the zero key
+
+    public LongLongHashDictionary() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongLongHashDictionary(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        int capacity = tableSizeFor(expectedSize);
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+        this.mask = capacity - 1;
+        this.size = 0;
+    }
+
+    // Returns the smallest power of two table that holds expectedSize pairs under the load factor.
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            if (capacity == MAX_CAPACITY) {
+                throw new IllegalArgumentException("Expected size is too large");
+            }
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    // Spreads the bits of the key so that sequential keys don't cluster together.
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    // Returns the slot holding the given non-zero key, or -1 if it is absent.
+    private int findSlot(long key) {
+        int index = hash(key) & mask;
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the value corresponding to the given key.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public long getLong(long key) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                throw new NoSuchKeyException();
+            }
+            return zeroValue;
+        }
+        int index = findSlot(key);
+        if (index == -1) {
+            throw new NoSuchKeyException();
+        }
+        return values[index];
+    }
+
+    /**
+     * Returns the value corresponding to the given key, or the default value if the
+     * key is absent.
+     */
+    public long getLongOrDefault(long key, long defaultValue) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int index = findSlot(key);
+        return index == -1 ? defaultValue : values[index];
+    }
+
+    /**
+     * Adds the key-value pair to the dictionary, replacing the old value if the key
+     * already exists.
+     */
+    public void putLong(long key, long value) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return;
+        }
+        int index = hash(key) & mask;
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        size++;
+        if (size > keys.length * LOAD_FACTOR) {
+            resize();
+        }
+    }
+
+    /**
+     * Removes the given key and returns the value it was mapped to.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public long removeLong(long key) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                throw new NoSuchKeyException();
+            }
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+        int index = findSlot(key);
+        if (index == -1) {
+            throw new NoSuchKeyException();
+        }
+        long removed = values[index];
+        shiftKeys(index);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Returns 'true' if the dictionary contains the given key and 'false' otherwise.
+     */
+    public boolean containsLong(long key) {
+        return key == 0 ? hasZeroKey : findSlot(key) != -1;
+    }
+
+    // Backward-shift deletion: empties the given slot, then pulls later entries of
+    // the same probe run back so that no lookup ever stops early at a hole.
+    private void shiftKeys(int index) {
+        while (true) {
+            int last = index;
+            index = (index + 1) & mask;
+            while (true) {
+                long current = keys[index];
+                if (current == 0) {
+                    keys[last] = 0;
+                    return;
+                }
+                int home = hash(current) & mask;
+                // Stop at the first entry whose home slot is not between 'last' and 'index'
+                if (last <= index ? (last >= home || home > index) : (last >= home && home > index)) {
+                    break;
+                }
+                index = (index + 1) & mask;
+            }
+            keys[last] = keys[index];
+            values[last] = values[index];
+        }
+    }
+
+    // Doubles the table and re-inserts every non-zero key.
+    private void resize() {
+        long[] oldKeys = this.keys;
+        long[] oldValues = this.values;
+        this.keys = new long[oldKeys.length * 2];
+        this.values = new long[oldKeys.length * 2];
+        this.mask = this.keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int index = hash(key) & mask;
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    @Override
+    public Long get(Long key) {
+        if (key == null) {
+            throw new NoSuchKeyException();
+        }
+        return getLong(key);
+    }
+
+    @Override
+    public Long getOrDefault(Long key, Long defaultValue) {
+        if (key == null || !containsLong(key)) {
+            return defaultValue;
+        }
+        return getLong(key);
+    }
+
+    @Override
+    public void put(Long key, Long value) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("LongLongHashDictionary cannot store null keys or values");
+        }
+        putLong(key, value);
+    }
+
+    @Override
+    public Long remove(Long key) {
+        if (key == null) {
+            throw new NoSuchKeyException();
+        }
+        return removeLong(key);
+    }
+
+    @Override
+    public boolean containsKey(Long key) {
+        return key != null && containsLong(key);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Iterator<KVPair<Long, Long>> iterator() {
+        return new LongLongIterator(this);
+    }
+
+    private static class LongLongIterator implements Iterator<KVPair<Long, Long>> {
+        private LongLongHashDictionary dict;
+        private boolean zeroKeyPending;
+        private int index;
+
+        public LongLongIterator(LongLongHashDictionary dict) {
+            this.dict = dict;
+            this.zeroKeyPending = dict.hasZeroKey;
+            this.index = findNext(0);
+        }
+
+        // Returns the next occupied slot at or after 'from', or keys.length if there is none.
+        private int findNext(int from) {
+            long[] keys = dict.keys;
+            while (from < keys.length && keys[from] == 0) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return zeroKeyPending || index < dict.keys.length;
+        }
+
+        @Override
+        public KVPair<Long, Long> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (zeroKeyPending) {
+                zeroKeyPending = false;
+                return new KVPair<>(0L, dict.zeroValue);
+            }
+            KVPair<Long, Long> result = new KVPair<>(dict.keys[index], dict.values[index]);
+            index = findNext(index + 1);
+            return result;
+        }
+    }
+}
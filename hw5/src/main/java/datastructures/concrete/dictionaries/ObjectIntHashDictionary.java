@@ -0,0 +1,349 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.StructureStats;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IStatsProvider;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A hash dictionary that maps arbitrary keys to primitive int values.
+ *
+ * Keys and values are stored in two flat, parallel arrays using open addressing
+ * with linear probing, so the getInt/putInt family of methods never boxes.
+ * The boxed IDictionary methods are only an adapter for existing callers.
+ *
+ * @see IDictionary
+ */
+public class ObjectIntHashDictionary<K> implements IDictionary<K, Integer>, IStatsProvider {
+    private static final int DEFAULT_CAPACITY = 16;
+    // The largest power of two that an array length can be
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final double LOAD_FACTOR = 0.5;
+
+    // A null entry marks an empty slot, so the real null key is stored on the side
+    // in 'hasNullKey' and 'nullValue'.
+    private K[] keys;
+    private int[] values;
+    private boolean hasNullKey;
+    private int nullValue;
+    private int mask;
+    private int size; // number of pairs, including the null key
+    private int resizeCount;
+
+    public ObjectIntHashDictionary() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ObjectIntHashDictionary(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        int capacity = tableSizeFor(expectedSize);
+        this.keys = makeArrayOfKeys(capacity);
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        this.size = 0;
+        this.resizeCount = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private K[] makeArrayOfKeys(int arraySize) {
+        return (K[]) new Object[arraySize];
+    }
+
+    // Returns the smallest power of two table that holds expectedSize pairs under the load factor.
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            if (capacity == MAX_CAPACITY) {
+                throw new IllegalArgumentException("Expected size is too large");
+            }
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    // Spreads the bits of the hash code so that weak hash codes don't cluster together.
+    private static int hash(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // Returns the slot holding the given non-null key, or -1 if it is absent.
+    private int findSlot(K key) {
+        int index = hash(key) & mask;
+        while (keys[index] != null) {
+            if (keys[index].equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the value corresponding to the given key.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public int getInt(K key) {
+        if (key == null) {
+            if (!hasNullKey) {
+                throw new NoSuchKeyException();
+            }
+            return nullValue;
+        }
+        int index = findSlot(key);
+        if (index == -1) {
+            throw new NoSuchKeyException();
+        }
+        return values[index];
+    }
+
+    /**
+     * Returns the value corresponding to the given key, or the default value if the
+     * key is absent.
+     */
+    public int getIntOrDefault(K key, int defaultValue) {
+        if (key == null) {
+            return hasNullKey ? nullValue : defaultValue;
+        }
+        int index = findSlot(key);
+        return index == -1 ? defaultValue : values[index];
+    }
+
+    /**
+     * Adds the key-value pair to the dictionary, replacing the old value if the key
+     * already exists.
+     */
+    public void putInt(K key, int value) {
+        if (key == null) {
+            if (!hasNullKey) {
+                hasNullKey = true;
+                size++;
+            }
+            nullValue = value;
+            return;
+        }
+        int index = insertionSlot(key);
+        values[index] = value;
+    }
+
+    /**
+     * Adds 'delta' to the value stored under the given key, treating a missing key
+     * as 0, and returns the new value.
+     */
+    public int addToInt(K key, int delta) {
+        if (key == null) {
+            if (!hasNullKey) {
+                hasNullKey = true;
+                nullValue = 0;
+                size++;
+            }
+            nullValue += delta;
+            return nullValue;
+        }
+        int index = insertionSlot(key);
+        values[index] += delta;
+        return values[index];
+    }
+
+    // Returns the slot of the given non-null key, claiming an empty slot (with value 0)
+    // if it is absent. May resize the table, so callers must index with the returned slot.
+    private int insertionSlot(K key) {
+        int index = hash(key) & mask;
+        while (keys[index] != null) {
+            if (keys[index].equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        // Only a new key may grow the table, so updating values during a cursor
+        // scan never rehashes the entries under it
+        if (size + 1 > keys.length * LOAD_FACTOR) {
+            resize();
+            index = hash(key) & mask;
+            while (keys[index] != null) {
+                index = (index + 1) & mask;
+            }
+        }
+        keys[index] = key;
+        values[index] = 0;
+        size++;
+        return index;
+    }
+
+    /**
+     * Removes the given key and returns the value it was mapped to.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public int removeInt(K key) {
+        if (key == null) {
+            if (!hasNullKey) {
+                throw new NoSuchKeyException();
+            }
+            hasNullKey = false;
+            size--;
+            return nullValue;
+        }
+        int index = findSlot(key);
+        if (index == -1) {
+            throw new NoSuchKeyException();
+        }
+        int removed = values[index];
+        shiftKeys(index);
+        size--;
+        return removed;
+    }
+
+    // Backward-shift deletion: empties the given slot, then pulls later entries of
+    // the same probe run back so that no lookup ever stops early at a hole.
+    private void shiftKeys(int index) {
+        while (true) {
+            int last = index;
+            index = (index + 1) & mask;
+            while (true) {
+                K current = keys[index];
+                if (current == null) {
+                    keys[last] = null;
+                    return;
+                }
+                int home = hash(current) & mask;
+                // Stop at the first entry whose home slot is not between 'last' and 'index'
+                if (last <= index ? (last >= home || home > index) : (last >= home && home > index)) {
+                    break;
+                }
+                index = (index + 1) & mask;
+            }
+            keys[last] = keys[index];
+            values[last] = values[index];
+        }
+    }
+
+    // Doubles the table and re-inserts every non-null key.
+    private void resize() {
+        this.resizeCount++;
+        K[] oldKeys = this.keys;
+        int[] oldValues = this.values;
+        this.keys = makeArrayOfKeys(oldKeys.length * 2);
+        this.values = new int[oldKeys.length * 2];
+        this.mask = this.keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            K key = oldKeys[i];
+            if (key != null) {
+                int index = hash(key) & mask;
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    @Override
+    public Integer get(K key) {
+        return getInt(key);
+    }
+
+    @Override
+    public Integer getOrDefault(K key, Integer defaultValue) {
+        if (!containsKey(key)) {
+            return defaultValue;
+        }
+        return getInt(key);
+    }
+
+    @Override
+    public void put(K key, Integer value) {
+        if (value == null) {
+            throw new IllegalArgumentException("ObjectIntHashDictionary cannot store null values");
+        }
+        putInt(key, value);
+    }
+
+    @Override
+    public Integer remove(K key) {
+        return removeInt(key);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return key == null ? hasNullKey : findSlot(key) != -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    // Runs in O(buckets) time. The max probe length counts the slots a lookup of the
+    // worst-placed key compares against, including its own.
+    @Override
+    public StructureStats getStats() {
+        int maxProbe = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                int distance = (i - (hash(keys[i]) & mask)) & mask;
+                maxProbe = Math.max(maxProbe, distance + 1);
+            }
+        }
+        long bytes = StructureStats.objectBytes(
+                2 * StructureStats.REFERENCE_BYTES + 4 * Integer.BYTES + 1)
+                + StructureStats.arrayBytes(keys.length, StructureStats.REFERENCE_BYTES)
+                + StructureStats.arrayBytes(values.length, Integer.BYTES);
+        StructureStats stats = new StructureStats(size, keys.length, bytes, resizeCount);
+        stats.setMaxProbeLength(maxProbe);
+        return stats;
+    }
+
+    @Override
+    public Iterator<KVPair<K, Integer>> iterator() {
+        return new ObjectIntIterator<>(this);
+    }
+
+    private static class ObjectIntIterator<K> implements Iterator<KVPair<K, Integer>> {
+        private ObjectIntHashDictionary<K> dict;
+        private boolean nullKeyPending;
+        private int index;
+
+        public ObjectIntIterator(ObjectIntHashDictionary<K> dict) {
+            this.dict = dict;
+            this.nullKeyPending = dict.hasNullKey;
+            this.index = findNext(0);
+        }
+
+        // Returns the next occupied slot at or after 'from', or keys.length if there is none.
+        private int findNext(int from) {
+            K[] keys = dict.keys;
+            while (from < keys.length && keys[from] == null) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nullKeyPending || index < dict.keys.length;
+        }
+
+        @Override
+        public KVPair<K, Integer> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (nullKeyPending) {
+                nullKeyPending = false;
+                return new KVPair<>(null, dict.nullValue);
+            }
+            KVPair<K, Integer> result = new KVPair<>(dict.keys[index], dict.values[index]);
+            index = findNext(index + 1);
+            return result;
+        }
+    }
+}
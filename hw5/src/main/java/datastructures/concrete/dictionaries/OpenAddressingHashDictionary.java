@@ -0,0 +1,488 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.StructureStats;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import datastructures.interfaces.IStatsProvider;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A hash dictionary that stores keys, values and cached hash codes in flat arrays,
+ * using Robin Hood linear probing with backward-shift deletion.
+ *
+ * Robin Hood probing keeps every probe run short and sorted by distance from home,
+ * so a lookup usually touches one or two cache lines and a miss can stop early.
+ *
+ * @see IDictionary
+ */
+public class OpenAddressingHashDictionary<K, V> implements IDictionary<K, V>, IStatsProvider {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double LOAD_FACTOR = 0.75;
+
+    // Invariants:
+    //  - hashes[i] == 0 means slot i is empty; occupied slots always cache a non-zero hash.
+    //  - Walking forward from any key's home slot, the probe distances of the
+    //    occupied slots never drop below that key's own distance until we reach it.
+    private int[] hashes;
+    private K[] keys;
+    private V[] values;
+    private int mask;
+    private int size;
+    private int resizeCount;
+
+    public OpenAddressingHashDictionary() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public OpenAddressingHashDictionary(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity *= 2;
+        }
+        allocate(capacity);
+        this.size = 0;
+        this.resizeCount = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        this.hashes = new int[capacity];
+        this.keys = (K[]) new Object[capacity];
+        this.values = (V[]) new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    // Spreads the bits of the hash code and reserves 0 as the "empty slot" marker.
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        h *= 0x9E3779B9;
+        h ^= h >>> 16;
+        return h == 0 ? 1 : h;
+    }
+
+    // Returns how far the slot at 'index' is from the home slot of the given hash.
+    private int probeDistance(int hash, int index) {
+        return (index - (hash & mask)) & mask;
+    }
+
+    private static boolean keysEqual(Object a, Object b) {
+        return a == b || (a != null && a.equals(b));
+    }
+
+    // Returns the slot holding the given key, or -1 if it is absent.
+    private int findSlot(K key) {
+        int hash = hash(key);
+        int index = hash & mask;
+        int distance = 0;
+        while (hashes[index] != 0 && probeDistance(hashes[index], index) >= distance) {
+            if (hashes[index] == hash && keysEqual(keys[index], key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+            distance++;
+        }
+        return -1;
+    }
+
+    // Returns the value corresponding to the given key.
+    @Override
+    public V get(K key) {
+        int index = findSlot(key);
+        if (index == -1) {
+            throw new NoSuchKeyException();
+        }
+        return values[index];
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        int index = findSlot(key);
+        return index == -1 ? defaultValue : values[index];
+    }
+
+    // Adds the key-value pair to the dictionary. If the key already exists in the dictionary,
+    // replace its value with the given one.
+    @Override
+    public void put(K key, V value) {
+        int hash = hash(key);
+        int index = hash & mask;
+        int distance = 0;
+        while (hashes[index] != 0) {
+            if (hashes[index] == hash && keysEqual(keys[index], key)) {
+                values[index] = value;
+                return;
+            }
+            int existingDistance = probeDistance(hashes[index], index);
+            if (existingDistance < distance) {
+                // The key would have been placed before this "richer" resident, so it's new
+                break;
+            }
+            index = (index + 1) & mask;
+            distance++;
+        }
+        if (size + 1 > hashes.length * LOAD_FACTOR) {
+            resize();
+            insertNew(hash, key, value, hash & mask, 0);
+        } else {
+            insertNew(hash, key, value, index, distance);
+        }
+        size++;
+    }
+
+    // Robin Hood insertion of a key known to be absent, starting at the given slot and
+    // probe distance: whenever the carried entry is further from home than the resident,
+    // they swap and the resident is carried on down the run.
+    private void insertNew(int hash, K key, V value, int index, int distance) {
+        while (hashes[index] != 0) {
+            int existingDistance = probeDistance(hashes[index], index);
+            if (existingDistance < distance) {
+                int tempHash = hashes[index];
+                K tempKey = keys[index];
+                V tempValue = values[index];
+                hashes[index] = hash;
+                keys[index] = key;
+                values[index] = value;
+                hash = tempHash;
+                key = tempKey;
+                value = tempValue;
+                distance = existingDistance;
+            }
+            index = (index + 1) & mask;
+            distance++;
+        }
+        hashes[index] = hash;
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    // The compound operations below update a key that is already present in place,
+    // so updating an existing key costs a single probe. Only inserting a new key
+    // probes a second time, through put.
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        int index = findSlot(key);
+        if (index != -1) {
+            return values[index];
+        }
+        put(key, value);
+        return null;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        int index = findSlot(key);
+        if (index != -1) {
+            return values[index];
+        }
+        V value = mappingFunction.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        int index = findSlot(key);
+        V newValue = remappingFunction.apply(key, index == -1 ? null : values[index]);
+        storeAt(index, key, newValue);
+        return newValue;
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if (value == null) {
+            throw new IllegalArgumentException();
+        }
+        int index = findSlot(key);
+        V newValue = value;
+        if (index != -1) {
+            newValue = remappingFunction.apply(values[index], value);
+        }
+        storeAt(index, key, newValue);
+        return newValue;
+    }
+
+    // Stores the new value for the key found at slot 'index' (-1 if absent), or removes
+    // the key if the new value is null.
+    private void storeAt(int index, K key, V newValue) {
+        if (newValue == null) {
+            if (index != -1) {
+                removeAt(index);
+            }
+        } else if (index != -1) {
+            values[index] = newValue;
+        } else {
+            put(key, newValue);
+        }
+    }
+
+    // Pre : Throws NoSuchKeyException if the dictionary does not contain the given key.
+    // Post: Remove the key-value pair corresponding to the given key from the dictionary.
+    @Override
+    public V remove(K key) {
+        int index = findSlot(key);
+        if (index == -1) {
+            throw new NoSuchKeyException();
+        }
+        return removeAt(index);
+    }
+
+    // Removes the entry at the given occupied slot and returns its value.
+    private V removeAt(int index) {
+        V removed = values[index];
+        // Backward-shift deletion: slide the rest of the run back by one until we
+        // reach an empty slot or an entry that already sits in its home slot
+        int next = (index + 1) & mask;
+        while (hashes[next] != 0 && probeDistance(hashes[next], next) > 0) {
+            hashes[index] = hashes[next];
+            keys[index] = keys[next];
+            values[index] = values[next];
+            index = next;
+            next = (next + 1) & mask;
+        }
+        hashes[index] = 0;
+        keys[index] = null;
+        values[index] = null;
+        size--;
+        return removed;
+    }
+
+    // Doubles the table and re-inserts every entry using its cached hash.
+    private void resize() {
+        this.resizeCount++;
+        int[] oldHashes = this.hashes;
+        K[] oldKeys = this.keys;
+        V[] oldValues = this.values;
+        allocate(oldHashes.length * 2);
+        for (int i = 0; i < oldHashes.length; i++) {
+            if (oldHashes[i] != 0) {
+                insertNew(oldHashes[i], oldKeys[i], oldValues[i], oldHashes[i] & mask, 0);
+            }
+        }
+    }
+
+    // Returns 'true' if the dictionary contains the given key and 'false' otherwise.
+    @Override
+    public boolean containsKey(K key) {
+        return findSlot(key) != -1;
+    }
+
+    // Returns the number of key-value pairs stored in this dictionary.
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    // Runs in O(buckets) time, using the cached hashes. The max probe length counts
+    // the slots a lookup of the worst-placed key compares against, including its own.
+    @Override
+    public StructureStats getStats() {
+        int maxProbe = 0;
+        for (int i = 0; i < hashes.length; i++) {
+            if (hashes[i] != 0) {
+                maxProbe = Math.max(maxProbe, probeDistance(hashes[i], i) + 1);
+            }
+        }
+        long bytes = StructureStats.objectBytes(3 * StructureStats.REFERENCE_BYTES + 3 * Integer.BYTES)
+                + StructureStats.arrayBytes(hashes.length, Integer.BYTES)
+                + 2 * StructureStats.arrayBytes(hashes.length, StructureStats.REFERENCE_BYTES);
+        StructureStats stats = new StructureStats(size, hashes.length, bytes, resizeCount);
+        stats.setMaxProbeLength(maxProbe);
+        return stats;
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new OpenAddressingIterator<>(this.hashes, this.keys, this.values);
+    }
+
+    // Returns a spliterator that splits the table in half by slot range.
+    @Override
+    public Spliterator<KVPair<K, V>> spliterator() {
+        return new OpenAddressingSpliterator<>(
+                this.hashes, this.keys, this.values, 0, this.hashes.length, this.size);
+    }
+
+    // Calls the action on every occupied slot, without creating any KVPairs.
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < hashes.length; i++) {
+            if (hashes[i] != 0) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    @Override
+    public IDictionaryCursor<K, V> cursor() {
+        return new OpenAddressingCursor<>(this);
+    }
+
+    private static class OpenAddressingIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private int[] hashes;
+        private K[] keys;
+        private V[] values;
+        private int index;
+
+        public OpenAddressingIterator(int[] hashes, K[] keys, V[] values) {
+            this.hashes = hashes;
+            this.keys = keys;
+            this.values = values;
+            this.index = findNext(0);
+        }
+
+        // Returns the next occupied slot at or after 'from', or hashes.length if there is none.
+        private int findNext(int from) {
+            while (from < hashes.length && hashes[from] == 0) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < hashes.length;
+        }
+
+        @Override
+        public KVPair<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            KVPair<K, V> result = new KVPair<>(keys[index], values[index]);
+            index = findNext(index + 1);
+            return result;
+        }
+    }
+
+    private static class OpenAddressingCursor<K, V> implements IDictionaryCursor<K, V> {
+        private OpenAddressingHashDictionary<K, V> dict;
+        private int index;
+
+        public OpenAddressingCursor(OpenAddressingHashDictionary<K, V> dict) {
+            this.dict = dict;
+            this.index = -1;
+        }
+
+        @Override
+        public boolean advance() {
+            int[] hashes = dict.hashes;
+            if (index < hashes.length) {
+                index++;
+            }
+            while (index < hashes.length && hashes[index] == 0) {
+                index++;
+            }
+            return index < hashes.length;
+        }
+
+        // Pre : Throws IllegalStateException if the cursor isn't on a pair.
+        // Post: Returns the slot of the current pair.
+        private int currentSlot() {
+            if (index < 0 || index >= dict.hashes.length) {
+                throw new IllegalStateException();
+            }
+            return index;
+        }
+
+        @Override
+        public K key() {
+            return dict.keys[currentSlot()];
+        }
+
+        @Override
+        public V value() {
+            return dict.values[currentSlot()];
+        }
+
+        @Override
+        public void setValue(V value) {
+            dict.values[currentSlot()] = value;
+        }
+    }
+
+    private static class OpenAddressingSpliterator<K, V> implements Spliterator<KVPair<K, V>> {
+        private int[] hashes;
+        private K[] keys;
+        private V[] values;
+        private int index;
+        private int fence;
+        private long estimate;
+        private boolean exact; // true until the first split, while 'estimate' is an exact count
+
+        public OpenAddressingSpliterator(int[] hashes, K[] keys, V[] values,
+                                         int index, int fence, long estimate) {
+            this.hashes = hashes;
+            this.keys = keys;
+            this.values = values;
+            this.index = index;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.exact = index == 0 && fence == hashes.length;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super KVPair<K, V>> action) {
+            while (index < fence) {
+                int slot = index;
+                index++;
+                if (hashes[slot] != 0) {
+                    if (estimate > 0) {
+                        estimate--;
+                    }
+                    action.accept(new KVPair<>(keys[slot], values[slot]));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super KVPair<K, V>> action) {
+            for (; index < fence; index++) {
+                if (hashes[index] != 0) {
+                    action.accept(new KVPair<>(keys[index], values[index]));
+                }
+            }
+            estimate = 0;
+        }
+
+        @Override
+        public Spliterator<KVPair<K, V>> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            estimate >>>= 1;
+            exact = false;
+            Spliterator<KVPair<K, V>> prefix = new OpenAddressingSpliterator<>(
+                    hashes, keys, values, index, mid, estimate);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.DISTINCT | Spliterator.NONNULL | (exact ? Spliterator.SIZED : 0);
+        }
+    }
+}
@@ -0,0 +1,610 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.ArrayBackedList;
+import datastructures.concrete.KVPair;
+import datastructures.concrete.StructureStats;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IList;
+import datastructures.interfaces.IStatsProvider;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+
+/**
+ * A dictionary that keeps its keys in sorted order, stored as a B+-tree.
+ *
+ * Every key-value pair lives in a leaf, and the leaves are linked left to right, so
+ * in-order iteration and range scans walk flat arrays without going back up the
+ * tree. The inner nodes only hold separator keys. Nodes are wide (up to 64 keys), so
+ * even 10^8 keys need only five levels, and a lookup does one binary search over a
+ * contiguous array per level instead of chasing a pointer per comparison.
+ *
+ * Unlike the hash dictionaries, this dictionary does not support null keys.
+ *
+ * @see IDictionary
+ */
+public class SortedDictionary<K extends Comparable<K>, V> implements IDictionary<K, V>, IStatsProvider {
+    private static final int LEAF_CAPACITY = 64;
+    private static final int INNER_CAPACITY = 64;
+
+    // Every node other than the root holds at least this many keys. Full nodes are
+    // split in half on the way down, which is where these bounds come from.
+    private static final int LEAF_MIN = LEAF_CAPACITY / 2;
+    private static final int INNER_MIN = (INNER_CAPACITY - 1) / 2;
+
+    // Invariants:
+    //  - Every leaf is 'height' levels below the root.
+    //  - In an inner node, child i holds exactly the keys k with
+    //    keys[i - 1] <= k < keys[i] (ignoring the bounds that don't exist).
+    private Node<K, V> root;
+    private int height;
+    private int size;
+    private int splitCount;
+
+    public SortedDictionary() {
+        this.root = new LeafNode<>();
+        this.height = 0;
+        this.size = 0;
+        this.splitCount = 0;
+    }
+
+    /**
+     * Returns a dictionary containing the given pairs, which must already be sorted by
+     * strictly increasing key.
+     *
+     * This runs in O(n) time: it fills the leaves left to right and then builds each
+     * level of inner nodes on top of the level below, rather than doing n separate
+     * puts. The nodes come out full, which makes later scans as cheap as possible.
+     *
+     * @throws IllegalArgumentException if a key is null, or the keys are not strictly increasing
+     */
+    public static <K extends Comparable<K>, V> SortedDictionary<K, V> bulkLoad(
+            Iterable<KVPair<K, V>> sortedPairs) {
+        SortedDictionary<K, V> dict = new SortedDictionary<>();
+        IList<Node<K, V>> level = new ArrayBackedList<>();
+        LeafNode<K, V> leaf = (LeafNode<K, V>) dict.root;
+        level.add(leaf);
+        K previous = null;
+        for (KVPair<K, V> pair : sortedPairs) {
+            K key = pair.getKey();
+            checkKey(key);
+            if (previous != null && previous.compareTo(key) >= 0) {
+                throw new IllegalArgumentException("Keys are not strictly increasing");
+            }
+            if (leaf.count == LEAF_CAPACITY) {
+                LeafNode<K, V> next = new LeafNode<>();
+                leaf.next = next;
+                next.prev = leaf;
+                leaf = next;
+                level.add(leaf);
+            }
+            leaf.keys[leaf.count] = key;
+            leaf.values[leaf.count] = pair.getValue();
+            leaf.count++;
+            dict.size++;
+            previous = key;
+        }
+        if (leaf.count < LEAF_MIN && leaf.prev != null) {
+            // Only the last leaf can come up short: top it up from its full neighbour
+            int moved = LEAF_MIN - leaf.count;
+            LeafNode<K, V> prev = leaf.prev;
+            System.arraycopy(leaf.keys, 0, leaf.keys, moved, leaf.count);
+            System.arraycopy(leaf.values, 0, leaf.values, moved, leaf.count);
+            System.arraycopy(prev.keys, prev.count - moved, leaf.keys, 0, moved);
+            System.arraycopy(prev.values, prev.count - moved, leaf.values, 0, moved);
+            Arrays.fill(prev.keys, prev.count - moved, prev.count, null);
+            Arrays.fill(prev.values, prev.count - moved, prev.count, null);
+            prev.count -= moved;
+            leaf.count += moved;
+        }
+
+        while (level.size() > 1) {
+            level = dict.buildInnerLevel(level);
+            dict.height++;
+        }
+        dict.root = level.get(0);
+        return dict;
+    }
+
+    // Groups the nodes of one level under as few inner nodes as possible, spreading
+    // the children evenly so that every new node stays above the minimum size.
+    private IList<Node<K, V>> buildInnerLevel(IList<Node<K, V>> children) {
+        int numChildren = children.size();
+        int numNodes = (numChildren + INNER_CAPACITY) / (INNER_CAPACITY + 1);
+        IList<Node<K, V>> parents = new ArrayBackedList<>();
+        Iterator<Node<K, V>> iter = children.iterator();
+        for (int n = 0; n < numNodes; n++) {
+            int childrenHere = numChildren / numNodes + (n < numChildren % numNodes ? 1 : 0);
+            InnerNode<K, V> parent = new InnerNode<>();
+            parent.children[0] = iter.next();
+            for (int i = 1; i < childrenHere; i++) {
+                Node<K, V> child = iter.next();
+                parent.keys[i - 1] = lowestKey(child, this.height);
+                parent.children[i] = child;
+            }
+            parent.count = childrenHere - 1;
+            parents.add(parent);
+        }
+        return parents;
+    }
+
+    // Returns the smallest key under the given node, which sits 'level' levels above the leaves.
+    private static <K extends Comparable<K>, V> K lowestKey(Node<K, V> node, int level) {
+        for (int i = level; i > 0; i--) {
+            node = ((InnerNode<K, V>) node).children[0];
+        }
+        return node.keys[0];
+    }
+
+    private static void checkKey(Object key) {
+        if (key == null) {
+            throw new IllegalArgumentException("SortedDictionary does not support null keys");
+        }
+    }
+
+    // Returns the index of the child of 'inner' whose range covers the given key.
+    private static <K extends Comparable<K>, V> int childIndex(InnerNode<K, V> inner, K key) {
+        int pos = Arrays.binarySearch(inner.keys, 0, inner.count, key);
+        return pos >= 0 ? pos + 1 : -(pos + 1);
+    }
+
+    // Returns the leaf whose range covers the given key.
+    private LeafNode<K, V> findLeaf(K key) {
+        Node<K, V> node = root;
+        for (int level = height; level > 0; level--) {
+            InnerNode<K, V> inner = (InnerNode<K, V>) node;
+            node = inner.children[childIndex(inner, key)];
+        }
+        return (LeafNode<K, V>) node;
+    }
+
+    // Returns the value corresponding to the given key.
+    @Override
+    public V get(K key) {
+        checkKey(key);
+        LeafNode<K, V> leaf = findLeaf(key);
+        int pos = Arrays.binarySearch(leaf.keys, 0, leaf.count, key);
+        if (pos < 0) {
+            throw new NoSuchKeyException();
+        }
+        return leaf.values[pos];
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        checkKey(key);
+        LeafNode<K, V> leaf = findLeaf(key);
+        int pos = Arrays.binarySearch(leaf.keys, 0, leaf.count, key);
+        return pos < 0 ? defaultValue : leaf.values[pos];
+    }
+
+    // Returns 'true' if the dictionary contains the given key and 'false' otherwise.
+    @Override
+    public boolean containsKey(K key) {
+        checkKey(key);
+        LeafNode<K, V> leaf = findLeaf(key);
+        return Arrays.binarySearch(leaf.keys, 0, leaf.count, key) >= 0;
+    }
+
+    // Adds the key-value pair to the dictionary. If the key already exists in the dictionary,
+    // replace its value with the given one.
+    //
+    // Full nodes are split on the way down, so that there is always room in the parent
+    // for the new separator and we never have to walk back up the tree.
+    @Override
+    public void put(K key, V value) {
+        checkKey(key);
+        if (isFull(root, height)) {
+            InnerNode<K, V> newRoot = new InnerNode<>();
+            newRoot.children[0] = root;
+            root = newRoot;
+            height++;
+            splitChild(newRoot, 0, height - 1);
+        }
+        Node<K, V> node = root;
+        for (int level = height; level > 0; level--) {
+            InnerNode<K, V> inner = (InnerNode<K, V>) node;
+            int i = childIndex(inner, key);
+            if (isFull(inner.children[i], level - 1)) {
+                splitChild(inner, i, level - 1);
+                i = childIndex(inner, key);
+            }
+            node = inner.children[i];
+        }
+        LeafNode<K, V> leaf = (LeafNode<K, V>) node;
+        int pos = Arrays.binarySearch(leaf.keys, 0, leaf.count, key);
+        if (pos >= 0) {
+            leaf.values[pos] = value;
+            return;
+        }
+        pos = -(pos + 1);
+        System.arraycopy(leaf.keys, pos, leaf.keys, pos + 1, leaf.count - pos);
+        System.arraycopy(leaf.values, pos, leaf.values, pos + 1, leaf.count - pos);
+        leaf.keys[pos] = key;
+        leaf.values[pos] = value;
+        leaf.count++;
+        size++;
+    }
+
+    private static boolean isFull(Node<?, ?> node, int level) {
+        return node.count == (level == 0 ? LEAF_CAPACITY : INNER_CAPACITY);
+    }
+
+    // Pre : parent has room for one more key, and parent.children[i] is full.
+    // Post: Moves the upper half of children[i] into a new node at children[i + 1],
+    //       with a separator key between them.
+    private void splitChild(InnerNode<K, V> parent, int i, int childLevel) {
+        splitCount++;
+        Node<K, V> child = parent.children[i];
+        Node<K, V> right;
+        K separator;
+        if (childLevel == 0) {
+            LeafNode<K, V> left = (LeafNode<K, V>) child;
+            LeafNode<K, V> newLeaf = new LeafNode<>();
+            int mid = left.count / 2;
+            newLeaf.count = left.count - mid;
+            System.arraycopy(left.keys, mid, newLeaf.keys, 0, newLeaf.count);
+            System.arraycopy(left.values, mid, newLeaf.values, 0, newLeaf.count);
+            Arrays.fill(left.keys, mid, left.count, null);
+            Arrays.fill(left.values, mid, left.count, null);
+            left.count = mid;
+            newLeaf.next = left.next;
+            newLeaf.prev = left;
+            if (left.next != null) {
+                left.next.prev = newLeaf;
+            }
+            left.next = newLeaf;
+            right = newLeaf;
+            separator = newLeaf.keys[0];
+        } else {
+            InnerNode<K, V> left = (InnerNode<K, V>) child;
+            InnerNode<K, V> newInner = new InnerNode<>();
+            int mid = left.count / 2;
+            separator = left.keys[mid];
+            newInner.count = left.count - mid - 1;
+            System.arraycopy(left.keys, mid + 1, newInner.keys, 0, newInner.count);
+            System.arraycopy(left.children, mid + 1, newInner.children, 0, newInner.count + 1);
+            Arrays.fill(left.keys, mid, left.count, null);
+            Arrays.fill(left.children, mid + 1, left.count + 1, null);
+            left.count = mid;
+            right = newInner;
+        }
+        System.arraycopy(parent.keys, i, parent.keys, i + 1, parent.count - i);
+        System.arraycopy(parent.children, i + 1, parent.children, i + 2, parent.count - i);
+        parent.keys[i] = separator;
+        parent.children[i + 1] = right;
+        parent.count++;
+    }
+
+    // Pre : Throws NoSuchKeyException if the dictionary does not contain the given key.
+    // Post: Remove the key-value pair corresponding to the given key from the dictionary.
+    //
+    // Like put, this fixes nodes on the way down: before stepping into a child that is
+    // at its minimum size, it borrows a key from a sibling or merges with one, so the
+    // removal at the leaf never has to propagate back up.
+    @Override
+    public V remove(K key) {
+        checkKey(key);
+        Node<K, V> node = root;
+        for (int level = height; level > 0; level--) {
+            InnerNode<K, V> inner = (InnerNode<K, V>) node;
+            int i = childIndex(inner, key);
+            if (inner.children[i].count <= (level == 1 ? LEAF_MIN : INNER_MIN)) {
+                refill(inner, i, level - 1);
+                i = childIndex(inner, key);
+            }
+            node = inner.children[i];
+        }
+        while (height > 0 && root.count == 0) {
+            root = ((InnerNode<K, V>) root).children[0];
+            height--;
+        }
+
+        LeafNode<K, V> leaf = (LeafNode<K, V>) node;
+        int pos = Arrays.binarySearch(leaf.keys, 0, leaf.count, key);
+        if (pos < 0) {
+            throw new NoSuchKeyException();
+        }
+        V removed = leaf.values[pos];
+        System.arraycopy(leaf.keys, pos + 1, leaf.keys, pos, leaf.count - pos - 1);
+        System.arraycopy(leaf.values, pos + 1, leaf.values, pos, leaf.count - pos - 1);
+        leaf.count--;
+        leaf.keys[leaf.count] = null;
+        leaf.values[leaf.count] = null;
+        size--;
+        return removed;
+    }
+
+    // Pre : parent.children[i] is at its minimum size, and parent is either the root
+    //       or above its own minimum size.
+    // Post: children[i] has grown by borrowing from a sibling, or has been merged with one.
+    private void refill(InnerNode<K, V> parent, int i, int childLevel) {
+        int min = childLevel == 0 ? LEAF_MIN : INNER_MIN;
+        if (i > 0 && parent.children[i - 1].count > min) {
+            borrowFromLeft(parent, i, childLevel);
+        } else if (i < parent.count && parent.children[i + 1].count > min) {
+            borrowFromRight(parent, i, childLevel);
+        } else if (i < parent.count) {
+            merge(parent, i, childLevel);
+        } else {
+            merge(parent, i - 1, childLevel);
+        }
+    }
+
+    private void borrowFromLeft(InnerNode<K, V> parent, int i, int childLevel) {
+        if (childLevel == 0) {
+            LeafNode<K, V> left = (LeafNode<K, V>) parent.children[i - 1];
+            LeafNode<K, V> child = (LeafNode<K, V>) parent.children[i];
+            System.arraycopy(child.keys, 0, child.keys, 1, child.count);
+            System.arraycopy(child.values, 0, child.values, 1, child.count);
+            left.count--;
+            child.keys[0] = left.keys[left.count];
+            child.values[0] = left.values[left.count];
+            left.keys[left.count] = null;
+            left.values[left.count] = null;
+            child.count++;
+            parent.keys[i - 1] = child.keys[0];
+        } else {
+            InnerNode<K, V> left = (InnerNode<K, V>) parent.children[i - 1];
+            InnerNode<K, V> child = (InnerNode<K, V>) parent.children[i];
+            System.arraycopy(child.keys, 0, child.keys, 1, child.count);
+            System.arraycopy(child.children, 0, child.children, 1, child.count + 1);
+            child.keys[0] = parent.keys[i - 1];
+            child.children[0] = left.children[left.count];
+            child.count++;
+            parent.keys[i - 1] = left.keys[left.count - 1];
+            left.keys[left.count - 1] = null;
+            left.children[left.count] = null;
+            left.count--;
+        }
+    }
+
+    private void borrowFromRight(InnerNode<K, V> parent, int i, int childLevel) {
+        if (childLevel == 0) {
+            LeafNode<K, V> child = (LeafNode<K, V>) parent.children[i];
+            LeafNode<K, V> right = (LeafNode<K, V>) parent.children[i + 1];
+            child.keys[child.count] = right.keys[0];
+            child.values[child.count] = right.values[0];
+            child.count++;
+            right.count--;
+            System.arraycopy(right.keys, 1, right.keys, 0, right.count);
+            System.arraycopy(right.values, 1, right.values, 0, right.count);
+            right.keys[right.count] = null;
+            right.values[right.count] = null;
+            parent.keys[i] = right.keys[0];
+        } else {
+            InnerNode<K, V> child = (InnerNode<K, V>) parent.children[i];
+            InnerNode<K, V> right = (InnerNode<K, V>) parent.children[i + 1];
+            child.keys[child.count] = parent.keys[i];
+            child.children[child.count + 1] = right.children[0];
+            child.count++;
+            parent.keys[i] = right.keys[0];
+            System.arraycopy(right.keys, 1, right.keys, 0, right.count - 1);
+            System.arraycopy(right.children, 1, right.children, 0, right.count);
+            right.keys[right.count - 1] = null;
+            right.children[right.count] = null;
+            right.count--;
+        }
+    }
+
+    // Pre : children[i] and children[i + 1] are small enough to fit in one node.
+    // Post: Moves everything in children[i + 1] into children[i], and removes
+    //       children[i + 1] and its separator from the parent.
+    private void merge(InnerNode<K, V> parent, int i, int childLevel) {
+        if (childLevel == 0) {
+            LeafNode<K, V> left = (LeafNode<K, V>) parent.children[i];
+            LeafNode<K, V> right = (LeafNode<K, V>) parent.children[i + 1];
+            System.arraycopy(right.keys, 0, left.keys, left.count, right.count);
+            System.arraycopy(right.values, 0, left.values, left.count, right.count);
+            left.count += right.count;
+            left.next = right.next;
+            if (right.next != null) {
+                right.next.prev = left;
+            }
+        } else {
+            InnerNode<K, V> left = (InnerNode<K, V>) parent.children[i];
+            InnerNode<K, V> right = (InnerNode<K, V>) parent.children[i + 1];
+            left.keys[left.count] = parent.keys[i];
+            System.arraycopy(right.keys, 0, left.keys, left.count + 1, right.count);
+            System.arraycopy(right.children, 0, left.children, left.count + 1, right.count + 1);
+            left.count += right.count + 1;
+        }
+        System.arraycopy(parent.keys, i + 1, parent.keys, i, parent.count - i - 1);
+        System.arraycopy(parent.children, i + 2, parent.children, i + 1, parent.count - i - 1);
+        parent.count--;
+        parent.keys[parent.count] = null;
+        parent.children[parent.count + 1] = null;
+    }
+
+    // Returns the number of key-value pairs stored in this dictionary.
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the greatest key in this dictionary that is less than or equal to the
+     * given key, or null if there is no such key.
+     *
+     * @throws IllegalArgumentException if the key is null
+     */
+    public K floorKey(K key) {
+        checkKey(key);
+        LeafNode<K, V> leaf = findLeaf(key);
+        int pos = Arrays.binarySearch(leaf.keys, 0, leaf.count, key);
+        if (pos >= 0) {
+            return leaf.keys[pos];
+        }
+        int before = -(pos + 1) - 1;
+        if (before >= 0) {
+            return leaf.keys[before];
+        }
+        // Every key in the previous leaf is below this leaf's separator, so below 'key' too
+        return leaf.prev == null ? null : leaf.prev.keys[leaf.prev.count - 1];
+    }
+
+    /**
+     * Returns the least key in this dictionary that is greater than or equal to the
+     * given key, or null if there is no such key.
+     *
+     * @throws IllegalArgumentException if the key is null
+     */
+    public K ceilingKey(K key) {
+        checkKey(key);
+        LeafNode<K, V> leaf = findLeaf(key);
+        int pos = Arrays.binarySearch(leaf.keys, 0, leaf.count, key);
+        if (pos >= 0) {
+            return leaf.keys[pos];
+        }
+        int after = -(pos + 1);
+        if (after < leaf.count) {
+            return leaf.keys[after];
+        }
+        return leaf.next == null ? null : leaf.next.keys[0];
+    }
+
+    /**
+     * Returns an iterator over the key-value pairs whose keys are at least 'from' and
+     * less than 'to', in increasing key order. Finding the first pair takes
+     * O(log(n)) time; after that, each step is O(1).
+     *
+     * Adding or removing keys while the iterator is in use leaves it in an undefined state.
+     *
+     * @throws IllegalArgumentException if either key is null, or 'from' is greater than 'to'
+     */
+    public Iterator<KVPair<K, V>> range(K from, K to) {
+        checkKey(from);
+        checkKey(to);
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Range start is greater than range end");
+        }
+        LeafNode<K, V> leaf = findLeaf(from);
+        int pos = Arrays.binarySearch(leaf.keys, 0, leaf.count, from);
+        return new RangeIterator<>(leaf, pos >= 0 ? pos : -(pos + 1), to);
+    }
+
+    // Returns the pairs in increasing key order.
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new RangeIterator<>(firstLeaf(), 0, null);
+    }
+
+    // Calls the action on every pair in increasing key order, without creating any KVPairs.
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (LeafNode<K, V> leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.count; i++) {
+                action.accept(leaf.keys[i], leaf.values[i]);
+            }
+        }
+    }
+
+    private LeafNode<K, V> firstLeaf() {
+        Node<K, V> node = root;
+        for (int level = height; level > 0; level--) {
+            node = ((InnerNode<K, V>) node).children[0];
+        }
+        return (LeafNode<K, V>) node;
+    }
+
+    // Runs in O(nodes) time. The capacity is the number of key slots across all the
+    // leaves, the resize count is the number of node splits, and the tree height is
+    // the number of inner levels above the leaves.
+    @Override
+    public StructureStats getStats() {
+        long bytes = StructureStats.objectBytes(StructureStats.REFERENCE_BYTES + 3 * Integer.BYTES);
+        long innerNodes = countInnerNodes(root, height);
+        bytes += innerNodes * (StructureStats.objectBytes(2 * StructureStats.REFERENCE_BYTES + Integer.BYTES)
+                + StructureStats.arrayBytes(INNER_CAPACITY, StructureStats.REFERENCE_BYTES)
+                + StructureStats.arrayBytes(INNER_CAPACITY + 1, StructureStats.REFERENCE_BYTES));
+        int leaves = 0;
+        for (LeafNode<K, V> leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            leaves++;
+        }
+        bytes += leaves * (StructureStats.objectBytes(4 * StructureStats.REFERENCE_BYTES + Integer.BYTES)
+                + 2 * StructureStats.arrayBytes(LEAF_CAPACITY, StructureStats.REFERENCE_BYTES));
+        StructureStats stats = new StructureStats(size, leaves * LEAF_CAPACITY, bytes, splitCount);
+        stats.setTreeHeight(height);
+        return stats;
+    }
+
+    private static long countInnerNodes(Node<?, ?> node, int level) {
+        if (level == 0) {
+            return 0;
+        }
+        long total = 1;
+        InnerNode<?, ?> inner = (InnerNode<?, ?>) node;
+        for (int i = 0; i <= inner.count; i++) {
+            total += countInnerNodes(inner.children[i], level - 1);
+        }
+        return total;
+    }
+
+    private abstract static class Node<K extends Comparable<K>, V> {
+        public K[] keys;
+        public int count;
+    }
+
+    private static class LeafNode<K extends Comparable<K>, V> extends Node<K, V> {
+        public V[] values;
+        public LeafNode<K, V> prev;
+        public LeafNode<K, V> next;
+
+        @SuppressWarnings("unchecked")
+        public LeafNode() {
+            this.keys = (K[]) new Comparable[LEAF_CAPACITY];
+            this.values = (V[]) new Object[LEAF_CAPACITY];
+            this.count = 0;
+        }
+    }
+
+    private static class InnerNode<K extends Comparable<K>, V> extends Node<K, V> {
+        public Node<K, V>[] children;
+
+        @SuppressWarnings("unchecked")
+        public InnerNode() {
+            this.keys = (K[]) new Comparable[INNER_CAPACITY];
+            this.children = (Node<K, V>[]) new Node[INNER_CAPACITY + 1];
+            this.count = 0;
+        }
+    }
+
+    private static class RangeIterator<K extends Comparable<K>, V> implements Iterator<KVPair<K, V>> {
+        private LeafNode<K, V> leaf;
+        private int index;
+        private K end; // exclusive; null means no upper bound
+
+        public RangeIterator(LeafNode<K, V> leaf, int index, K end) {
+            this.leaf = leaf;
+            this.index = index;
+            this.end = end;
+            skipFinishedLeaves();
+        }
+
+        private void skipFinishedLeaves() {
+            while (leaf != null && index >= leaf.count) {
+                leaf = leaf.next;
+                index = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return leaf != null && (end == null || leaf.keys[index].compareTo(end) < 0);
+        }
+
+        @Override
+        public KVPair<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            KVPair<K, V> result = new KVPair<>(leaf.keys[index], leaf.values[index]);
+            index++;
+            skipFinishedLeaves();
+            return result;
+        }
+    }
+}
@@ -0,0 +1,484 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.StructureStats;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IStatsProvider;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A dictionary with string keys, stored as a radix tree (a trie where every chain of
+ * single-child nodes is collapsed into one node with a multi-character label).
+ *
+ * Keys that share a prefix share the nodes for that prefix, so a large vocabulary of
+ * related words takes much less memory than storing every word as its own String.
+ * Lookups compare characters straight from the given CharSequence, so callers can
+ * look up a slice of a larger text without creating a substring first.
+ *
+ * Each node keeps the first characters of its children in a small sorted char array,
+ * next to the child pointers. Nodes with a few children scan that array directly;
+ * larger nodes binary search it.
+ *
+ * Unlike the hash dictionaries, this dictionary does not support null keys.
+ *
+ * @see IDictionary
+ */
+public class StringDictionary<V> implements IDictionary<String, V>, IStatsProvider {
+    private static final char[] EMPTY_LABEL = new char[0];
+
+    // The root always has an empty label, so it never needs to be split.
+    private Node<V> root;
+    private int size;
+    private int splitCount;
+
+    public StringDictionary() {
+        this.root = new Node<>(EMPTY_LABEL);
+        this.size = 0;
+        this.splitCount = 0;
+    }
+
+    private static void checkKey(Object key) {
+        if (key == null) {
+            throw new IllegalArgumentException("StringDictionary does not support null keys");
+        }
+    }
+
+    private static void checkRange(CharSequence text, int start, int end) {
+        checkKey(text);
+        if (start < 0 || end > text.length() || start > end) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    // Returns the node whose key is exactly text[start, end), or null if there is none.
+    // The node may not hold a value.
+    private Node<V> findNode(CharSequence text, int start, int end) {
+        Node<V> node = root;
+        int pos = start;
+        while (true) {
+            char[] label = node.label;
+            if (end - pos < label.length) {
+                return null;
+            }
+            for (int i = 0; i < label.length; i++) {
+                if (text.charAt(pos + i) != label[i]) {
+                    return null;
+                }
+            }
+            pos += label.length;
+            if (pos == end) {
+                return node;
+            }
+            int index = node.findChild(text.charAt(pos));
+            if (index < 0) {
+                return null;
+            }
+            node = node.children[index];
+        }
+    }
+
+    // Returns the value corresponding to the given key.
+    @Override
+    public V get(String key) {
+        checkKey(key);
+        Node<V> node = findNode(key, 0, key.length());
+        if (node == null || !node.hasValue) {
+            throw new NoSuchKeyException();
+        }
+        return node.value;
+    }
+
+    @Override
+    public V getOrDefault(String key, V defaultValue) {
+        checkKey(key);
+        return getOrDefault(key, 0, key.length(), defaultValue);
+    }
+
+    /**
+     * Returns the value of the key made of the characters text[start, end), or the
+     * default value if there is no such key. This does not create a new String.
+     *
+     * @throws IllegalArgumentException if text is null
+     * @throws IndexOutOfBoundsException if start and end are not a valid range of text
+     */
+    public V getOrDefault(CharSequence text, int start, int end, V defaultValue) {
+        checkRange(text, start, end);
+        Node<V> node = findNode(text, start, end);
+        return node == null || !node.hasValue ? defaultValue : node.value;
+    }
+
+    // Returns 'true' if the dictionary contains the given key and 'false' otherwise.
+    @Override
+    public boolean containsKey(String key) {
+        checkKey(key);
+        return containsKey(key, 0, key.length());
+    }
+
+    /**
+     * Returns 'true' if the key made of the characters text[start, end) is in this
+     * dictionary. This does not create a new String.
+     *
+     * @throws IllegalArgumentException if text is null
+     * @throws IndexOutOfBoundsException if start and end are not a valid range of text
+     */
+    public boolean containsKey(CharSequence text, int start, int end) {
+        checkRange(text, start, end);
+        Node<V> node = findNode(text, start, end);
+        return node != null && node.hasValue;
+    }
+
+    // Adds the key-value pair to the dictionary. If the key already exists in the dictionary,
+    // replace its value with the given one.
+    @Override
+    public void put(String key, V value) {
+        checkKey(key);
+        Node<V> node = root;
+        int pos = 0;
+        int end = key.length();
+        while (true) {
+            char[] label = node.label;
+            int matched = 0;
+            while (matched < label.length && pos + matched < end
+                    && key.charAt(pos + matched) == label[matched]) {
+                matched++;
+            }
+            if (matched < label.length) {
+                // The key leaves this node's label part way through
+                split(node, matched);
+            }
+            pos += matched;
+            if (pos == end) {
+                if (!node.hasValue) {
+                    node.hasValue = true;
+                    size++;
+                }
+                node.value = value;
+                return;
+            }
+            int index = node.findChild(key.charAt(pos));
+            if (index < 0) {
+                char[] rest = new char[end - pos];
+                key.getChars(pos, end, rest, 0);
+                Node<V> leaf = new Node<>(rest);
+                leaf.hasValue = true;
+                leaf.value = value;
+                node.insertChild(-(index + 1), leaf);
+                size++;
+                return;
+            }
+            node = node.children[index];
+        }
+    }
+
+    // Pre : 0 < at < node.label.length
+    // Post: Cuts the node's label at the given offset. The node keeps the first part,
+    //       and a new only child takes the rest of the label along with everything
+    //       the node held before.
+    private void split(Node<V> node, int at) {
+        splitCount++;
+        Node<V> suffix = new Node<>(Arrays.copyOfRange(node.label, at, node.label.length));
+        suffix.childChars = node.childChars;
+        suffix.children = node.children;
+        suffix.childCount = node.childCount;
+        suffix.hasValue = node.hasValue;
+        suffix.value = node.value;
+
+        node.label = Arrays.copyOf(node.label, at);
+        node.childChars = null;
+        node.children = null;
+        node.childCount = 0;
+        node.hasValue = false;
+        node.value = null;
+        node.insertChild(0, suffix);
+    }
+
+    // Pre : Throws NoSuchKeyException if the dictionary does not contain the given key.
+    // Post: Remove the key-value pair corresponding to the given key from the dictionary.
+    //
+    // Nodes left without a value or children are dropped, and nodes left with no value
+    // and one child are merged with that child, so the tree stays fully compressed.
+    @Override
+    public V remove(String key) {
+        checkKey(key);
+        Node<V> parent = null;
+        int indexInParent = -1;
+        Node<V> node = root;
+        int pos = 0;
+        int end = key.length();
+        while (true) {
+            char[] label = node.label;
+            if (end - pos < label.length) {
+                throw new NoSuchKeyException();
+            }
+            for (int i = 0; i < label.length; i++) {
+                if (key.charAt(pos + i) != label[i]) {
+                    throw new NoSuchKeyException();
+                }
+            }
+            pos += label.length;
+            if (pos == end) {
+                break;
+            }
+            int index = node.findChild(key.charAt(pos));
+            if (index < 0) {
+                throw new NoSuchKeyException();
+            }
+            parent = node;
+            indexInParent = index;
+            node = node.children[index];
+        }
+        if (!node.hasValue) {
+            throw new NoSuchKeyException();
+        }
+
+        V removed = node.value;
+        node.hasValue = false;
+        node.value = null;
+        size--;
+        if (node != root) {
+            if (node.childCount == 0) {
+                parent.removeChild(indexInParent);
+                if (parent != root && !parent.hasValue && parent.childCount == 1) {
+                    mergeWithOnlyChild(parent);
+                }
+            } else if (node.childCount == 1) {
+                mergeWithOnlyChild(node);
+            }
+        }
+        return removed;
+    }
+
+    // Pre : node is not the root, holds no value, and has exactly one child.
+    // Post: Absorbs the child into the node, joining their labels.
+    private static <V> void mergeWithOnlyChild(Node<V> node) {
+        Node<V> child = node.children[0];
+        char[] label = Arrays.copyOf(node.label, node.label.length + child.label.length);
+        System.arraycopy(child.label, 0, label, node.label.length, child.label.length);
+        node.label = label;
+        node.childChars = child.childChars;
+        node.children = child.children;
+        node.childCount = child.childCount;
+        node.hasValue = child.hasValue;
+        node.value = child.value;
+    }
+
+    // Returns the number of key-value pairs stored in this dictionary.
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    // Returns the pairs in increasing key order.
+    @Override
+    public Iterator<KVPair<String, V>> iterator() {
+        return new TrieIterator<>(root, "", 0);
+    }
+
+    /**
+     * Returns an iterator over every key-value pair whose key starts with the given
+     * prefix, in increasing key order. Finding where the prefix ends takes O(prefix
+     * length) time, no matter how many keys the dictionary holds.
+     *
+     * Adding or removing keys while the iterator is in use leaves it in an undefined state.
+     *
+     * @throws IllegalArgumentException if prefix is null
+     */
+    public Iterator<KVPair<String, V>> withPrefix(CharSequence prefix) {
+        checkKey(prefix);
+        Node<V> node = root;
+        int pos = 0;
+        int end = prefix.length();
+        while (true) {
+            char[] label = node.label;
+            int compared = Math.min(end - pos, label.length);
+            for (int i = 0; i < compared; i++) {
+                if (prefix.charAt(pos + i) != label[i]) {
+                    return new TrieIterator<>(null, "", 0);
+                }
+            }
+            if (end - pos <= label.length) {
+                // The prefix ends inside this node's label, so every key below it matches
+                return new TrieIterator<>(node, prefix, pos);
+            }
+            pos += label.length;
+            int index = node.findChild(prefix.charAt(pos));
+            if (index < 0) {
+                return new TrieIterator<>(null, "", 0);
+            }
+            node = node.children[index];
+        }
+    }
+
+    // Runs in O(nodes) time. The capacity is the number of nodes, the resize count is
+    // the number of node splits, and the tree height is the depth of the deepest node.
+    @Override
+    public StructureStats getStats() {
+        long[] totals = new long[3]; // nodes, bytes, max depth
+        addNodeStats(root, 0, totals);
+        long bytes = StructureStats.objectBytes(StructureStats.REFERENCE_BYTES + 2 * Integer.BYTES) + totals[1];
+        StructureStats stats = new StructureStats(size, (int) totals[0], bytes, splitCount);
+        stats.setTreeHeight((int) totals[2]);
+        return stats;
+    }
+
+    private static void addNodeStats(Node<?> node, int depth, long[] totals) {
+        totals[0]++;
+        totals[1] += StructureStats.objectBytes(4 * StructureStats.REFERENCE_BYTES + Integer.BYTES + 1)
+                + StructureStats.arrayBytes(node.label.length, Character.BYTES);
+        if (node.children != null) {
+            totals[1] += StructureStats.arrayBytes(node.childChars.length, Character.BYTES)
+                    + StructureStats.arrayBytes(node.children.length, StructureStats.REFERENCE_BYTES);
+        }
+        totals[2] = Math.max(totals[2], depth);
+        for (int i = 0; i < node.childCount; i++) {
+            addNodeStats(node.children[i], depth + 1, totals);
+        }
+    }
+
+    private static class Node<V> {
+        // Nodes with at most this many children scan childChars instead of binary searching it
+        private static final int LINEAR_SEARCH_LIMIT = 8;
+
+        public char[] label;
+        // Both null while the node has no children. childChars[i] is the first
+        // character of children[i].label, and childChars is kept sorted.
+        public char[] childChars;
+        public Node<V>[] children;
+        public int childCount;
+        public boolean hasValue;
+        public V value;
+
+        public Node(char[] label) {
+            this.label = label;
+            this.childChars = null;
+            this.children = null;
+            this.childCount = 0;
+            this.hasValue = false;
+            this.value = null;
+        }
+
+        // Returns the index of the child whose label starts with c. If there is none,
+        // returns -(insertion point) - 1, like Arrays.binarySearch.
+        public int findChild(char c) {
+            if (childCount <= LINEAR_SEARCH_LIMIT) {
+                for (int i = 0; i < childCount; i++) {
+                    if (childChars[i] >= c) {
+                        return childChars[i] == c ? i : -(i + 1);
+                    }
+                }
+                return -(childCount + 1);
+            }
+            return Arrays.binarySearch(childChars, 0, childCount, c);
+        }
+
+        @SuppressWarnings("unchecked")
+        public void insertChild(int index, Node<V> child) {
+            if (children == null) {
+                childChars = new char[2];
+                children = (Node<V>[]) new Node[2];
+            } else if (childCount == children.length) {
+                childChars = Arrays.copyOf(childChars, childCount * 2);
+                children = Arrays.copyOf(children, childCount * 2);
+            }
+            System.arraycopy(childChars, index, childChars, index + 1, childCount - index);
+            System.arraycopy(children, index, children, index + 1, childCount - index);
+            childChars[index] = child.label[0];
+            children[index] = child;
+            childCount++;
+        }
+
+        public void removeChild(int index) {
+            childCount--;
+            if (childCount == 0) {
+                childChars = null;
+                children = null;
+                return;
+            }
+            System.arraycopy(childChars, index + 1, childChars, index, childCount - index);
+            System.arraycopy(children, index + 1, children, index, childCount - index);
+            children[childCount] = null;
+        }
+    }
+
+    // Walks a subtree in pre-order, which is increasing key order since every node's
+    // children are sorted. The key of the current node is kept in one StringBuilder
+    // that grows and shrinks as we go down and back up.
+    private static class TrieIterator<V> implements Iterator<KVPair<String, V>> {
+        private Node<V>[] nodes;
+        private int[] nextChild; // -1 until the node's own value has been considered
+        private int[] keyStart;  // length of the key before this node's label was added
+        private int depth;
+        private StringBuilder key;
+        private KVPair<String, V> next;
+
+        // The key of 'start' is keyPrefix[0, prefixLength) followed by start's label.
+        @SuppressWarnings("unchecked")
+        public TrieIterator(Node<V> start, CharSequence keyPrefix, int prefixLength) {
+            this.nodes = (Node<V>[]) new Node[8];
+            this.nextChild = new int[8];
+            this.keyStart = new int[8];
+            this.depth = 0;
+            this.key = new StringBuilder();
+            this.key.append(keyPrefix, 0, prefixLength);
+            if (start != null) {
+                push(start);
+            }
+            this.next = findNext();
+        }
+
+        private void push(Node<V> node) {
+            if (depth == nodes.length) {
+                nodes = Arrays.copyOf(nodes, depth * 2);
+                nextChild = Arrays.copyOf(nextChild, depth * 2);
+                keyStart = Arrays.copyOf(keyStart, depth * 2);
+            }
+            nodes[depth] = node;
+            nextChild[depth] = -1;
+            keyStart[depth] = key.length();
+            key.append(node.label);
+            depth++;
+        }
+
+        private KVPair<String, V> findNext() {
+            while (depth > 0) {
+                int top = depth - 1;
+                Node<V> node = nodes[top];
+                if (nextChild[top] == -1) {
+                    nextChild[top] = 0;
+                    if (node.hasValue) {
+                        return new KVPair<>(key.toString(), node.value);
+                    }
+                }
+                if (nextChild[top] < node.childCount) {
+                    Node<V> child = node.children[nextChild[top]];
+                    nextChild[top]++;
+                    push(child);
+                } else {
+                    key.setLength(keyStart[top]);
+                    nodes[top] = null;
+                    depth--;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public KVPair<String, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            KVPair<String, V> result = next;
+            next = findNext();
+            return result;
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.StructureStats;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A ChainedHashDictionary chain that keeps its pairs in an AVL tree, used once a
+ * bucket gets too long to scan.
+ *
+ * The tree is ordered by hash code first. Keys with the same hash code are ordered
+ * by compareTo when they are Comparable instances of the same class, which keeps
+ * lookups at O(log(n)) even when every key in the bucket has the same hash code.
+ * Keys that can't be told apart that way are placed by an arbitrary tie-breaker,
+ * and finding them means searching both sides of the tie, just as a flat chain would.
+ *
+ * The nodes also live in an array, in no particular order, so that the chain can
+ * hand out its pairs by position like ArrayDictionary does.
+ */
+class TreeChain<K, V> extends IndexedChain<K, V> {
+    private Node<K, V> root;
+    private Node<K, V>[] nodes; // nodes[i].slot == i for every i < size
+    private int size;
+
+    /**
+     * Creates a tree holding all the pairs of the given chain.
+     */
+    public TreeChain(IndexedChain<K, V> chain) {
+        this.root = null;
+        this.nodes = makeArrayOfNodes(Math.max(4, chain.size() * 2));
+        this.size = 0;
+        for (int i = 0; i < chain.size(); i++) {
+            put(chain.keyAt(i), chain.valueAt(i));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V>[] makeArrayOfNodes(int arraySize) {
+        return (Node<K, V>[]) new Node[arraySize];
+    }
+
+    private static int hash(Object key) {
+        return key == null ? 0 : key.hashCode();
+    }
+
+    private static boolean keysEqual(Object a, Object b) {
+        return a == b || (a != null && a.equals(b));
+    }
+
+    // Compares two keys with equal hash codes by their natural order, if they have
+    // one in common. Returns 0 if they can't be compared this way.
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareComparables(Object a, Object b) {
+        if (a == null || b == null || a.getClass() != b.getClass() || !(a instanceof Comparable)) {
+            return 0;
+        }
+        return ((Comparable) a).compareTo(b);
+    }
+
+    // Orders keys that are tied on hash code and natural order. Never returns 0, so
+    // every new key gets a definite side, but the result means nothing to lookups.
+    private static int tieBreak(Object a, Object b) {
+        String classA = a == null ? "" : a.getClass().getName();
+        String classB = b == null ? "" : b.getClass().getName();
+        int cmp = classA.compareTo(classB);
+        if (cmp != 0) {
+            return cmp;
+        }
+        return System.identityHashCode(a) <= System.identityHashCode(b) ? -1 : 1;
+    }
+
+    // Returns the node holding the given key in the subtree under 'node', or null.
+    private static <K, V> Node<K, V> find(Node<K, V> node, int hash, K key) {
+        while (node != null) {
+            if (hash < node.hash) {
+                node = node.left;
+            } else if (hash > node.hash) {
+                node = node.right;
+            } else if (keysEqual(key, node.key)) {
+                return node;
+            } else {
+                int cmp = compareComparables(key, node.key);
+                if (cmp < 0) {
+                    node = node.left;
+                } else if (cmp > 0) {
+                    node = node.right;
+                } else {
+                    // The tie-breaker could have put the key on either side
+                    Node<K, V> found = find(node.right, hash, key);
+                    if (found != null) {
+                        return found;
+                    }
+                    node = node.left;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public V get(K key) {
+        Node<K, V> node = find(root, hash(key), key);
+        if (node == null) {
+            throw new NoSuchKeyException();
+        }
+        return node.value;
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        Node<K, V> node = find(root, hash(key), key);
+        return node == null ? defaultValue : node.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return find(root, hash(key), key) != null;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        int hash = hash(key);
+        Node<K, V> existing = find(root, hash, key);
+        if (existing != null) {
+            existing.value = value;
+            return;
+        }
+
+        Node<K, V> parent = null;
+        Node<K, V> current = root;
+        int cmp = 0;
+        while (current != null) {
+            parent = current;
+            cmp = Integer.compare(hash, current.hash);
+            if (cmp == 0) {
+                cmp = compareComparables(key, current.key);
+            }
+            if (cmp == 0) {
+                cmp = tieBreak(key, current.key);
+            }
+            current = cmp < 0 ? current.left : current.right;
+        }
+        Node<K, V> node = new Node<>(hash, key, value, parent);
+        if (parent == null) {
+            root = node;
+        } else if (cmp < 0) {
+            parent.left = node;
+        } else {
+            parent.right = node;
+        }
+
+        if (size == nodes.length) {
+            nodes = Arrays.copyOf(nodes, size * 2);
+        }
+        node.slot = size;
+        nodes[size] = node;
+        size++;
+        retrace(parent);
+    }
+
+    @Override
+    public V remove(K key) {
+        Node<K, V> node = find(root, hash(key), key);
+        if (node == null) {
+            throw new NoSuchKeyException();
+        }
+        V removed = node.value;
+        if (node.left != null && node.right != null) {
+            // Move the successor's pair into this node and unlink the successor instead,
+            // which has at most one child
+            Node<K, V> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.hash = successor.hash;
+            node.key = successor.key;
+            node.value = successor.value;
+            node = successor;
+        }
+        Node<K, V> child = node.left != null ? node.left : node.right;
+        if (child != null) {
+            child.parent = node.parent;
+        }
+        replaceChild(node.parent, node, child);
+        retrace(node.parent);
+
+        // Fill the unlinked node's slot with the last node
+        Node<K, V> last = nodes[size - 1];
+        nodes[node.slot] = last;
+        last.slot = node.slot;
+        nodes[size - 1] = null;
+        size--;
+        return removed;
+    }
+
+    // Walks from the given node up to the root, fixing heights and rotating wherever
+    // the two subtrees' heights differ by more than one.
+    private void retrace(Node<K, V> node) {
+        while (node != null) {
+            node = rebalance(node);
+            node = node.parent;
+        }
+    }
+
+    // Returns the root of the rebalanced subtree that was rooted at 'node'.
+    private Node<K, V> rebalance(Node<K, V> node) {
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        updateHeight(node);
+        return node;
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void updateHeight(Node<?, ?> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+    }
+
+    private void replaceChild(Node<K, V> parent, Node<K, V> oldChild, Node<K, V> newChild) {
+        if (parent == null) {
+            root = newChild;
+        } else if (parent.left == oldChild) {
+            parent.left = newChild;
+        } else {
+            parent.right = newChild;
+        }
+    }
+
+    private Node<K, V> rotateLeft(Node<K, V> node) {
+        Node<K, V> pivot = node.right;
+        node.right = pivot.left;
+        if (pivot.left != null) {
+            pivot.left.parent = node;
+        }
+        pivot.parent = node.parent;
+        replaceChild(node.parent, node, pivot);
+        pivot.left = node;
+        node.parent = pivot;
+        updateHeight(node);
+        updateHeight(pivot);
+        return pivot;
+    }
+
+    private Node<K, V> rotateRight(Node<K, V> node) {
+        Node<K, V> pivot = node.left;
+        node.left = pivot.right;
+        if (pivot.right != null) {
+            pivot.right.parent = node;
+        }
+        pivot.parent = node.parent;
+        replaceChild(node.parent, node, pivot);
+        pivot.right = node;
+        node.parent = pivot;
+        updateHeight(node);
+        updateHeight(pivot);
+        return pivot;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new TreeChainIterator<>(this.nodes, this.size);
+    }
+
+    @Override
+    K keyAt(int index) {
+        return nodes[index].key;
+    }
+
+    @Override
+    V valueAt(int index) {
+        return nodes[index].value;
+    }
+
+    @Override
+    void setValueAt(int index, V value) {
+        nodes[index].value = value;
+    }
+
+    @Override
+    int maxProbeLength() {
+        return height(root);
+    }
+
+    @Override
+    long estimateBytes() {
+        return StructureStats.objectBytes(2 * StructureStats.REFERENCE_BYTES + Integer.BYTES)
+                + StructureStats.arrayBytes(nodes.length, StructureStats.REFERENCE_BYTES)
+                + size * StructureStats.objectBytes(5 * StructureStats.REFERENCE_BYTES + 3 * Integer.BYTES);
+    }
+
+    private static class Node<K, V> {
+        public int hash;
+        public K key;
+        public V value;
+        public Node<K, V> left;
+        public Node<K, V> right;
+        public Node<K, V> parent;
+        public int height;
+        public int slot;
+
+        public Node(int hash, K key, V value, Node<K, V> parent) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.left = null;
+            this.right = null;
+            this.parent = parent;
+            this.height = 1;
+            this.slot = -1;
+        }
+    }
+
+    private static class TreeChainIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private Node<K, V>[] nodes;
+        private int size;
+        private int index;
+
+        public TreeChainIterator(Node<K, V>[] nodes, int size) {
+            this.nodes = nodes;
+            this.size = size;
+            this.index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public KVPair<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node<K, V> current = nodes[index];
+            index++;
+            return new KVPair<>(current.key, current.value);
+        }
+    }
+}
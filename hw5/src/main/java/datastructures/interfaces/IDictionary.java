@@ -4,6 +4,11 @@ import datastructures.concrete.KVPair;
 import misc.exceptions.NoSuchKeyException;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * Represents a data structure that contains a bunch of key-value mappings. Each key must be unique.
@@ -56,6 +61,89 @@ public interface IDictionary<K, V> extends Iterable<KVPair<K, V>> {
      */
     public int size();
 
+    /**
+     * Maps the key to the value if the key is absent.
+     *
+     * Returns the value that was already mapped to the key, or null if the given
+     * value was inserted.
+     *
+     * Note: The interface provides a default implementation, but you may optionally
+     *       override it with one that only looks up the key once.
+     */
+    public default V putIfAbsent(K key, V value) {
+        if (this.containsKey(key)) {
+            return this.get(key);
+        }
+        this.put(key, value);
+        return null;
+    }
+
+    /**
+     * If the key is absent, computes its value with the given function and stores it
+     * (unless the function returns null). Returns the current value.
+     *
+     * Note: The interface provides a default implementation, but you may optionally
+     *       override it with one that only looks up the key once.
+     */
+    public default V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        if (this.containsKey(key)) {
+            return this.get(key);
+        }
+        V value = mappingFunction.apply(key);
+        if (value != null) {
+            this.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Replaces the key's value with remappingFunction(key, oldValue), where oldValue is
+     * null if the key is absent. If the function returns null, the key is removed
+     * instead. Returns the new value.
+     *
+     * Note: The interface provides a default implementation, but you may optionally
+     *       override it with one that only looks up the key once.
+     */
+    public default V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        boolean present = this.containsKey(key);
+        V newValue = remappingFunction.apply(key, present ? this.get(key) : null);
+        if (newValue != null) {
+            this.put(key, newValue);
+        } else if (present) {
+            this.remove(key);
+        }
+        return newValue;
+    }
+
+    /**
+     * Stores the value if the key is absent, and otherwise replaces the old value with
+     * remappingFunction(oldValue, value). If the function returns null, the key is
+     * removed instead. Returns the new value.
+     *
+     * This makes counting easy: 'counts.merge(word, 1, Integer::sum)'.
+     *
+     * Note: The interface provides a default implementation, but you may optionally
+     *       override it with one that only looks up the key once.
+     *
+     * @throws IllegalArgumentException if the value is null
+     */
+    public default V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if (value == null) {
+            throw new IllegalArgumentException();
+        }
+        if (!this.containsKey(key)) {
+            this.put(key, value);
+            return value;
+        }
+        V newValue = remappingFunction.apply(this.get(key), value);
+        if (newValue != null) {
+            this.put(key, newValue);
+        } else {
+            this.remove(key);
+        }
+        return newValue;
+    }
+
     /**
      * Returns 'true' if this dictionary is empty and 'false' otherwise.
      */
@@ -67,4 +155,77 @@ public interface IDictionary<K, V> extends Iterable<KVPair<K, V>> {
      * Returns a list of all key-value pairs contained within this dict.
      */
     public Iterator<KVPair<K, V>> iterator();
+
+    /**
+     * Returns a spliterator over the key-value pairs of this dictionary, so that the
+     * dictionary can be used as the source of a (possibly parallel) stream.
+     *
+     * Note: The interface provides a default implementation built on the iterator,
+     *       which can only split by copying batches of pairs into an array. You may
+     *       optionally override it with one that splits the dictionary directly.
+     */
+    @Override
+    public default Spliterator<KVPair<K, V>> spliterator() {
+        return Spliterators.spliterator(this.iterator(), this.size(), Spliterator.DISTINCT);
+    }
+
+    /**
+     * Calls the given action once on every key-value pair, in the same order as the iterator.
+     *
+     * Note: The interface provides a default implementation built on the iterator, but
+     *       implementations should override it with one that doesn't create a KVPair
+     *       for every entry.
+     */
+    public default void forEach(BiConsumer<? super K, ? super V> action) {
+        for (KVPair<K, V> pair : this) {
+            action.accept(pair.getKey(), pair.getValue());
+        }
+    }
+
+    /**
+     * Returns a cursor positioned before the first key-value pair of this dictionary.
+     *
+     * Note: The interface provides a default implementation built on the iterator, but
+     *       implementations should override it with one that doesn't create a KVPair
+     *       for every entry.
+     *
+     * @see IDictionaryCursor
+     */
+    public default IDictionaryCursor<K, V> cursor() {
+        IDictionary<K, V> dict = this;
+        Iterator<KVPair<K, V>> iter = this.iterator();
+        return new IDictionaryCursor<K, V>() {
+            private KVPair<K, V> current = null;
+
+            @Override
+            public boolean advance() {
+                current = iter.hasNext() ? iter.next() : null;
+                return current != null;
+            }
+
+            @Override
+            public K key() {
+                return currentPair().getKey();
+            }
+
+            @Override
+            public V value() {
+                return currentPair().getValue();
+            }
+
+            @Override
+            public void setValue(V value) {
+                K key = currentPair().getKey();
+                dict.put(key, value);
+                current = new KVPair<>(key, value);
+            }
+
+            private KVPair<K, V> currentPair() {
+                if (current == null) {
+                    throw new IllegalStateException();
+                }
+                return current;
+            }
+        };
+    }
 }
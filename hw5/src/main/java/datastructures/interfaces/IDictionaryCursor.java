@@ -0,0 +1,46 @@
+package datastructures.interfaces;
+
+/**
+ * A reusable, mutable position inside an IDictionary.
+ *
+ * Unlike an iterator, a cursor does not create a KVPair for every entry: you call
+ * 'advance' to move to the next key-value pair and then read that pair through
+ * 'key' and 'value'. A typical scan looks like this:
+ *
+ *     IDictionaryCursor<K, V> cursor = dict.cursor();
+ *     while (cursor.advance()) {
+ *         doSomething(cursor.key(), cursor.value());
+ *     }
+ *
+ * The cursor starts before the first pair. The order of the pairs is the same as the
+ * dictionary's iterator. Adding or removing keys while a cursor is in use leaves the
+ * cursor in an undefined state; replacing values with 'setValue' is always safe.
+ */
+public interface IDictionaryCursor<K, V> {
+    /**
+     * Moves to the next key-value pair. Returns 'true' if there was one, and 'false'
+     * if the cursor has moved past the last pair.
+     */
+    public boolean advance();
+
+    /**
+     * Returns the key of the current pair.
+     *
+     * @throws IllegalStateException if 'advance' has not been called yet, or returned false
+     */
+    public K key();
+
+    /**
+     * Returns the value of the current pair.
+     *
+     * @throws IllegalStateException if 'advance' has not been called yet, or returned false
+     */
+    public V value();
+
+    /**
+     * Replaces the value of the current pair with the given one.
+     *
+     * @throws IllegalStateException if 'advance' has not been called yet, or returned false
+     */
+    public void setValue(V value);
+}
@@ -3,6 +3,8 @@ package datastructures.interfaces;
 import misc.exceptions.EmptyContainerException;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * Represents a data structure that contains an ordered and indexable sequence of elements.
@@ -80,4 +82,17 @@ public interface IList<T> extends Iterable<T> {
      * Returns an iterator over the contents of this list.
      */
     public Iterator<T> iterator();
+
+    /**
+     * Returns a spliterator over the contents of this list, so that the list can be
+     * used as the source of a (possibly parallel) stream.
+     *
+     * Note: The interface provides a default implementation built on the iterator,
+     *       which can only split by copying batches of items into an array. You may
+     *       optionally override it with one that splits the list directly.
+     */
+    @Override
+    public default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(this.iterator(), this.size(), Spliterator.ORDERED);
+    }
 }
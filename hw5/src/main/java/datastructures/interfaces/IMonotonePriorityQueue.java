@@ -0,0 +1,60 @@
+package datastructures.interfaces;
+
+import misc.exceptions.EmptyContainerException;
+
+/**
+ * Represents a priority queue of values with integer priorities, where the smallest
+ * priority never goes down: once a value has been removed with priority p, every
+ * priority inserted after that must be at least p.
+ *
+ * This holds whenever the priority of a new value is the priority of the value just
+ * removed plus something non-negative, such as in Dijkstra's algorithm or breadth-first
+ * search, and it lets implementations beat a comparison-based heap.
+ */
+public interface IMonotonePriorityQueue<T> {
+    /**
+     * Removes and returns the value with the smallest priority.
+     *
+     * If several values share the smallest priority, this method may return any one
+     * of them.
+     *
+     * @throws EmptyContainerException  if the queue is empty
+     */
+    T removeMin();
+
+    /**
+     * Returns, but does not remove, the value removeMin would return.
+     *
+     * @throws EmptyContainerException  if the queue is empty
+     */
+    T peekMin();
+
+    /**
+     * Returns the smallest priority in the queue.
+     *
+     * @throws EmptyContainerException  if the queue is empty
+     */
+    long peekMinKey();
+
+    /**
+     * Inserts the given value with the given priority. Any priority is allowed while
+     * the queue is empty.
+     *
+     * @throws IllegalArgumentException  if the priority is smaller than the priority
+     *                                   of the last value removed, or is outside the
+     *                                   range the implementation supports
+     */
+    void insert(long key, T value);
+
+    /**
+     * Returns the number of values contained within this queue.
+     */
+    int size();
+
+    /**
+     * Returns 'true' if this queue is empty, and false otherwise.
+     */
+    default boolean isEmpty() {
+        return this.size() == 0;
+    }
+}
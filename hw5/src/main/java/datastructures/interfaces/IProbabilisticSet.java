@@ -0,0 +1,40 @@
+package datastructures.interfaces;
+
+/**
+ * Represents a set that answers membership queries approximately, in exchange for
+ * using far less memory than a set that stores its items.
+ *
+ * 'mightContain' never returns a false negative: if an item was added, it always
+ * returns true. It may however return a false positive, with a probability of
+ * about 'falsePositiveRate()'. Items cannot be removed or listed.
+ */
+public interface IProbabilisticSet<T> {
+    /**
+     * Adds the given item to the set.
+     */
+    public void add(T item);
+
+    /**
+     * Returns 'true' if the item might have been added to this set, and 'false' if it
+     * definitely was not.
+     */
+    public boolean mightContain(T item);
+
+    /**
+     * Returns the approximate number of distinct items added to this set.
+     */
+    public long size();
+
+    /**
+     * Returns true if no items have been added to this set and false otherwise.
+     */
+    public default boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    /**
+     * Returns the probability that 'mightContain' returns a false positive once the
+     * set holds the number of items it was sized for.
+     */
+    public double falsePositiveRate();
+}
@@ -2,6 +2,8 @@ package datastructures.interfaces;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * Represents a data structure that contains a unique collection of items.
@@ -38,8 +40,54 @@ public interface ISet<T> extends Iterable<T> {
         return this.size() == 0;
     }
 
+    /**
+     * Adds every item of the given collection to this set.
+     *
+     * Note: The interface provides a default implementation, but you may optionally
+     *       override it with a more efficient version.
+     */
+    public default void addAll(Iterable<? extends T> other) {
+        for (T item : other) {
+            this.add(item);
+        }
+    }
+
+    /**
+     * Removes every item of the given collection from this set. Items that aren't in
+     * this set are ignored.
+     *
+     * Note: The interface provides a default implementation, but you may optionally
+     *       override it with a more efficient version.
+     */
+    public default void removeAll(Iterable<? extends T> other) {
+        for (T item : other) {
+            if (this.contains(item)) {
+                this.remove(item);
+            }
+        }
+    }
+
+    /**
+     * Removes every item of this set that the given set does not contain, leaving
+     * the intersection of the two sets.
+     */
+    public void retainAll(ISet<? super T> other);
+
     /**
      * Returns all items contained within this set.
      */
     public Iterator<T> iterator();
+
+    /**
+     * Returns a spliterator over the items of this set, so that the set can be used
+     * as the source of a (possibly parallel) stream.
+     *
+     * Note: The interface provides a default implementation built on the iterator,
+     *       which can only split by copying batches of items into an array. You may
+     *       optionally override it with one that splits the set directly.
+     */
+    @Override
+    public default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(this.iterator(), this.size(), Spliterator.DISTINCT);
+    }
 }
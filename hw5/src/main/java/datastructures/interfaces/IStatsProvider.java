@@ -0,0 +1,25 @@
+package datastructures.interfaces;
+
+import datastructures.concrete.StructureStats;
+
+/**
+ * Represents a data structure that can cheaply report its own size, shape and
+ * estimated memory footprint.
+ *
+ * AnalysisUtils.getApproximateMemoryUsed gives exact numbers, but it walks the whole
+ * object graph and is far too slow to call while a program is running. Stats from this
+ * interface only look at the structure's own fields and arrays, so they can be
+ * collected periodically (for example, by a running web server).
+ */
+public interface IStatsProvider {
+    /**
+     * Returns a snapshot of this structure's size, capacity, estimated memory use and
+     * whatever shape statistics apply to it.
+     *
+     * Implementations must run in O(1) time, or in time proportional to the number of
+     * buckets for hash tables.
+     *
+     * @see StructureStats
+     */
+    public StructureStats getStats();
+}
@@ -3,10 +3,20 @@ package misc;
 import datastructures.concrete.ArrayHeap;
 import datastructures.concrete.DoubleLinkedList;
 import datastructures.interfaces.IList;
-import datastructures.interfaces.IPriorityQueue;
 //import misc.exceptions.NotYetImplementedException;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
 public class Sorter {
+    // Inputs smaller than this aren't worth starting a thread pool for
+    private static final int PARALLEL_THRESHOLD = 10000;
+
+    // Chunks are split finer than one per thread so busy threads can steal work,
+    // but not so fine that merging their results starts to dominate
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int MIN_CHUNK_SIZE = 4096;
+
     /**
      * This method takes the input list and returns the top k elements
      * in sorted order.
@@ -42,19 +52,146 @@ public class Sorter {
         }
         IList<T> result = new DoubleLinkedList<>();
         if (k != 0) {
-            IPriorityQueue<T> kSizeHeap = new ArrayHeap<>();
+            ArrayHeap<T> kSizeHeap = new ArrayHeap<>();
             for (T item : input) {
                 if (kSizeHeap.size() < k) {
                     kSizeHeap.insert(item);
                 } else if (item.compareTo(kSizeHeap.peekMin()) > 0) { // Item greater than the min in heap
-                    kSizeHeap.removeMin(); // Take out min in heap
-                    kSizeHeap.insert(item); // Add in item
+                    kSizeHeap.replaceMin(item); // Swap the min out for the item in one pass
                 }
             }
-            while (!kSizeHeap.isEmpty()) {
-                result.add(kSizeHeap.removeMin());
-            }
+            kSizeHeap.removeMin(kSizeHeap.size(), result);
         }
         return result;
     }
+
+    /**
+     * Does the same thing as topKSort, but splits the input into chunks, finds the top
+     * k of each chunk on up to 'parallelism' threads, and then merges the results.
+     *
+     * The result is the same as topKSort's: the same elements, in the same order. (Of
+     * elements that compareTo says are equal, either method may pick any of them.)
+     * Small inputs, and a parallelism of 1, simply fall back to topKSort.
+     *
+     * This method must not modify the input list.
+     *
+     * @throws IllegalArgumentException  if k < 0
+     * @throws IllegalArgumentException  if input is null
+     * @throws IllegalArgumentException  if parallelism < 1
+     */
+    public static <T extends Comparable<T>> IList<T> parallelTopKSort(int k, IList<T> input, int parallelism) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k is negative");
+        }
+        if (input == null) {
+            throw new IllegalArgumentException("Input is null");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism is less than 1");
+        }
+        if (k == 0 || parallelism == 1 || input.size() < PARALLEL_THRESHOLD) {
+            return topKSort(k, input);
+        }
+
+        // Copy the input out first, since chunks need random access and a linked list
+        // doesn't have it
+        T[] items = makeArrayOfT(input.size());
+        int index = 0;
+        for (T item : input) {
+            items[index] = item;
+            index++;
+        }
+        int numChunks = parallelism * CHUNKS_PER_THREAD;
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, (items.length + numChunks - 1) / numChunks);
+
+        T[] top;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            top = pool.invoke(new TopKTask<>(items, 0, items.length, k, chunkSize));
+        } finally {
+            pool.shutdown();
+        }
+        IList<T> result = new DoubleLinkedList<>();
+        for (T item : top) {
+            result.add(item);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> T[] makeArrayOfT(int arraySize) {
+        return (T[]) (new Comparable[arraySize]);
+    }
+
+    /**
+     * Finds the top k elements of items[start, end), sorted from smallest to largest.
+     *
+     * A chunk is scanned with a bounded heap, like topKSort does. Bigger ranges are
+     * split in half, and the two sorted halves are merged from the largest end, which
+     * takes O(k) time instead of re-inserting one half into a heap.
+     */
+    private static class TopKTask<T extends Comparable<T>> extends RecursiveTask<T[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] items;
+        private final int start;
+        private final int end;
+        private final int k;
+        private final int chunkSize;
+
+        public TopKTask(T[] items, int start, int end, int k, int chunkSize) {
+            this.items = items;
+            this.start = start;
+            this.end = end;
+            this.k = k;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected T[] compute() {
+            if (end - start <= chunkSize) {
+                return this.scanChunk();
+            }
+            int mid = start + (end - start) / 2;
+            TopKTask<T> left = new TopKTask<>(items, start, mid, k, chunkSize);
+            TopKTask<T> right = new TopKTask<>(items, mid, end, k, chunkSize);
+            left.fork();
+            T[] rightTop = right.compute();
+            return this.mergeLargest(left.join(), rightTop);
+        }
+
+        private T[] scanChunk() {
+            ArrayHeap<T> kSizeHeap = new ArrayHeap<>();
+            for (int i = start; i < end; i++) {
+                T item = items[i];
+                if (kSizeHeap.size() < k) {
+                    kSizeHeap.insert(item);
+                } else if (item.compareTo(kSizeHeap.peekMin()) > 0) {
+                    kSizeHeap.replaceMin(item);
+                }
+            }
+            T[] result = makeArrayOfT(kSizeHeap.size());
+            for (int i = 0; i < result.length; i++) {
+                result[i] = kSizeHeap.removeMin();
+            }
+            return result;
+        }
+
+        // Both inputs are sorted; fills the result from its largest end
+        private T[] mergeLargest(T[] a, T[] b) {
+            T[] result = makeArrayOfT(Math.min(k, a.length + b.length));
+            int i = a.length - 1;
+            int j = b.length - 1;
+            for (int out = result.length - 1; out >= 0; out--) {
+                if (j < 0 || (i >= 0 && a[i].compareTo(b[j]) >= 0)) {
+                    result[out] = a[i];
+                    i--;
+                } else {
+                    result[out] = b[j];
+                    j--;
+                }
+            }
+            return result;
+        }
+    }
 }
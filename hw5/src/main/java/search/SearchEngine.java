@@ -2,14 +2,19 @@ package search;
 
 import datastructures.concrete.ChainedHashSet;
 import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.DoubleMinHeap;
+import datastructures.concrete.StructureStats;
+import datastructures.concrete.dictionaries.ArrayDictionary;
+import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
 import datastructures.interfaces.ISet;
-import misc.Sorter;
+import datastructures.interfaces.IStatsProvider;
 import search.analyzers.PageRankAnalyzer;
 import search.analyzers.TfIdfAnalyzer;
 import search.misc.Bridge;
 import search.misc.exceptions.DataExtractionException;
 import search.models.Result;
+import search.models.TermVector;
 import search.models.Webpage;
 import search.models.WebpageSummary;
 
@@ -18,6 +23,8 @@ import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class SearchEngine {
     public static final double PAGE_RANK_DECAY = 0.85;
@@ -49,6 +56,12 @@ public class SearchEngine {
     }
 
     public double computeScore(IList<String> query, URI uri) {
+        return this.computeScore(this.tfIdfAnalyzer.computeQueryVector(query), uri);
+    }
+
+    // Scores a query that has already been turned into a TF-IDF vector, so that a search
+    // can resolve its query terms once instead of once per page.
+    private double computeScore(TermVector query, URI uri) {
         double tfIdf = this.tfIdfAnalyzer.computeRelevance(query, uri);
         double pageRank = this.pageRankAnalyzer.computePageRank(uri);
 
@@ -82,35 +95,71 @@ public class SearchEngine {
         return tfIdf * Math.sqrt(pageRank);
     }
 
-    public IList<Result> getTopKResults(IList<String> query, int k) {
-        IList<Result> results = new DoubleLinkedList<>();
-
-        for (WebpageSummary summary: this.pages) {
-            double score = this.computeScore(query, summary.getUri());
-            results.add(new Result(summary, score));
+    /**
+     * Returns the size, shape and estimated memory use of the engine's main data
+     * structures, by name. This only looks at the structures' own tables, so it is
+     * cheap enough to call periodically while the engine is serving queries.
+     */
+    public IDictionary<String, StructureStats> getStats() {
+        IDictionary<String, StructureStats> stats = new ArrayDictionary<>();
+        if (this.pages instanceof IStatsProvider) {
+            stats.put("pages", ((IStatsProvider) this.pages).getStats());
         }
+        this.tfIdfAnalyzer.addStats(stats);
+        this.pageRankAnalyzer.addStats(stats);
+        return stats;
+    }
 
-        IList<Result> topK = Sorter.topKSort(k, results);
-
-        IList<Result> reversed = new DoubleLinkedList<>();
-        for (Result res : topK) {
-            reversed.insert(0, res);
+    /**
+     * Returns the k pages that best match the query, best first.
+     *
+     * @throws IllegalArgumentException  if k < 0
+     */
+    public IList<Result> getTopKResults(IList<String> query, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k is negative");
+        }
+        TermVector queryVector = this.tfIdfAnalyzer.computeQueryVector(query);
+
+        // Keeps the best k pages seen so far, keyed by score, so the worst of them is on
+        // top; a Result is only made for the pages that are returned
+        DoubleMinHeap<WebpageSummary> best = new DoubleMinHeap<>(k);
+        if (k > 0) {
+            for (WebpageSummary summary: this.pages) {
+                double score = this.computeScore(queryVector, summary.getUri());
+                if (best.size() < k) {
+                    best.insert(score, summary);
+                } else if (score > best.peekMinKey()) {
+                    best.replaceMin(score, summary);
+                }
+            }
         }
 
-        return reversed;
+        // The heap hands the pages out worst first, so build the list from the back
+        IList<Result> results = new DoubleLinkedList<>();
+        while (!best.isEmpty()) {
+            double score = best.peekMinKey();
+            results.insert(0, new Result(best.removeMin(), score));
+        }
+        return results;
     }
 
+    // Walks the folder sequentially (the spliterator behind Files.walk can barely split),
+    // then parses the pages in parallel, which is where the time goes.
     private ISet<Webpage> collectWebpages(Path root) {
-        try {
-            return Files.walk(root)
+        IList<Path> paths;
+        try (Stream<Path> files = Files.walk(root)) {
+            paths = files
                     .filter(Files::isRegularFile)
                     .filter(path -> path.toString().endsWith(".htm") || path.toString().endsWith(".html"))
-                    .map(Path::toUri)
-                    .map(Webpage::load)
-                    .collect(Bridge.toISet());
+                    .collect(Bridge.toIList());
         } catch (IOException ex) {
             throw new DataExtractionException("Could not find given root folder", ex);
         }
+        return StreamSupport.stream(paths.spliterator(), true)
+                .map(Path::toUri)
+                .map(Webpage::load)
+                .collect(Bridge.toISet());
     }
 
     private ISet<WebpageSummary> extractWebpageSummaries(ISet<Webpage> webpages) {
@@ -1,5 +1,7 @@
 package search;
 
+import datastructures.concrete.KVPair;
+import datastructures.concrete.StructureStats;
 import datastructures.interfaces.IList;
 import search.misc.WordTokenizer;
 import search.models.Result;
@@ -52,6 +54,7 @@ public class Webapp {
         this.http.initExceptionHandler(this::handleFatalError);
         this.http.get("/", this::handleMain);
         this.http.get("/search", this::handleSearch);
+        this.http.get("/stats", this::handleStats);
         this.http.exception(Exception.class, this::handleError);
     }
 
@@ -93,6 +96,19 @@ public class Webapp {
         return this.render("search.mustache", model);
     }
 
+    /**
+     * Handles requests for the search engine's data structure stats. Responds with
+     * plain text, one structure per line, so that monitoring scripts can poll it.
+     */
+    private String handleStats(Request req, Response res) {
+        res.type("text/plain");
+        StringBuilder out = new StringBuilder();
+        for (KVPair<String, StructureStats> pair : this.engine.getStats()) {
+            out.append(pair.getKey()).append(' ').append(pair.getValue()).append('\n');
+        }
+        return out.toString();
+    }
+
     /**
      * Handles fatal errors that causes the webapp to crash before
      * it even has a chance to run.
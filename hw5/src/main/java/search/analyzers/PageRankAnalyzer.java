@@ -1,9 +1,11 @@
 package search.analyzers;
 
 import datastructures.concrete.ChainedHashSet;
-import datastructures.concrete.KVPair;
+import datastructures.concrete.StructureStats;
 import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.ObjectDoubleHashDictionary;
 import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
 import datastructures.interfaces.IList;
 import datastructures.interfaces.ISet;
 //import misc.exceptions.NotYetImplementedException;
@@ -16,7 +18,7 @@ import java.net.URI;
  *  * See the spec for more details.
  */
 public class PageRankAnalyzer {
-    private IDictionary<URI, Double> pageRanks;
+    private ObjectDoubleHashDictionary<URI> pageRanks;
 
     /**
      * Computes a graph representing the internet and computes the page rank of all
@@ -90,55 +92,66 @@ public class PageRankAnalyzer {
      *                  is meant as a safety valve to prevent us from infinite looping in case our
      *                  page rank never converges.
      */
-    private IDictionary<URI, Double> makePageRanks(IDictionary<URI, ISet<URI>> graph,
-                                                   double decay,
-                                                   int limit,
-                                                   double epsilon) {
+    private ObjectDoubleHashDictionary<URI> makePageRanks(IDictionary<URI, ISet<URI>> graph,
+                                                          double decay,
+                                                          int limit,
+                                                          double epsilon) {
         // Step 1: The initialize step should go here
-        IDictionary<URI, Double> oldRanks = new ChainedHashDictionary<>();
-        IDictionary<URI, Double> newRanks = new ChainedHashDictionary<>();
+        // Ranks are kept in primitive-valued dictionaries so the update loops never box a Double
+        ObjectDoubleHashDictionary<URI> oldRanks = new ObjectDoubleHashDictionary<>(graph.size());
+        ObjectDoubleHashDictionary<URI> newRanks = new ObjectDoubleHashDictionary<>(graph.size());
         double initialScore = 1.0/graph.size();
-        for (KVPair<URI, ISet<URI>> pair : graph) {
-            URI page = pair.getKey();
-            oldRanks.put(page, initialScore);
-            newRanks.put(page, 0.0);
+        // The graph is scanned with cursors rather than for-each loops: these loops
+        // run over every page on every iteration, and a cursor doesn't create a
+        // KVPair per page
+        IDictionaryCursor<URI, ISet<URI>> pages = graph.cursor();
+        while (pages.advance()) {
+            URI page = pages.key();
+            oldRanks.putDouble(page, initialScore);
+            newRanks.putDouble(page, 0.0);
         }
         for (int i = 0; i < limit; i++) {
             // Step 2: The update step should go here
-            for (KVPair<URI, ISet<URI>> pair : graph) { // Scan each web page (vertex)
-                URI page = pair.getKey();
-                double oldPageRank = oldRanks.get(page);
-                int numOfUniqueLink = pair.getValue().size();
+            pages = graph.cursor();
+            while (pages.advance()) { // Scan each web page (vertex)
+                URI page = pages.key();
+                ISet<URI> links = pages.value();
+                double oldPageRank = oldRanks.getDouble(page);
+                int numOfUniqueLink = links.size();
                 double contribution = decay * oldPageRank / numOfUniqueLink;
                 if (numOfUniqueLink == 0) { // No outgoing vertex
-                    double unlinkRank = decay * oldRanks.get(page) / graph.size();
-                    for (KVPair<URI, Double> current : newRanks) { // add unlink page score to all web pages
-                        newRanks.put(current.getKey(), current.getValue() + unlinkRank);
+                    double unlinkRank = decay * oldPageRank / graph.size();
+                    IDictionaryCursor<URI, ISet<URI>> current = graph.cursor();
+                    while (current.advance()) { // add unlink page score to all web pages
+                        newRanks.addToDouble(current.key(), unlinkRank);
                     }
                 } else { // Add contribution to page's links
-                    for (URI link : pair.getValue()) {
-                        newRanks.put(link, newRanks.get(link) + contribution);
+                    for (URI link : links) {
+                        newRanks.addToDouble(link, contribution);
                     }
                 }
-                newRanks.put(page, newRanks.get(page) + (1-decay)/graph.size()); // Add new surfer
+                newRanks.addToDouble(page, (1-decay)/graph.size()); // Add new surfer
             }
             // Step 3: the convergence step should go here.
             // Return early if we've converged.
             int numConverged = 0; // Count how many web pages have converged
-            for (KVPair<URI, ISet<URI>> pair : graph) {
-                URI page = pair.getKey();
-                double checkConverge = Math.abs(oldRanks.get(page) - newRanks.get(page));
+            pages = graph.cursor();
+            while (pages.advance()) {
+                URI page = pages.key();
+                double checkConverge = Math.abs(oldRanks.getDouble(page) - newRanks.getDouble(page));
                 if (checkConverge < epsilon) {
                     numConverged++;
                 }
             }
-            // Update ranks for the next iteration
-            IDictionary<URI, Double> temp = new ChainedHashDictionary<>();
-            for (KVPair<URI, Double> pair : newRanks) {
-                temp.put(pair.getKey(), pair.getValue());
-                newRanks.put(pair.getKey(), 0.0);
+            // Update ranks for the next iteration: the new ranks become the old ones,
+            // and the old table is zeroed and reused instead of allocating a fresh one
+            ObjectDoubleHashDictionary<URI> temp = oldRanks;
+            oldRanks = newRanks;
+            newRanks = temp;
+            pages = graph.cursor();
+            while (pages.advance()) {
+                newRanks.putDouble(pages.key(), 0.0);
             }
-            oldRanks = temp;
             // Return early if we've converged
             if (numConverged == graph.size()) {
                 i = limit; // Breaks the for loop by setting i to limit
@@ -147,6 +160,13 @@ public class PageRankAnalyzer {
         return oldRanks;
     }
 
+    /**
+     * Adds the stats of the page rank table to 'out', as "pageRank.ranks".
+     */
+    public void addStats(IDictionary<String, StructureStats> out) {
+        out.put("pageRank.ranks", this.pageRanks.getStats());
+    }
+
     /**
      * Returns the page rank of the given URI.
      *
@@ -155,6 +175,6 @@ public class PageRankAnalyzer {
      */
     public double computePageRank(URI pageUri) {
         // Implementation note: this method should be very simple: just one line!
-        return pageRanks.get(pageUri);
+        return pageRanks.getDouble(pageUri);
     }
 }
@@ -1,15 +1,21 @@
 package search.analyzers;
 
 // import com.sun.xml.internal.bind.v2.model.core.ID;
-import datastructures.concrete.ChainedHashSet;
 import datastructures.concrete.KVPair;
-import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.StructureStats;
+import datastructures.concrete.dictionaries.ConcurrentChainedHashDictionary;
+import datastructures.concrete.dictionaries.OpenAddressingHashDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
 import datastructures.interfaces.ISet;
+import datastructures.interfaces.IStatsProvider;
 // import misc.exceptions.NotYetImplementedException;
+import search.models.TermDictionary;
+import search.models.TermVector;
 import search.models.Webpage;
 import java.net.URI;
+import java.util.Arrays;
+import java.util.stream.IntStream;
 // import java.security.KeyPair;
 
 /**
@@ -19,40 +25,76 @@ import java.net.URI;
  * See the spec for more details.
  */
 public class TfIdfAnalyzer {
+    // Every distinct word in the corpus, interned to a dense id. Everything below is
+    // keyed by these ids rather than by the words themselves.
+    private TermDictionary terms;
+
     // This field must contain the IDF score for every single word in all
-    // the documents.
-    private IDictionary<String, Double> idfScores;
+    // the documents, indexed by term id.
+    private double[] idfScores;
 
     // This field must contain the TF-IDF vector for each webpage you were given
-    // in the constructor.
+    // in the constructor. Each vector also caches its own norm.
     //
     // We will use each webpage's page URI as a unique key.
-    private IDictionary<URI, IDictionary<String, Double>> documentTfIdfVectors;
+    private IDictionary<URI, TermVector> documentTfIdfVectors;
 
-    // Feel free to add extra fields and helper methods.
-    private IDictionary<URI, Double> documentTfIdfVectorsNorm;
+    // A word-keyed copy of documentTfIdfVectors, built by the first call to
+    // getDocumentTfIdfVectors.
+    private IDictionary<URI, IDictionary<String, Double>> wordTfIdfVectors;
 
     public TfIdfAnalyzer(ISet<Webpage> webpages) {
-        // Implementation note: We have commented these method calls out so your
-        // search engine doesn't immediately crash when you try running it for the
-        // first time.
-        //
-        // You should uncomment these lines when you're ready to begin working
-        // on this class.
-
-        this.idfScores = this.computeIdfScores(webpages);
-        this.documentTfIdfVectors = this.computeAllDocumentTfIdfVectors(webpages);
-        this.documentTfIdfVectorsNorm = new ChainedHashDictionary<>();
-        for (KVPair<URI, IDictionary<String, Double>> wordPair: this.documentTfIdfVectors) {
-            documentTfIdfVectorsNorm.put(wordPair.getKey(), norm(wordPair.getValue()));
+        // Interning has to be sequential, but after this pass each page is just an
+        // int array, and nothing below touches a string again.
+        this.terms = new TermDictionary();
+        URI[] uris = new URI[webpages.size()];
+        int[][] documents = new int[webpages.size()][];
+        int index = 0;
+        for (Webpage page : webpages) {
+            uris[index] = page.getUri();
+            documents[index] = this.terms.internAll(page.getWords());
+            index++;
+        }
+
+        this.idfScores = this.computeIdfScores(documents);
+        this.documentTfIdfVectors = this.computeAllDocumentTfIdfVectors(uris, documents);
+        this.wordTfIdfVectors = null;
+    }
+
+    /**
+     * Adds the stats of this analyzer's structures to 'out', under names starting
+     * with "tfIdf.". The per-document vectors are only counted as entries of the
+     * outer dictionary, so this stays cheap.
+     */
+    public void addStats(IDictionary<String, StructureStats> out) {
+        out.put("tfIdf.terms", this.terms.getStats());
+        if (this.documentTfIdfVectors instanceof IStatsProvider) {
+            out.put("tfIdf.documentVectors", ((IStatsProvider) this.documentTfIdfVectors).getStats());
         }
     }
 
     // Note: this method, strictly speaking, doesn't need to exist. However,
     // we've included it so we can add some unit tests to help verify that your
     // constructor correctly initializes your fields.
-    public IDictionary<URI, IDictionary<String, Double>> getDocumentTfIdfVectors() {
-        return this.documentTfIdfVectors;
+    //
+    // The vectors are stored by term id, so the first call builds a word-keyed copy of
+    // them. The vectors never change, so later calls return that same copy, which
+    // callers must not modify.
+    public synchronized IDictionary<URI, IDictionary<String, Double>> getDocumentTfIdfVectors() {
+        if (this.wordTfIdfVectors != null) {
+            return this.wordTfIdfVectors;
+        }
+        IDictionary<URI, IDictionary<String, Double>> result = new OpenAddressingHashDictionary<>();
+        for (KVPair<URI, TermVector> pair : this.documentTfIdfVectors) {
+            TermVector vector = pair.getValue();
+            IDictionary<String, Double> words = new OpenAddressingHashDictionary<>(vector.size());
+            for (int i = 0; i < vector.size(); i++) {
+                words.put(this.terms.termOf(vector.termIdAt(i)), vector.weightAt(i));
+            }
+            result.put(pair.getKey(), words);
+        }
+        this.wordTfIdfVectors = result;
+        return result;
     }
 
     // Note: these private methods are suggestions or hints on how to structure your
@@ -62,92 +104,87 @@ public class TfIdfAnalyzer {
     // correct answer in an efficient manner.
 
     /**
-     * Return a dictionary mapping every single unique word found
-     * in every single document to their IDF score.
+     * Return an array mapping the id of every single unique word found
+     * in every single document to its IDF score.
      */
-    private IDictionary<String, Double> computeIdfScores(ISet<Webpage> pages) {
-        IDictionary<String, Double> idfTracker = new ChainedHashDictionary<>();
-        IDictionary<String, Double> result = new ChainedHashDictionary<>();
-        double initial = Math.log(pages.size());
-        for (Webpage currentPage : pages) {
-            ISet<String> words = getUniqueWords(currentPage);
-            for (String currentWord : words) {
-                // if (!idfTracker.containsKey(currentWord)) {
-                //     // KVPair's value represents the occurrence
-                //     idfTracker.put(currentWord, 1.0);
-                // } else {
-                //     double occurrence = idfTracker.get(currentWord) + 1.0;
-                //     idfTracker.put(currentWord, occurrence);
-                // }
-                idfTracker.put(currentWord, idfTracker.getOrDefault(currentWord, 0.0) + 1);
+    private double[] computeIdfScores(int[][] documents) {
+        // lastSeenIn[id] is the last document that counted the term, so each
+        // document counts each of its terms once without building a set
+        int[] documentCounts = new int[this.terms.size()];
+        int[] lastSeenIn = new int[this.terms.size()];
+        Arrays.fill(lastSeenIn, -1);
+        for (int doc = 0; doc < documents.length; doc++) {
+            for (int termId : documents[doc]) {
+                if (lastSeenIn[termId] != doc) {
+                    lastSeenIn[termId] = doc;
+                    documentCounts[termId]++;
+                }
             }
         }
-        for (KVPair<String, Double> wordPair : idfTracker) {
-            String word = wordPair.getKey();
-            double occurrence = wordPair.getValue();
-            result.put(word, initial - Math.log(occurrence));
-        }
-        return result;
-    }
-
-    // Helper method that accepts a web page and returns a unique set of words from
-    // the web page.
-    private ISet<String> getUniqueWords(Webpage page) {
-        ISet<String> result = new ChainedHashSet<>();
-        for (String word : page.getWords()) {
-            result.add(word);
+        double[] result = new double[this.terms.size()];
+        double initial = Math.log(documents.length);
+        for (int termId = 0; termId < result.length; termId++) {
+            result[termId] = initial - Math.log(documentCounts[termId]);
         }
         return result;
     }
 
     /**
-     * Returns a dictionary mapping every unique word found in the given list
-     * to their term frequency (TF) score.
-     *
-     * The input list represents the words contained within a single document.
+     * See spec for more details on what this method should do.
      */
-    private IDictionary<String, Double> computeTfScores(IList<String> words) {
-        IDictionary<String, Double> result = new ChainedHashDictionary<>();
-        double initialScore = (double) 1 / words.size();
-        for (String currentWord : words) {
-            if (!result.containsKey(currentWord)) { // First time appear of current word
-                result.put(currentWord, initialScore); // Put the word in result, with computed TF score
-            } else { // Word already appeared before
-                result.put(currentWord, result.get(currentWord) + initialScore); // Update its TF score
+    private IDictionary<URI, TermVector> computeAllDocumentTfIdfVectors(URI[] uris, int[][] documents) {
+        // Each vector only reads idfScores, so pages can be processed in parallel
+        IDictionary<URI, TermVector> res = new ConcurrentChainedHashDictionary<>();
+        IntStream.range(0, uris.length).parallel().forEach(i -> {
+            int[] termIds = documents[i];
+            res.put(uris[i], computeTfIdfVector(termIds.clone(), termIds.length, termIds.length));
+        });
+        return res;
+    }
+
+    // Returns the TF-IDF vector of a document of 'length' words, given the ids of its
+    // words in termIds[0, count). Words with no id (which only happens for queries)
+    // are left out of termIds but still count towards the length. Sorts termIds in place.
+    private TermVector computeTfIdfVector(int[] termIds, int count, int length) {
+        Arrays.sort(termIds, 0, count);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || termIds[i] != termIds[i - 1]) {
+                unique++;
             }
         }
-        return result;
+        int[] ids = new int[unique];
+        double[] weights = new double[unique];
+        int next = -1;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || termIds[i] != termIds[i - 1]) {
+                next++;
+                ids[next] = termIds[i];
+            }
+            weights[next] += 1.0;
+        }
+        for (int i = 0; i < unique; i++) {
+            weights[i] = weights[i] / length * this.idfScores[ids[i]];
+        }
+        return new TermVector(ids, weights);
     }
 
     /**
-     * See spec for more details on what this method should do.
+     * Returns the TF-IDF vector of the given query. Resolve each query once with this
+     * method and then score it against as many pages as needed.
      */
-    private IDictionary<URI, IDictionary<String, Double>> computeAllDocumentTfIdfVectors(ISet<Webpage> pages) {
-        // Hint: this method should use the idfScores field and
-        // call the computeTfScores(...) method.
-        IDictionary<URI, IDictionary<String, Double>> res = new ChainedHashDictionary<>();
-        for (Webpage page : pages) {
-            IList<String> words = page.getWords();
-            IDictionary<String, Double> singleVector = computeSingleTfIdfVectors(words);
-            res.put(page.getUri(), singleVector);
-        }
-        return res;
-    }
-
-    // Return a single page vector with a given list of words that are only shown in the current page
-    private IDictionary<String, Double> computeSingleTfIdfVectors(IList<String> words) {
-        IDictionary<String, Double> res = new ChainedHashDictionary<>();
-        IDictionary<String, Double> tfScore = computeTfScores(words);
-        for (KVPair<String, Double> wordPair : tfScore) {
-            String word = wordPair.getKey();
-            double tf = wordPair.getValue();
-            double idf = 0;
-            if (idfScores.containsKey(word)) {
-                idf = idfScores.get(word);
+    public TermVector computeQueryVector(IList<String> query) {
+        int[] termIds = new int[query.size()];
+        int count = 0;
+        for (String word : query) {
+            int termId = this.terms.idOf(word);
+            // Words that appear in no document have an IDF of 0, so they can't score
+            if (termId != TermDictionary.NO_TERM) {
+                termIds[count] = termId;
+                count++;
             }
-            res.put(word, tf * idf);
         }
-        return res;
+        return computeTfIdfVector(termIds, count, query.size());
     }
 
     /**
@@ -158,39 +195,22 @@ public class TfIdfAnalyzer {
      *               webpages given to the constructor.
      */
     public Double computeRelevance(IList<String> query, URI pageUri) {
-        // Note: The pseudocode we gave you is not very efficient. When implementing,
-        // this method, you should:
-        //
-        // 1. Figure out what information can be precomputed in your constructor.
-        //    Add a third field containing that information.
-        //
-        // 2. See if you can combine or merge one or more loops.
-        IDictionary<String, Double> documentVector = this.documentTfIdfVectors.get(pageUri);
-        IDictionary<String, Double> queryVector = computeSingleTfIdfVectors(query);
-        double numerator = 0.0;
-        for (KVPair<String, Double> wordPairs : queryVector) {
-            String word = wordPairs.getKey();
-            double docWordScore = 0;
-            if (documentVector.containsKey(word)) {
-                docWordScore = documentVector.get(word);
-            }
-            double queryWordScore = queryVector.get(word);
-            numerator += docWordScore * queryWordScore;
-        }
-        double denominator = this.documentTfIdfVectorsNorm.get(pageUri) * norm(queryVector);
-        if (denominator != 0) {
-            return numerator / denominator;
-        }
-        return 0.0;
+        return this.computeRelevance(this.computeQueryVector(query), pageUri);
     }
 
-    // Calculate and return the norm value base on the given vector that has word and its tfidf score.
-    private double norm(IDictionary<String, Double> vector) {
-        double output = 0.0;
-        for (KVPair<String, Double> wordPairs: vector) {
-            double score = wordPairs.getValue();
-            output += score * score;
+    /**
+     * Returns the cosine similarity between the given query vector, from
+     * computeQueryVector, and the URI's document.
+     *
+     * Precondition: the given uri must have been one of the uris within the list of
+     *               webpages given to the constructor.
+     */
+    public double computeRelevance(TermVector queryVector, URI pageUri) {
+        TermVector documentVector = this.documentTfIdfVectors.get(pageUri);
+        double denominator = documentVector.getNorm() * queryVector.getNorm();
+        if (denominator != 0) {
+            return queryVector.dot(documentVector) / denominator;
         }
-        return Math.sqrt(output);
+        return 0.0;
     }
 }
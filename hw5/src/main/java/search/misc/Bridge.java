@@ -1,7 +1,7 @@
 package search.misc;
 
+import datastructures.concrete.ArrayBackedList;
 import datastructures.concrete.ChainedHashSet;
-import datastructures.concrete.DoubleLinkedList;
 import datastructures.interfaces.IList;
 import datastructures.interfaces.ISet;
 
@@ -37,34 +37,32 @@ public class Bridge {
         B apply(A item) throws Exception;
     }
 
-    public static class IListCollector<T> implements Collector<T, IList<T>, IList<T>> {
+    /**
+     * Collects into ArrayBackedLists, so that combining the partial results of a
+     * parallel stream copies the second list onto the first with one array copy.
+     */
+    public static class IListCollector<T> implements Collector<T, ArrayBackedList<T>, IList<T>> {
         @Override
-        public Supplier<IList<T>> supplier() {
-            return DoubleLinkedList::new;
+        public Supplier<ArrayBackedList<T>> supplier() {
+            return ArrayBackedList::new;
         }
 
         @Override
-        public BiConsumer<IList<T>, T> accumulator() {
+        public BiConsumer<ArrayBackedList<T>, T> accumulator() {
             return (list, item) -> list.add(item);
         }
 
         @Override
-        public BinaryOperator<IList<T>> combiner() {
+        public BinaryOperator<ArrayBackedList<T>> combiner() {
             return (a, b) -> {
-                IList<T> out = new DoubleLinkedList<>();
-                for (T i : a) {
-                    out.add(i);
-                }
-                for (T i : b) {
-                    out.add(i);
-                }
-                return out;
+                a.addAll(b);
+                return a;
             };
         }
 
         @Override
-        public Function<IList<T>, IList<T>> finisher() {
-            return Function.identity();
+        public Function<ArrayBackedList<T>, IList<T>> finisher() {
+            return list -> list;
         }
 
         @Override
@@ -87,14 +85,13 @@ public class Bridge {
         @Override
         public BinaryOperator<ISet<T>> combiner() {
             return (a, b) -> {
-                ISet<T> out = new ChainedHashSet<>();
-                for (T i : a) {
-                    out.add(i);
+                // Only the smaller set's items need to be hashed again
+                if (a.size() < b.size()) {
+                    b.addAll(a);
+                    return b;
                 }
-                for (T i : b) {
-                    out.add(i);
-                }
-                return out;
+                a.addAll(b);
+                return a;
             };
         }
 
@@ -105,7 +102,7 @@ public class Bridge {
 
         @Override
         public Set<Characteristics> characteristics() {
-            return EnumSet.of(Characteristics.IDENTITY_FINISH);
+            return EnumSet.of(Characteristics.IDENTITY_FINISH, Characteristics.UNORDERED);
         }
     }
 }
@@ -0,0 +1,114 @@
+package search.models;
+
+import datastructures.concrete.StructureStats;
+import datastructures.concrete.dictionaries.StringDictionary;
+import datastructures.interfaces.IList;
+import datastructures.interfaces.IStatsProvider;
+
+import java.util.Arrays;
+
+/**
+ * Assigns every distinct term a dense integer id: the first term interned gets 0,
+ * the next new term gets 1, and so on.
+ *
+ * Once a document has been turned into term ids, everything downstream can use
+ * plain int arrays indexed by id instead of hashing and comparing whole strings,
+ * and each term's text is only stored once, here.
+ *
+ * Interning is not thread-safe. Looking up ids and terms is safe from any number
+ * of threads, as long as nobody is interning at the same time.
+ */
+public class TermDictionary implements IStatsProvider {
+    public static final int NO_TERM = -1;
+
+    private StringDictionary<Integer> ids;
+    private String[] terms;
+    private int size;
+
+    public TermDictionary() {
+        this.ids = new StringDictionary<>();
+        this.terms = new String[16];
+        this.size = 0;
+    }
+
+    /**
+     * Returns the id of the given term, giving it the next unused id if it has not
+     * been seen before.
+     */
+    public int intern(String term) {
+        Integer id = this.ids.getOrDefault(term, null);
+        if (id != null) {
+            return id;
+        }
+        if (this.size == this.terms.length) {
+            this.terms = Arrays.copyOf(this.terms, this.size * 2);
+        }
+        this.terms[this.size] = term;
+        this.ids.put(term, this.size);
+        this.size++;
+        return this.size - 1;
+    }
+
+    /**
+     * Interns every word of the given document, and returns their ids in the same order.
+     */
+    public int[] internAll(IList<String> words) {
+        int[] result = new int[words.size()];
+        int i = 0;
+        for (String word : words) {
+            result[i] = this.intern(word);
+            i++;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the id of the given term, or NO_TERM if it has never been interned.
+     */
+    public int idOf(CharSequence term) {
+        return this.idOf(term, 0, term.length());
+    }
+
+    /**
+     * Returns the id of the term made of the characters text[start, end), or NO_TERM
+     * if it has never been interned. This does not create a new String.
+     *
+     * @throws IndexOutOfBoundsException if start and end are not a valid range of text
+     */
+    public int idOf(CharSequence text, int start, int end) {
+        return this.ids.getOrDefault(text, start, end, NO_TERM);
+    }
+
+    /**
+     * Returns the term with the given id.
+     *
+     * @throws IndexOutOfBoundsException if no term has that id
+     */
+    public String termOf(int id) {
+        if (id < 0 || id >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return this.terms[id];
+    }
+
+    /**
+     * Returns the number of distinct terms; every id is below this number.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    // Runs in O(terms) time. Includes the radix tree of ids, the id-to-term table and
+    // the terms' own strings, assuming compact one-byte-per-character strings.
+    @Override
+    public StructureStats getStats() {
+        long bytes = StructureStats.objectBytes(2 * StructureStats.REFERENCE_BYTES + Integer.BYTES)
+                + this.ids.getStats().getEstimatedBytes()
+                + StructureStats.arrayBytes(this.terms.length, StructureStats.REFERENCE_BYTES);
+        for (int i = 0; i < this.size; i++) {
+            bytes += StructureStats.objectBytes(StructureStats.REFERENCE_BYTES + 2 * Integer.BYTES + 2)
+                    + StructureStats.arrayBytes(this.terms[i].length(), Byte.BYTES);
+        }
+        return new StructureStats(this.size, this.terms.length, bytes, 0);
+    }
+}
@@ -0,0 +1,85 @@
+package search.models;
+
+import java.util.Arrays;
+
+/**
+ * A sparse vector of term weights, such as a document's TF-IDF vector.
+ *
+ * The entries are stored as two parallel arrays sorted by term id, so a vector
+ * takes a few bytes per distinct term, and looking up one term's weight is a binary
+ * search over ints. The vector's norm is computed once, when it is built.
+ */
+public class TermVector {
+    private int[] termIds;
+    private double[] weights;
+    private double norm;
+
+    /**
+     * Builds a vector from the given entries. The term ids must be sorted in
+     * increasing order, with no duplicates; the vector takes ownership of both arrays.
+     *
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    public TermVector(int[] termIds, double[] weights) {
+        if (termIds.length != weights.length) {
+            throw new IllegalArgumentException();
+        }
+        this.termIds = termIds;
+        this.weights = weights;
+        double sumOfSquares = 0.0;
+        for (double weight : weights) {
+            sumOfSquares += weight * weight;
+        }
+        this.norm = Math.sqrt(sumOfSquares);
+    }
+
+    /**
+     * Returns the number of terms in this vector.
+     */
+    public int size() {
+        return this.termIds.length;
+    }
+
+    /**
+     * Returns the term id of the i-th entry; entries are ordered by term id.
+     */
+    public int termIdAt(int i) {
+        return this.termIds[i];
+    }
+
+    /**
+     * Returns the weight of the i-th entry.
+     */
+    public double weightAt(int i) {
+        return this.weights[i];
+    }
+
+    /**
+     * Returns the weight of the given term, or 0.0 if the term is not in this vector.
+     */
+    public double weightOf(int termId) {
+        int index = Arrays.binarySearch(this.termIds, termId);
+        return index < 0 ? 0.0 : this.weights[index];
+    }
+
+    /**
+     * Returns the Euclidean norm of this vector.
+     */
+    public double getNorm() {
+        return this.norm;
+    }
+
+    /**
+     * Returns the dot product of this vector and the other one. This runs in
+     * O(m log(n)) time, where m is the size of the smaller vector and n the larger.
+     */
+    public double dot(TermVector other) {
+        TermVector small = this.size() <= other.size() ? this : other;
+        TermVector large = small == this ? other : this;
+        double total = 0.0;
+        for (int i = 0; i < small.termIds.length; i++) {
+            total += small.weights[i] * large.weightOf(small.termIds[i]);
+        }
+        return total;
+    }
+}
@@ -1,6 +1,6 @@
 package search.scraper;
 
-import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.CacheDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.ISet;
 import org.apache.http.HttpEntity;
@@ -20,6 +20,10 @@ public class HttpRequester implements AutoCloseable {
     public static final String DEFAULT_USER_AGENT = "Cse373Crawler (contact mlee42@cs.washington.edu)";
     public static final long DEFAULT_DELAY = 1000; // 1 second
 
+    // A crawl can touch an unbounded number of hosts, so only the robots.txt rules of
+    // the most frequently visited ones are kept; the rest are fetched again if needed.
+    public static final int MAX_CACHED_ROBOTS_RULES = 1000;
+
     private final String userAgent;
     private final long delayMilliseconds;
 
@@ -46,7 +50,8 @@ public class HttpRequester implements AutoCloseable {
         this.userAgent = userAgent;
         this.delayMilliseconds = delayMilliseconds;
         this.lastRequestTimestamp = 0L;
-        this.matchPattern = new ChainedHashDictionary<>();
+        this.matchPattern = new CacheDictionary<>(MAX_CACHED_ROBOTS_RULES,
+                CacheDictionary.EvictionPolicy.TINY_LFU);
 
         // HTTP config
         this.client = HttpClients.custom()
@@ -113,22 +118,22 @@ public class HttpRequester implements AutoCloseable {
         if (!this.defaultMatchRule.matches(uri)) {
             return false;
         }
-        if (!this.matchPattern.containsKey(host)) {
+        UriMatchRule rule = this.matchPattern.getOrDefault(host, null);
+        if (rule == null) {
             String robotsContents;
             try {
                 robotsContents = this.rawHttpRequest(uri.resolve("/robots.txt"));
             } catch (IOException | URISyntaxException ex) {
                 throw new RuntimeException(ex);
             }
-            UriMatchRule newRule;
             if (robotsContents == null) {
-                newRule = new UriMatchRule(null, null);
+                rule = new UriMatchRule(null, null);
             } else {
-                newRule = new RobotsTxt(this.userAgent, robotsContents).getMatchRule();
+                rule = new RobotsTxt(this.userAgent, robotsContents).getMatchRule();
             }
-            this.matchPattern.put(host, newRule);
+            this.matchPattern.put(host, rule);
         }
-        return !this.matchPattern.get(host).matches(uri);
+        return !rule.matches(uri);
     }
 
 
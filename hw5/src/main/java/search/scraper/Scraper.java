@@ -1,20 +1,29 @@
 package search.scraper;
 
-import datastructures.concrete.ArrayHeap;
+import datastructures.concrete.BloomFilterSet;
+import datastructures.concrete.BucketQueue;
 import datastructures.concrete.ChainedHashSet;
-import datastructures.interfaces.IPriorityQueue;
+import datastructures.concrete.ScalableBloomFilterSet;
+import datastructures.interfaces.IMonotonePriorityQueue;
 import datastructures.interfaces.ISet;
 import search.misc.WebUtils;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
-import java.io.FileReader;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.net.URISyntaxException;
 import java.net.URI;
@@ -22,15 +31,24 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 public class Scraper {
+    private static final long BLOOM_FILTER_INITIAL_CAPACITY = 1 << 20;
+
     private Path outputPath;
-    private IPriorityQueue<PendingUri> pendingUris;
+    // Pending URIs by link distance from the seeds. A page's links are always one step
+    // further than the page, so the crawl is breadth-first and a two-bucket queue will do.
+    private IMonotonePriorityQueue<URI> pendingUris;
     private ISet<String> domainWhitelist;
-    private ISet<URI> alreadyEncountered;
     private HttpRequester requester;
 
+    // Exactly one of these two tracks the URIs we've already seen: the exact set by
+    // default, or the Bloom filter once 'useBloomFilter' has been called.
+    private ISet<URI> alreadyEncountered;
+    private ScalableBloomFilterSet<URI> encounteredFilter;
+    private boolean confirmPositivesOnDisk;
+
     public Scraper(Path outputPath) {
         this.outputPath = outputPath;
-        this.pendingUris = new ArrayHeap<>();
+        this.pendingUris = new BucketQueue<>(1);
         this.domainWhitelist = new ChainedHashSet<>();
         this.requester = new HttpRequester();
         this.alreadyEncountered = new ChainedHashSet<>();
@@ -41,7 +59,9 @@ public class Scraper {
         if (!normalizedUri.isPresent()) {
             throw new IllegalArgumentException("URI is malformed: " + uri);
         }
-        this.pendingUris.insert(new PendingUri(0, normalizedUri.get()));
+        // A seed added mid-crawl joins the pages currently being fetched
+        long distance = this.pendingUris.isEmpty() ? 0 : this.pendingUris.peekMinKey();
+        this.pendingUris.insert(distance, normalizedUri.get());
         return this;
     }
 
@@ -50,6 +70,50 @@ public class Scraper {
         return this;
     }
 
+    /**
+     * Tracks already-encountered URIs with a scalable Bloom filter instead of an exact
+     * set, so that very long crawls don't run out of memory. The filter is saved next
+     * to list.sav as list.bloom, so later runs only have to replay the URIs that were
+     * saved after it.
+     *
+     * A false positive makes the scraper skip a page it has never seen. If
+     * 'confirmPositivesOnDisk' is true, a positive is only trusted if the page's saved
+     * HTML file exists, so fetched pages are never refetched and unseen pages are
+     * never skipped. (Pages that were seen but not saved, such as off-whitelist
+     * pages, may then get queued again.)
+     *
+     * @throws IllegalArgumentException if the false positive rate is not between 0 and 1
+     */
+    public Scraper useBloomFilter(double falsePositiveRate, boolean confirmPositivesOnDisk) {
+        this.encounteredFilter = new ScalableBloomFilterSet<>(
+                BLOOM_FILTER_INITIAL_CAPACITY, falsePositiveRate, Scraper::hashUri);
+        this.confirmPositivesOnDisk = confirmPositivesOnDisk;
+        this.alreadyEncountered = null;
+        return this;
+    }
+
+    private static long hashUri(URI uri) {
+        return BloomFilterSet.hashString(uri.toString());
+    }
+
+    private void markEncountered(URI uri) {
+        if (this.encounteredFilter != null) {
+            this.encounteredFilter.add(uri);
+        } else {
+            this.alreadyEncountered.add(uri);
+        }
+    }
+
+    private boolean hasEncountered(URI uri) {
+        if (this.encounteredFilter == null) {
+            return this.alreadyEncountered.contains(uri);
+        }
+        if (!this.encounteredFilter.mightContain(uri)) {
+            return false;
+        }
+        return !this.confirmPositivesOnDisk || this.getHtmlPath(uri).toFile().exists();
+    }
+
     public void run(int limit) throws IOException, URISyntaxException {
         File outputFile = this.outputPath.toFile();
         if (!outputFile.exists() && !outputFile.mkdirs()) {
@@ -57,14 +121,15 @@ public class Scraper {
         }
 
         File saveFile = this.outputPath.resolve("list.sav").toFile();
-        this.loadAlreadyEncountered(saveFile);
+        File filterFile = this.outputPath.resolve("list.bloom").toFile();
+        this.loadAlreadyEncountered(saveFile, filterFile);
         try (PrintWriter saveWriter = this.makePrintWriter(saveFile, true)) {
             int limitCount = 0;
             while (limitCount < limit && !this.pendingUris.isEmpty()) {
                 // Handle page
-                PendingUri pending = this.pendingUris.removeMin();
-                URI uri = pending.uri;
-                this.alreadyEncountered.add(uri);
+                long distance = this.pendingUris.peekMinKey();
+                URI uri = this.pendingUris.removeMin();
+                this.markEncountered(uri);
 
                 // Skip invalid pages
                 if (!this.domainWhitelist.contains(uri.getHost())) {
@@ -72,7 +137,7 @@ public class Scraper {
                     continue;
                 }
 
-                String body = this.requester.makeRequest(pending.uri);
+                String body = this.requester.makeRequest(uri);
                 if (body == null) {
                     System.out.println(String.format("Unable to fetch content from '%s'", uri));
                     continue;
@@ -88,21 +153,30 @@ public class Scraper {
                 for (URI link : WebUtils.extractLinks(uri, document)) {
                     Optional<URI> normalizedUri = WebUtils.normalize(link);
 
-                    if (normalizedUri.isPresent() && !this.alreadyEncountered.contains(link)) {
-                        this.pendingUris.insert(new PendingUri(pending.distance + 1, normalizedUri.get()));
+                    if (normalizedUri.isPresent() && !this.hasEncountered(normalizedUri.get())) {
+                        this.pendingUris.insert(distance + 1, normalizedUri.get());
                     }
                 }
 
                 // Log
                 System.out.println(String.format("Fetched %s", uri));
             }
+        } finally {
+            // Runs after saveWriter is closed, so list.sav's length is final
+            if (this.encounteredFilter != null) {
+                this.saveEncounteredFilter(saveFile, filterFile);
+            }
         }
     }
 
-    private void saveHtml(URI uri, String body) throws IOException {
+    private Path getHtmlPath(URI uri) {
         String hex = DigestUtils.md5Hex(uri.toString());
-        Path saveDomainPath = this.outputPath.resolve(uri.getHost());
-        Path savePath = saveDomainPath.resolve(hex + ".html");
+        return this.outputPath.resolve(uri.getHost()).resolve(hex + ".html");
+    }
+
+    private void saveHtml(URI uri, String body) throws IOException {
+        Path savePath = this.getHtmlPath(uri);
+        Path saveDomainPath = savePath.getParent();
 
         if (!saveDomainPath.toFile().exists() && !saveDomainPath.toFile().mkdirs()) {
             throw new IOException("Unable to make folder " + saveDomainPath);
@@ -121,36 +195,48 @@ public class Scraper {
         return new PrintWriter(new BufferedWriter(new FileWriter(file, append)));
     }
 
-    private void loadAlreadyEncountered(File saveFile) throws IOException {
+    private void loadAlreadyEncountered(File saveFile, File filterFile) throws IOException {
         if (saveFile.exists() && !saveFile.isFile()) {
             throw new IOException("list.sav is not a file?");
         }
 
+        // With a Bloom filter, start from the saved filter and only replay the part of
+        // list.sav written after it was saved
+        long replayFrom = 0;
+        if (this.encounteredFilter != null && filterFile.isFile()) {
+            try (DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(new FileInputStream(filterFile)))) {
+                long savedLength = in.readLong();
+                if (savedLength <= saveFile.length()) {
+                    this.encounteredFilter = ScalableBloomFilterSet.readFrom(in, Scraper::hashUri);
+                    replayFrom = savedLength;
+                }
+            }
+        }
+
         if (saveFile.exists()) {
-            try (BufferedReader reader = new BufferedReader(new FileReader(saveFile))) {
+            try (InputStream in = new FileInputStream(saveFile)) {
+                long skipped = 0;
+                while (skipped < replayFrom) {
+                    skipped += in.skip(replayFrom - skipped);
+                }
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in));
                 String line = reader.readLine();
                 while (line != null) {
-                    this.alreadyEncountered.add(URI.create(line.trim()));
+                    this.markEncountered(URI.create(line.trim()));
                     line = reader.readLine();
                 }
             }
         }
     }
 
-    private static class PendingUri implements Comparable<PendingUri> {
-        public final int distance;
-        public final URI uri;
-
-        public PendingUri(int distance, URI uri) {
-            if (uri == null) {
-                throw new IllegalArgumentException();
-            }
-            this.distance = distance;
-            this.uri = uri;
-        }
-
-        public int compareTo(PendingUri other) {
-            return Integer.compare(this.distance, other.distance);
+    // Saves the filter along with the current length of list.sav, which tells the
+    // next run where to resume replaying.
+    private void saveEncounteredFilter(File saveFile, File filterFile) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(filterFile)))) {
+            out.writeLong(saveFile.length());
+            this.encounteredFilter.writeTo(out);
         }
     }
 }
@@ -0,0 +1,167 @@
+package datastructures;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.ArrayBackedList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestArrayBackedList extends BaseTest {
+    protected IList<String> makeBasicList() {
+        IList<String> list = new ArrayBackedList<>();
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        return list;
+    }
+
+    protected <T> void assertListMatches(T[] expected, IList<T> actual) {
+        assertEquals(expected.length, actual.size());
+        assertEquals(expected.length == 0, actual.isEmpty());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("Item at index " + i + " does not match", expected[i], actual.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddGrowsPastInitialCapacity() {
+        IList<Integer> list = new ArrayBackedList<>(0);
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        assertEquals(100, list.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, list.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSetAndRemove() {
+        IList<String> list = this.makeBasicList();
+        list.set(1, "x");
+        this.assertListMatches(new String[] {"a", "x", "c"}, list);
+        assertEquals("c", list.remove());
+        assertEquals("x", list.remove());
+        assertEquals("a", list.remove());
+        try {
+            list.remove();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInsertAndDeleteShiftElements() {
+        IList<String> list = this.makeBasicList();
+        list.insert(0, "front");
+        list.insert(2, "mid");
+        list.insert(list.size(), "end");
+        this.assertListMatches(new String[] {"front", "a", "mid", "b", "c", "end"}, list);
+
+        assertEquals("mid", list.delete(2));
+        assertEquals("front", list.delete(0));
+        assertEquals("end", list.delete(list.size() - 1));
+        this.assertListMatches(new String[] {"a", "b", "c"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testOutOfBoundsIndices() {
+        IList<String> list = this.makeBasicList();
+        int[] badIndices = {-1, 3, 10};
+        for (int index : badIndices) {
+            try {
+                list.get(index);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+            try {
+                list.delete(index);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // All ok -- expected result
+            }
+        }
+        try {
+            list.insert(4, "x");
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testIndexOfAndContainsWithNull() {
+        IList<String> list = this.makeBasicList();
+        list.add(null);
+        assertEquals(1, list.indexOf("b"));
+        assertEquals(3, list.indexOf(null));
+        assertEquals(-1, list.indexOf("z"));
+        assertTrue(list.contains(null));
+        assertFalse(list.contains("z"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testIterator() {
+        IList<String> list = this.makeBasicList();
+        Iterator<String> iter = list.iterator();
+        assertEquals("a", iter.next());
+        assertEquals("b", iter.next());
+        assertEquals("c", iter.next());
+        assertFalse(iter.hasNext());
+        try {
+            iter.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testGetAndSetAreConstantTime() {
+        int limit = 1000000;
+        IList<Integer> list = new ArrayBackedList<>();
+        for (int i = 0; i < limit; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < limit; i++) {
+            list.set(i, list.get(i) * 2);
+        }
+        assertEquals((limit - 1) * 2, list.get(limit - 1));
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddAllCopiesOtherList() {
+        ArrayBackedList<Integer> list = new ArrayBackedList<>(0);
+        ArrayBackedList<Integer> other = new ArrayBackedList<>();
+        list.addAll(other);
+        assertTrue(list.isEmpty());
+        for (int i = 0; i < 25; i++) {
+            other.add(i);
+        }
+        list.add(-1);
+        list.addAll(other);
+        assertEquals(26, list.size());
+        assertEquals(25, other.size());
+        for (int i = 0; i < 25; i++) {
+            assertEquals(i, list.get(i + 1));
+        }
+
+        list.addAll(list);
+        assertEquals(52, list.size());
+        assertEquals(-1, list.get(26));
+        assertEquals(24, list.get(51));
+    }
+}
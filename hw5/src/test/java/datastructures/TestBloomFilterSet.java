@@ -0,0 +1,132 @@
+package datastructures;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.BloomFilterSet;
+import datastructures.concrete.ScalableBloomFilterSet;
+import datastructures.interfaces.IProbabilisticSet;
+import misc.BaseTest;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestBloomFilterSet extends BaseTest {
+    private static final double RATE = 0.01;
+
+    // Adds "item0" through "item{n-1}" and checks that none of them are reported missing.
+    private void addAndCheckNoFalseNegatives(IProbabilisticSet<String> set, int n) {
+        for (int i = 0; i < n; i++) {
+            set.add("item" + i);
+        }
+        for (int i = 0; i < n; i++) {
+            assertTrue(set.mightContain("item" + i));
+        }
+    }
+
+    // Returns the fraction of 'trials' items never added that the set claims to contain.
+    private double measureFalsePositiveRate(IProbabilisticSet<String> set, int trials) {
+        int falsePositives = 0;
+        for (int i = 0; i < trials; i++) {
+            if (set.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+        return (double) falsePositives / trials;
+    }
+
+    @Test(timeout=SECOND)
+    public void testEmptyFilter() {
+        BloomFilterSet<String> set = new BloomFilterSet<>(100, RATE);
+        assertTrue(set.isEmpty());
+        assertFalse(set.mightContain("a"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testBadArgumentsThrowException() {
+        double[] badRates = {0.0, 1.0, -0.5, Double.NaN};
+        for (double rate : badRates) {
+            try {
+                new BloomFilterSet<String>(100, rate);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                // All ok -- expected result
+            }
+        }
+        try {
+            new ScalableBloomFilterSet<String>(0, RATE);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testFalsePositiveRateNearTarget() {
+        int n = 100000;
+        BloomFilterSet<String> set = new BloomFilterSet<>(n, RATE, BloomFilterSet::hashString);
+        this.addAndCheckNoFalseNegatives(set, n);
+        assertEquals(n, set.size(), 0.01 * n);
+        assertTrue(this.measureFalsePositiveRate(set, n) < 2 * RATE);
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testScalableFilterGrows() {
+        int n = 100000;
+        ScalableBloomFilterSet<String> set = new ScalableBloomFilterSet<>(1000, RATE, BloomFilterSet::hashString);
+        this.addAndCheckNoFalseNegatives(set, n);
+        assertTrue(set.numFilters() > 1);
+        assertTrue(this.measureFalsePositiveRate(set, n) < 2 * RATE);
+
+        // Duplicates shouldn't make the filter grow
+        int numFilters = set.numFilters();
+        this.addAndCheckNoFalseNegatives(set, n);
+        assertEquals(numFilters, set.numFilters());
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testScalableFilterFromSmallCapacityStaysBelowRate() {
+        int n = 50000;
+        ScalableBloomFilterSet<String> set = new ScalableBloomFilterSet<>(100, RATE, BloomFilterSet::hashString);
+        this.addAndCheckNoFalseNegatives(set, n);
+        assertTrue(this.measureFalsePositiveRate(set, 4 * n) < RATE);
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testWriteAndReadBack() throws IOException {
+        ScalableBloomFilterSet<String> set = new ScalableBloomFilterSet<>(1000, RATE, BloomFilterSet::hashString);
+        this.addAndCheckNoFalseNegatives(set, 10000);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        set.writeTo(new DataOutputStream(bytes));
+        ScalableBloomFilterSet<String> copy = ScalableBloomFilterSet.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())),
+                BloomFilterSet::hashString);
+
+        assertEquals(set.size(), copy.size());
+        assertEquals(set.numFilters(), copy.numFilters());
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(copy.mightContain("item" + i));
+            assertEquals(set.mightContain("other" + i), copy.mightContain("other" + i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testReadGarbageThrowsException() {
+        byte[] garbage = {1, 2, 3, 4, 5, 6, 7, 8};
+        try {
+            BloomFilterSet.<String>readFrom(new DataInputStream(new ByteArrayInputStream(garbage)), BloomFilterSet::hashString);
+            fail("Expected IOException");
+        } catch (IOException ex) {
+            // All ok -- expected result
+        }
+    }
+}
@@ -16,6 +16,8 @@ import org.junit.runners.MethodSorters;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
 
 @FixMethodOrder(MethodSorters.NAME_ASCENDING)
 public class TestDoubleLinkedList extends BaseTest {
@@ -594,4 +596,169 @@ public class TestDoubleLinkedList extends BaseTest {
             count += 2;
         }
     }
+
+    @Test(timeout=SECOND)
+    public void testAppendAllMovesNodes() {
+        DoubleLinkedList<String> list = new DoubleLinkedList<>();
+        DoubleLinkedList<String> other = new DoubleLinkedList<>();
+        list.appendAll(other);
+        assertListMatches(new String[] {}, list);
+
+        other.add("a");
+        other.add("b");
+        list.appendAll(other);
+        assertListMatches(new String[] {"a", "b"}, list);
+        assertListMatches(new String[] {}, other);
+
+        other.add("c");
+        other.add("d");
+        list.appendAll(other);
+        assertListMatches(new String[] {"a", "b", "c", "d"}, list);
+        assertListMatches(new String[] {}, other);
+
+        // Both lists must still be fully usable afterwards
+        assertEquals("d", list.remove());
+        list.add("e");
+        other.add("f");
+        assertListMatches(new String[] {"a", "b", "c", "e"}, list);
+        assertListMatches(new String[] {"f"}, other);
+    }
+
+    @Test(timeout=SECOND)
+    public void testAppendAllSelfThrowsException() {
+        DoubleLinkedList<String> list = new DoubleLinkedList<>();
+        list.add("a");
+        try {
+            list.appendAll(list);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // This is ok: do nothing
+        }
+        assertListMatches(new String[] {"a"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSpliteratorSplitsInOrder() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        Spliterator<Integer> suffix = list.spliterator();
+        Spliterator<Integer> prefix = suffix.trySplit();
+        assertEquals(5L, prefix.estimateSize());
+        assertEquals(5L, suffix.estimateSize());
+
+        int[] next = {0};
+        prefix.forEachRemaining(item -> {
+            assertEquals(next[0], (int) item);
+            next[0]++;
+        });
+        suffix.forEachRemaining(item -> {
+            assertEquals(next[0], (int) item);
+            next[0]++;
+        });
+        assertEquals(10, next[0]);
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testParallelStreamMatchesSequential() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        long expectedSum = 0;
+        for (int i = 0; i < 100000; i++) {
+            list.add(i);
+            expectedSum += i;
+        }
+        assertEquals(expectedSum, StreamSupport.stream(list.spliterator(), true)
+                .mapToLong(item -> item)
+                .sum());
+        assertEquals((long) list.size(), StreamSupport.stream(list.spliterator(), true).count());
+    }
+
+    private DoubleLinkedList<String> makeLetterList(int count) {
+        DoubleLinkedList<String> list = new DoubleLinkedList<>();
+        for (int i = 0; i < count; i++) {
+            list.add(String.valueOf((char) ('a' + i)));
+        }
+        return list;
+    }
+
+    @Test(timeout=SECOND)
+    public void testReverse() {
+        DoubleLinkedList<String> list = makeLetterList(0);
+        list.reverse();
+        assertListMatches(new String[] {}, list);
+
+        list = makeLetterList(1);
+        list.reverse();
+        assertListMatches(new String[] {"a"}, list);
+
+        list = makeLetterList(4);
+        list.reverse();
+        assertListMatches(new String[] {"d", "c", "b", "a"}, list);
+        // The links in both directions must be consistent afterwards
+        assertEquals("a", list.remove());
+        list.insert(1, "x");
+        list.add("z");
+        assertListMatches(new String[] {"d", "x", "c", "b", "z"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testSplitAt() {
+        DoubleLinkedList<String> list = makeLetterList(5);
+        DoubleLinkedList<String> tail = list.splitAt(2);
+        assertListMatches(new String[] {"a", "b"}, list);
+        assertListMatches(new String[] {"c", "d", "e"}, tail);
+
+        tail.add("f");
+        list.add("g");
+        assertListMatches(new String[] {"a", "b", "g"}, list);
+        assertListMatches(new String[] {"c", "d", "e", "f"}, tail);
+
+        DoubleLinkedList<String> empty = list.splitAt(3);
+        assertListMatches(new String[] {}, empty);
+        DoubleLinkedList<String> all = list.splitAt(0);
+        assertListMatches(new String[] {}, list);
+        assertListMatches(new String[] {"a", "b", "g"}, all);
+
+        try {
+            all.splitAt(4);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSubListViewReadsAndWrites() {
+        DoubleLinkedList<String> list = makeLetterList(6);
+        IList<String> view = list.subListView(1, 4);
+        assertListMatches(new String[] {"b", "c", "d"}, view);
+        assertEquals(2, view.indexOf("d"));
+        assertFalse(view.contains("a"));
+
+        view.set(0, "x");
+        assertListMatches(new String[] {"x", "c", "d"}, view);
+        view.add("y");
+        view.insert(0, "w");
+        assertEquals("c", view.delete(2));
+        assertListMatches(new String[] {"w", "x", "d", "y"}, view);
+        assertListMatches(new String[] {"a", "w", "x", "d", "y", "e", "f"}, list);
+
+        assertEquals("y", view.remove());
+        assertListMatches(new String[] {"a", "w", "x", "d", "e", "f"}, list);
+
+        try {
+            view.get(3);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // This is ok: do nothing
+        }
+        try {
+            list.subListView(4, 7);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // This is ok: do nothing
+        }
+        assertListMatches(new String[] {}, list.subListView(6, 6));
+    }
 }
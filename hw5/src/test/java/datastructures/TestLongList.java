@@ -0,0 +1,96 @@
+package datastructures;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.LongList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Iterator;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestLongList extends BaseTest {
+    // Big enough that none of these values come from the Long cache
+    private static final long BIG = 1L << 40;
+
+    protected LongList makeBasicList() {
+        LongList list = new LongList();
+        list.addLong(BIG + 1);
+        list.addLong(BIG + 2);
+        list.addLong(BIG + 3);
+        return list;
+    }
+
+    @Test(timeout=SECOND)
+    public void testPrimitiveAddGetSet() {
+        LongList list = new LongList(0);
+        for (long i = 0; i < 1000; i++) {
+            list.addLong(BIG + i);
+        }
+        assertEquals(1000, list.size());
+        list.setLong(10, -1L);
+        assertEquals(-1L, list.getLong(10));
+        assertEquals(BIG + 999, list.getLong(999));
+        assertEquals(BIG + 999, list.removeLong());
+        assertEquals(999, list.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testToArrayIsTrimmedCopy() {
+        LongList list = this.makeBasicList();
+        long[] values = list.toArray();
+        assertEquals(3, values.length);
+        values[0] = 0L;
+        assertEquals(BIG + 1, list.getLong(0));
+    }
+
+    @Test(timeout=SECOND)
+    public void testListView() {
+        IList<Long> list = this.makeBasicList();
+        list.insert(0, BIG);
+        list.add(BIG + 4);
+        assertEquals(5, list.size());
+        assertEquals(BIG, list.get(0));
+        assertEquals(BIG + 2, list.delete(2));
+        assertEquals(2, list.indexOf(BIG + 3));
+        assertTrue(list.contains(BIG + 4));
+        assertFalse(list.contains(null));
+
+        Iterator<Long> iter = list.iterator();
+        long[] expected = {BIG, BIG + 1, BIG + 3, BIG + 4};
+        for (long value : expected) {
+            assertEquals(value, iter.next());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testErrors() {
+        LongList list = new LongList();
+        try {
+            list.removeLong();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            list.getLong(0);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- expected result
+        }
+        try {
+            list.add(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package datastructures.dictionaries;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import datastructures.concrete.ArrayBackedList;
+import datastructures.concrete.dictionaries.CacheDictionary;
+import datastructures.concrete.dictionaries.CacheDictionary.EvictionPolicy;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IList;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * Runs the usual dictionary tests on a cache too big to evict anything, then checks
+ * the eviction behavior itself.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestCacheDictionary extends TestDictionary {
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new CacheDictionary<>(Integer.MAX_VALUE);
+    }
+
+    @Test(timeout=SECOND)
+    public void testLruEvictsLeastRecentlyUsed() {
+        CacheDictionary<String, Integer> cache = new CacheDictionary<>(3);
+        IList<String> evicted = new ArrayBackedList<>();
+        cache.setEvictionListener((key, value) -> evicted.add(key));
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        assertEquals(1, cache.get("a"));
+        cache.put("d", 4);
+
+        assertEquals(3, cache.size());
+        assertFalse(cache.containsKey("b"));
+        assertTrue(cache.containsKey("a"));
+        assertEquals(1, evicted.size());
+        assertEquals("b", evicted.get(0));
+
+        // Overwriting counts as a use, so "c" is now the oldest
+        cache.put("a", 10);
+        cache.put("e", 5);
+        assertFalse(cache.containsKey("c"));
+        assertEquals(10, cache.get("a"));
+        assertEquals(2L, cache.getEvictionCount());
+    }
+
+    @Test(timeout=SECOND)
+    public void testCountsHitsAndMisses() {
+        CacheDictionary<String, Integer> cache = new CacheDictionary<>(10);
+        cache.put("a", 1);
+        assertEquals(1, cache.get("a"));
+        assertEquals(1, cache.getOrDefault("a", -1));
+        assertEquals(-1, cache.getOrDefault("b", -1));
+        assertTrue(cache.containsKey("a"));
+
+        assertEquals(2L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+
+        // Removing an entry is not an eviction
+        assertEquals(1, cache.remove("a"));
+        assertEquals(0L, cache.getEvictionCount());
+        assertEquals(0L, cache.getWeightedSize());
+    }
+
+    @Test(timeout=SECOND)
+    public void testWeigherBoundsTotalWeight() {
+        CacheDictionary<Integer, String> cache =
+                new CacheDictionary<>(10, (key, value) -> value.length(), EvictionPolicy.LRU);
+        IList<Integer> evicted = new ArrayBackedList<>();
+        cache.setEvictionListener((key, value) -> evicted.add(key));
+
+        cache.put(1, "aaaa");
+        cache.put(2, "bbbb");
+        assertEquals(8L, cache.getWeightedSize());
+        cache.put(3, "cc");
+        assertEquals(10L, cache.getWeightedSize());
+        assertEquals(0, evicted.size());
+
+        // Growing an entry in place can push others out
+        cache.put(3, "cccccc");
+        assertEquals(1, evicted.size());
+        assertEquals(1, evicted.get(0));
+        assertEquals(10L, cache.getWeightedSize());
+
+        // An entry heavier than the whole cache never stays, and leaves the rest alone
+        cache.put(4, "ddddddddddd");
+        assertFalse(cache.containsKey(4));
+        assertEquals(2, cache.size());
+        assertEquals(2, evicted.size());
+        assertEquals(4, evicted.get(1));
+    }
+
+    @Test(timeout=SECOND)
+    public void testEvictionKeepsSizeBounded() {
+        for (EvictionPolicy policy : EvictionPolicy.values()) {
+            CacheDictionary<Integer, Integer> cache = new CacheDictionary<>(100, policy);
+            for (int i = 0; i < 10000; i++) {
+                cache.put(i % 700, i);
+                cache.getOrDefault((i * 31) % 700, null);
+                assertTrue(cache.size() <= 100);
+            }
+            assertEquals(100, cache.size());
+            assertEquals(100L, cache.getWeightedSize());
+
+            int seen = 0;
+            for (int i = 0; i < 700; i++) {
+                if (cache.containsKey(i)) {
+                    seen++;
+                }
+            }
+            assertEquals(100, seen);
+        }
+    }
+
+    private void useHotKeysThenScan(IDictionary<Integer, Integer> cache) {
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                if (cache.getOrDefault(i, null) == null) {
+                    cache.put(i, i);
+                }
+            }
+        }
+        // A long run of keys that are each used only once
+        for (int i = 1000; i < 6000; i++) {
+            cache.put(i, i);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testTinyLfuKeepsFrequentKeysThroughScan() {
+        CacheDictionary<Integer, Integer> lru = new CacheDictionary<>(100, EvictionPolicy.LRU);
+        CacheDictionary<Integer, Integer> tinyLfu = new CacheDictionary<>(100, EvictionPolicy.TINY_LFU);
+        this.useHotKeysThenScan(lru);
+        this.useHotKeysThenScan(tinyLfu);
+
+        int lruKept = 0;
+        int tinyLfuKept = 0;
+        for (int i = 0; i < 50; i++) {
+            if (lru.containsKey(i)) {
+                lruKept++;
+            }
+            if (tinyLfu.containsKey(i)) {
+                tinyLfuKept++;
+            }
+        }
+        assertEquals(0, lruKept);
+        assertTrue(tinyLfuKept >= 45);
+    }
+
+    @Test(timeout=SECOND)
+    public void testStatsCountEntries() {
+        CacheDictionary<Integer, Integer> cache = new CacheDictionary<>(50, EvictionPolicy.TINY_LFU);
+        for (int i = 0; i < 200; i++) {
+            cache.put(i, i);
+        }
+        assertEquals(50, cache.getStats().getSize());
+        assertTrue(cache.getStats().getEstimatedBytes() > 0);
+        assertNull(cache.getOrDefault(-1, null));
+    }
+}
@@ -1,8 +1,10 @@
 package datastructures.dictionaries;
 
 import datastructures.concrete.KVPair;
+import datastructures.concrete.StructureStats;
 import datastructures.concrete.dictionaries.ChainedHashDictionary;
 import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
 import org.junit.Assert;
 import org.junit.FixMethodOrder;
 import org.junit.Test;
@@ -166,4 +168,92 @@ public class TestChainedHashDictionary extends TestDictionary {
         IDictionary<String, String>[] chains = getField(map, "chains", IDictionary[].class);
         assertNotNull(chains);
     }
+
+    @Test(timeout=SECOND)
+    public void testStatsDescribeChains() {
+        ChainedHashDictionary<Integer, Integer> dict = new ChainedHashDictionary<>();
+        long emptyBytes = dict.getStats().getEstimatedBytes();
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, i);
+        }
+        StructureStats stats = dict.getStats();
+        assertEquals(1000, stats.getSize());
+        assertTrue(stats.getCapacity() > 0);
+        assertTrue(stats.getResizeCount() > 0);
+        assertTrue(stats.getMaxProbeLength() >= 1);
+        assertTrue(stats.getEstimatedBytes() > emptyBytes);
+
+        int nonEmptyChains = 0;
+        int[] histogram = stats.getChainLengthHistogram();
+        for (int i = 1; i < histogram.length; i++) {
+            nonEmptyChains += histogram[i];
+        }
+        assertTrue(nonEmptyChains > 0);
+        assertTrue(nonEmptyChains <= 1000);
+    }
+
+    // Builds distinct strings that all have the same hash code, out of the blocks
+    // "Aa" and "BB" (which hash the same): bit b of i picks the block at position b.
+    private static String collidingString(int i, int blocks) {
+        StringBuilder out = new StringBuilder();
+        for (int b = 0; b < blocks; b++) {
+            out.append((i >>> b & 1) == 0 ? "Aa" : "BB");
+        }
+        return out.toString();
+    }
+
+    @Test(timeout=SECOND)
+    public void testManyCollidingComparableKeys() {
+        int limit = 20000;
+        IDictionary<String, Integer> dict = this.newDictionary();
+        for (int i = 0; i < limit; i++) {
+            dict.put(collidingString(i, 16), i);
+        }
+        assertEquals(limit, dict.size());
+        assertEquals(collidingString(0, 16).hashCode(), collidingString(limit - 1, 16).hashCode());
+        for (int i = 0; i < limit; i++) {
+            assertEquals(i, dict.get(collidingString(i, 16)));
+        }
+        for (int i = 0; i < limit; i += 2) {
+            assertEquals(i, dict.remove(collidingString(i, 16)));
+        }
+        for (int i = 0; i < limit; i++) {
+            assertEquals(i % 2 == 1, dict.containsKey(collidingString(i, 16)));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testCollidingKeysSurviveTreeifyAndUntreeify() {
+        IDictionary<Wrapper<Integer>, Integer> dict = this.newDictionary();
+        for (int i = 0; i < 200; i++) {
+            dict.put(new Wrapper<>(i, 7), i);
+        }
+        dict.put(null, -1);
+        for (int i = 0; i < 200; i += 3) {
+            assertEquals(i, dict.remove(new Wrapper<>(i, 7)));
+        }
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i % 3 != 0, dict.containsKey(new Wrapper<>(i, 7)));
+        }
+        assertEquals(-1, dict.get(null));
+
+        int seen = 0;
+        IDictionaryCursor<Wrapper<Integer>, Integer> cursor = dict.cursor();
+        while (cursor.advance()) {
+            cursor.setValue(cursor.value() + 1000);
+            seen++;
+        }
+        assertEquals(dict.size(), seen);
+
+        // Shrink the bucket back below the threshold, so it turns back into an array
+        for (int i = 0; i < 196; i++) {
+            if (i % 3 != 0) {
+                dict.remove(new Wrapper<>(i, 7));
+            }
+        }
+        assertEquals(4, dict.size());
+        assertEquals(1196, dict.get(new Wrapper<>(196, 7)));
+        assertEquals(999, dict.get(null));
+        assertEquals(1199, dict.get(new Wrapper<>(199, 7)));
+    }
 }
@@ -0,0 +1,51 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.ConcurrentChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestConcurrentChainedHashDictionary extends TestDictionary {
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new ConcurrentChainedHashDictionary<>();
+    }
+
+    @Test(timeout=SECOND)
+    public void testCompoundOperations() {
+        ConcurrentChainedHashDictionary<String, Integer> dict = new ConcurrentChainedHashDictionary<>();
+        assertNull(dict.putIfAbsent("a", 1));
+        assertEquals(1, dict.putIfAbsent("a", 2));
+        assertEquals(5, dict.merge("a", 4, Integer::sum));
+        assertEquals(7, dict.compute("b", (key, old) -> old == null ? 7 : old + 1));
+        assertEquals(3, dict.computeIfAbsent("c", key -> 3));
+        assertEquals(3, dict.computeIfAbsent("c", key -> 100));
+
+        assertNull(dict.compute("b", (key, old) -> null));
+        assertFalse(dict.containsKey("b"));
+        assertEquals(2, dict.size());
+    }
+
+    @Test(timeout=10*SECOND)
+    public void testParallelMergeLosesNoUpdates() {
+        ConcurrentChainedHashDictionary<Integer, Integer> dict = new ConcurrentChainedHashDictionary<>();
+        int keys = 1000;
+        int updatesPerKey = 200;
+        IntStream.range(0, keys * updatesPerKey).parallel().forEach(i -> dict.merge(i % keys, 1, Integer::sum));
+
+        assertEquals(keys, dict.size());
+        int total = 0;
+        for (KVPair<Integer, Integer> pair : dict) {
+            assertEquals(updatesPerKey, pair.getValue());
+            total++;
+        }
+        assertEquals(keys, total);
+    }
+}
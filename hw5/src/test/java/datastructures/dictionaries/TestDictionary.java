@@ -2,6 +2,7 @@ package datastructures.dictionaries;
 
 import datastructures.concrete.KVPair;
 import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
 import misc.BaseTest;
 import misc.exceptions.NoSuchKeyException;
 import org.junit.FixMethodOrder;
@@ -9,9 +10,12 @@ import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -546,4 +550,185 @@ public abstract class TestDictionary extends BaseTest {
             assertFalse(iter.hasNext());
         }
     }
+
+    @Test(timeout=SECOND)
+    public void testForEachMatchesIterator() {
+        IDictionary<String, String> dict = this.newDictionary();
+        for (int i = 0; i < 100; i++) {
+            dict.put("key" + i, "val" + i);
+        }
+
+        List<KVPair<String, String>> expected = new ArrayList<>();
+        for (KVPair<String, String> pair : dict) {
+            expected.add(pair);
+        }
+        List<KVPair<String, String>> actual = new ArrayList<>();
+        dict.forEach((key, value) -> actual.add(new KVPair<>(key, value)));
+
+        assertEquals(expected, actual);
+    }
+
+    @Test(timeout=SECOND)
+    public void testCursorMatchesIterator() {
+        IDictionary<String, String> dict = this.newDictionary();
+        for (int i = 0; i < 100; i++) {
+            dict.put("key" + i, "val" + i);
+        }
+
+        IDictionaryCursor<String, String> cursor = dict.cursor();
+        for (KVPair<String, String> pair : dict) {
+            assertTrue(cursor.advance());
+            assertEquals(pair.getKey(), cursor.key());
+            assertEquals(pair.getValue(), cursor.value());
+        }
+        for (int i = 0; i < 3; i++) {
+            assertFalse(cursor.advance());
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testCursorSetValue() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+        IDictionaryCursor<String, String> cursor = dict.cursor();
+        while (cursor.advance()) {
+            cursor.setValue(cursor.value() + "!");
+            assertEquals(cursor.key().replace("key", "val") + "!", cursor.value());
+        }
+
+        this.assertDictMatches(
+                new String[] {"keyA", "keyB", "keyC"},
+                new String[] {"valA!", "valB!", "valC!"},
+                dict);
+    }
+
+    @Test(timeout=SECOND)
+    public void testCursorOutsidePairsThrowsException() {
+        IDictionary<String, String> dict = this.newDictionary();
+        IDictionaryCursor<String, String> cursor = dict.cursor();
+        try {
+            cursor.key();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // This is ok
+        }
+        assertFalse(cursor.advance());
+        try {
+            cursor.value();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // This is ok
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSpliteratorSplitsCoverEveryPairOnce() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, -i);
+        }
+
+        List<Integer> seen = new ArrayList<>();
+        this.splitAndCollect(dict.spliterator(), seen, 0);
+        assertEquals(1000, seen.size());
+        assertEquals(1000, new HashSet<>(seen).size());
+    }
+
+    // Splits the spliterator as deep as it will go (up to a limit) and records every key.
+    private void splitAndCollect(Spliterator<KVPair<Integer, Integer>> spliterator,
+                                 List<Integer> seen, int depth) {
+        Spliterator<KVPair<Integer, Integer>> other = depth < 8 ? spliterator.trySplit() : null;
+        if (other != null) {
+            this.splitAndCollect(other, seen, depth + 1);
+            this.splitAndCollect(spliterator, seen, depth + 1);
+        } else {
+            spliterator.forEachRemaining(pair -> {
+                assertEquals(-pair.getKey(), (int) pair.getValue());
+                seen.add(pair.getKey());
+            });
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testParallelStreamMatchesSize() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        long expectedSum = 0;
+        for (int i = 0; i < 5000; i++) {
+            dict.put(i, i);
+            expectedSum += i;
+        }
+
+        assertEquals(5000L, StreamSupport.stream(dict.spliterator(), true).count());
+        assertEquals(expectedSum, StreamSupport.stream(dict.spliterator(), true)
+                .mapToLong(pair -> pair.getValue())
+                .sum());
+    }
+
+    @Test(timeout=SECOND)
+    public void testPutIfAbsent() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+        assertEquals("valA", dict.putIfAbsent("keyA", "other"));
+        assertEquals(null, dict.putIfAbsent("keyD", "valD"));
+        this.assertDictMatches(
+                new String[] {"keyA", "keyB", "keyC", "keyD"},
+                new String[] {"valA", "valB", "valC", "valD"},
+                dict);
+    }
+
+    @Test(timeout=SECOND)
+    public void testComputeIfAbsent() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+        assertEquals("valA", dict.computeIfAbsent("keyA", key -> "other"));
+        assertEquals("keyD!", dict.computeIfAbsent("keyD", key -> key + "!"));
+        assertEquals(null, dict.computeIfAbsent("keyE", key -> null));
+        this.assertDictMatches(
+                new String[] {"keyA", "keyB", "keyC", "keyD"},
+                new String[] {"valA", "valB", "valC", "keyD!"},
+                dict);
+    }
+
+    @Test(timeout=SECOND)
+    public void testCompute() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+        assertEquals("keyA=valA", dict.compute("keyA", (key, value) -> key + "=" + value));
+        assertEquals("keyD=null", dict.compute("keyD", (key, value) -> key + "=" + value));
+        assertEquals(null, dict.compute("keyB", (key, value) -> null));
+        assertEquals(null, dict.compute("keyE", (key, value) -> null));
+        this.assertDictMatches(
+                new String[] {"keyA", "keyC", "keyD"},
+                new String[] {"keyA=valA", "valC", "keyD=null"},
+                dict);
+    }
+
+    @Test(timeout=SECOND)
+    public void testMergeCountsWords() {
+        IDictionary<String, Integer> dict = this.newDictionary();
+        String[] words = {"a", "b", "a", "c", "a", "b"};
+        for (String word : words) {
+            dict.merge(word, 1, Integer::sum);
+        }
+        this.assertDictMatches(new String[] {"a", "b", "c"}, new Integer[] {3, 2, 1}, dict);
+
+        assertEquals(null, dict.merge("a", 1, (oldValue, value) -> null));
+        this.assertDictMatches(new String[] {"b", "c"}, new Integer[] {2, 1}, dict);
+
+        try {
+            dict.merge("b", null, Integer::sum);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // This is ok
+        }
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testMergeMany() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        int cap = 5000;
+        for (int i = 0; i < 3 * cap; i++) {
+            dict.merge(i % cap, 1, Integer::sum);
+        }
+        assertEquals(cap, dict.size());
+        for (int i = 0; i < cap; i++) {
+            assertEquals(3, dict.get(i));
+        }
+    }
 }
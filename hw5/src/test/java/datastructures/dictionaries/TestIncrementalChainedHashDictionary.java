@@ -0,0 +1,44 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.ChainedHashDictionary.ResizeMode;
+import datastructures.interfaces.IDictionary;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Re-runs every ChainedHashDictionary test with incremental resizing turned on.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestIncrementalChainedHashDictionary extends TestChainedHashDictionary {
+    @Override
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new ChainedHashDictionary<>(ResizeMode.INCREMENTAL);
+    }
+
+    @Test(timeout=SECOND)
+    public void testOperationsDuringMigration() {
+        IDictionary<Integer, Integer> dict = this.newDictionary();
+        // 16 keys crosses the initial load factor, so the next puts run mid-migration
+        for (int i = 0; i < 20; i++) {
+            dict.put(i, i);
+        }
+        assertEquals(15, dict.remove(15));
+        dict.put(3, 300);
+        assertFalse(dict.containsKey(15));
+        assertEquals(300, dict.get(3));
+        assertEquals(19, dict.size());
+
+        int count = 0;
+        for (KVPair<Integer, Integer> pair : dict) {
+            assertTrue(pair.getKey() != 15);
+            count++;
+        }
+        assertEquals(19, count);
+    }
+}
@@ -0,0 +1,111 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.LongLongHashDictionary;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestLongLongHashDictionary extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testPutAndGetPrimitive() {
+        LongLongHashDictionary dict = new LongLongHashDictionary();
+        dict.putLong(1L, 10L);
+        dict.putLong(-5L, 50L);
+        dict.putLong(Long.MAX_VALUE, 7L);
+
+        assertEquals(3, dict.size());
+        assertEquals(10L, dict.getLong(1L));
+        assertEquals(50L, dict.getLong(-5L));
+        assertEquals(7L, dict.getLong(Long.MAX_VALUE));
+        assertEquals(-1L, dict.getLongOrDefault(2L, -1L));
+
+        dict.putLong(1L, 11L);
+        assertEquals(3, dict.size());
+        assertEquals(11L, dict.getLong(1L));
+    }
+
+    @Test(timeout=SECOND)
+    public void testZeroKey() {
+        LongLongHashDictionary dict = new LongLongHashDictionary();
+        assertFalse(dict.containsLong(0L));
+        dict.putLong(0L, 3L);
+        assertTrue(dict.containsLong(0L));
+        assertEquals(1, dict.size());
+        assertEquals(3L, dict.getLong(0L));
+        assertEquals(3L, dict.removeLong(0L));
+        assertFalse(dict.containsLong(0L));
+        assertEquals(0, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testMissingKeyThrowsException() {
+        LongLongHashDictionary dict = new LongLongHashDictionary();
+        dict.putLong(4L, 4L);
+        try {
+            dict.getLong(5L);
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+        try {
+            dict.remove(null);
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testBoxedAdapterAndIterator() {
+        LongLongHashDictionary dict = new LongLongHashDictionary();
+        for (long i = 0; i < 100; i++) {
+            dict.put(i, i * 2);
+        }
+        assertFalse(dict.containsKey(null));
+
+        boolean[] seen = new boolean[100];
+        for (KVPair<Long, Long> pair : dict) {
+            int key = (int) (long) pair.getKey();
+            assertFalse(seen[key]);
+            seen[key] = true;
+            assertEquals(key * 2L, (long) pair.getValue());
+        }
+        for (boolean found : seen) {
+            assertTrue(found);
+        }
+    }
+
+    @Test(timeout=10*SECOND)
+    public void stressTestRemoveKeepsProbeRunsIntact() {
+        int limit = 1000000;
+        LongLongHashDictionary dict = new LongLongHashDictionary();
+        for (long i = 0; i < limit; i++) {
+            dict.putLong(i * 31, i);
+        }
+        for (long i = 0; i < limit; i += 2) {
+            assertEquals(i, dict.removeLong(i * 31));
+        }
+        assertEquals(limit / 2, dict.size());
+        for (long i = 0; i < limit; i++) {
+            assertEquals(i % 2 == 1, dict.containsLong(i * 31));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testTooLargeExpectedSizeThrowsException() {
+        try {
+            new LongLongHashDictionary(Integer.MAX_VALUE);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}
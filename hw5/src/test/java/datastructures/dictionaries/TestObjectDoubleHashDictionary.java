@@ -0,0 +1,127 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.ObjectDoubleHashDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestObjectDoubleHashDictionary extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testPutAndGetPrimitive() {
+        ObjectDoubleHashDictionary<String> dict = new ObjectDoubleHashDictionary<>();
+        dict.putDouble("a", 1.5);
+        dict.putDouble("b", -2.0);
+
+        assertEquals(2, dict.size());
+        assertEquals(1.5, dict.getDouble("a"), 0.0);
+        assertEquals(-2.0, dict.getDouble("b"), 0.0);
+        assertEquals(9.0, dict.getDoubleOrDefault("c", 9.0), 0.0);
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddToDouble() {
+        ObjectDoubleHashDictionary<String> dict = new ObjectDoubleHashDictionary<>();
+        assertEquals(0.5, dict.addToDouble("a", 0.5), 0.0);
+        assertEquals(1.0, dict.addToDouble("a", 0.5), 0.0);
+        assertEquals(2.0, dict.addToDouble(null, 2.0), 0.0);
+        assertEquals(2, dict.size());
+        assertEquals(1.0, dict.getDouble("a"), 0.0);
+        assertEquals(2.0, dict.getDouble(null), 0.0);
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveWithCollidingHashCodes() {
+        ObjectDoubleHashDictionary<Wrapper<String>> dict = new ObjectDoubleHashDictionary<>();
+        for (int i = 0; i < 500; i++) {
+            dict.putDouble(new Wrapper<>("" + i, 0), i);
+        }
+        for (int i = 0; i < 500; i += 3) {
+            assertEquals(i, dict.removeDouble(new Wrapper<>("" + i, 0)), 0.0);
+        }
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i % 3 != 0, dict.containsKey(new Wrapper<>("" + i, 0)));
+        }
+        try {
+            dict.removeDouble(new Wrapper<>("0", 0));
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testBoxedAdapterAndIterator() {
+        ObjectDoubleHashDictionary<Integer> dict = new ObjectDoubleHashDictionary<>();
+        for (int i = 0; i < 100; i++) {
+            dict.put(i, i / 2.0);
+        }
+        dict.put(null, -1.0);
+        assertEquals(101, dict.size());
+
+        int count = 0;
+        for (KVPair<Integer, Double> pair : dict) {
+            if (pair.getKey() == null) {
+                assertEquals(-1.0, pair.getValue(), 0.0);
+            } else {
+                assertEquals(pair.getKey() / 2.0, pair.getValue(), 0.0);
+            }
+            count++;
+        }
+        assertEquals(101, count);
+
+        try {
+            dict.put(5, null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        assertTrue(dict.containsKey(5));
+    }
+
+    @Test(timeout=SECOND)
+    public void testUpdatingDuringCursorScanVisitsEachKeyOnce() {
+        // 64 and 128 keys fill their tables right up to the resize threshold, so a
+        // resize on update would rehash the table in the middle of the scan
+        for (int n : new int[] {63, 64, 65, 128, 1000}) {
+            ObjectDoubleHashDictionary<Integer> dict = new ObjectDoubleHashDictionary<>();
+            for (int i = 0; i < n; i++) {
+                dict.putDouble(i, (double) i);
+            }
+            boolean[] visited = new boolean[n];
+            int count = 0;
+            IDictionaryCursor<Integer, Double> cursor = dict.cursor();
+            while (cursor.advance()) {
+                int key = cursor.key();
+                assertFalse(visited[key]);
+                visited[key] = true;
+                count++;
+                cursor.setValue(cursor.value() + 1.0);
+                dict.addToDouble(key, 1.0);
+                dict.putDouble(key, dict.getDouble(key));
+            }
+            assertEquals(n, count);
+            for (int i = 0; i < n; i++) {
+                assertEquals((double) i + 2, dict.getDouble(i), 0.0);
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testTooLargeExpectedSizeThrowsException() {
+        try {
+            new ObjectDoubleHashDictionary<String>(Integer.MAX_VALUE);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}
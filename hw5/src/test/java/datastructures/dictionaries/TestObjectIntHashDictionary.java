@@ -0,0 +1,127 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.ObjectIntHashDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestObjectIntHashDictionary extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testPutAndGetPrimitive() {
+        ObjectIntHashDictionary<String> dict = new ObjectIntHashDictionary<>();
+        dict.putInt("a", 15);
+        dict.putInt("b", -2);
+
+        assertEquals(2, dict.size());
+        assertEquals(15, dict.getInt("a"));
+        assertEquals(-2, dict.getInt("b"));
+        assertEquals(9, dict.getIntOrDefault("c", 9));
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddToInt() {
+        ObjectIntHashDictionary<String> dict = new ObjectIntHashDictionary<>();
+        assertEquals(5, dict.addToInt("a", 5));
+        assertEquals(10, dict.addToInt("a", 5));
+        assertEquals(2, dict.addToInt(null, 2));
+        assertEquals(2, dict.size());
+        assertEquals(10, dict.getInt("a"));
+        assertEquals(2, dict.getInt(null));
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveWithCollidingHashCodes() {
+        ObjectIntHashDictionary<Wrapper<String>> dict = new ObjectIntHashDictionary<>();
+        for (int i = 0; i < 500; i++) {
+            dict.putInt(new Wrapper<>("" + i, 0), i);
+        }
+        for (int i = 0; i < 500; i += 3) {
+            assertEquals(i, dict.removeInt(new Wrapper<>("" + i, 0)));
+        }
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i % 3 != 0, dict.containsKey(new Wrapper<>("" + i, 0)));
+        }
+        try {
+            dict.removeInt(new Wrapper<>("0", 0));
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testBoxedAdapterAndIterator() {
+        ObjectIntHashDictionary<Integer> dict = new ObjectIntHashDictionary<>();
+        for (int i = 0; i < 100; i++) {
+            dict.put(i, i / 2);
+        }
+        dict.put(null, -1);
+        assertEquals(101, dict.size());
+
+        int count = 0;
+        for (KVPair<Integer, Integer> pair : dict) {
+            if (pair.getKey() == null) {
+                assertEquals(-1, pair.getValue());
+            } else {
+                assertEquals(pair.getKey() / 2, pair.getValue());
+            }
+            count++;
+        }
+        assertEquals(101, count);
+
+        try {
+            dict.put(5, null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        assertTrue(dict.containsKey(5));
+    }
+
+    @Test(timeout=SECOND)
+    public void testUpdatingDuringCursorScanVisitsEachKeyOnce() {
+        // 64 and 128 keys fill their tables right up to the resize threshold, so a
+        // resize on update would rehash the table in the middle of the scan
+        for (int n : new int[] {63, 64, 65, 128, 1000}) {
+            ObjectIntHashDictionary<Integer> dict = new ObjectIntHashDictionary<>();
+            for (int i = 0; i < n; i++) {
+                dict.putInt(i, i);
+            }
+            boolean[] visited = new boolean[n];
+            int count = 0;
+            IDictionaryCursor<Integer, Integer> cursor = dict.cursor();
+            while (cursor.advance()) {
+                int key = cursor.key();
+                assertFalse(visited[key]);
+                visited[key] = true;
+                count++;
+                cursor.setValue(cursor.value() + 1);
+                dict.addToInt(key, 1);
+                dict.putInt(key, dict.getInt(key));
+            }
+            assertEquals(n, count);
+            for (int i = 0; i < n; i++) {
+                assertEquals(i + 2, dict.getInt(i));
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testTooLargeExpectedSizeThrowsException() {
+        try {
+            new ObjectIntHashDictionary<String>(Integer.MAX_VALUE);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}
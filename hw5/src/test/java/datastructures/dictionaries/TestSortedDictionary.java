@@ -0,0 +1,201 @@
+package datastructures.dictionaries;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.ArrayBackedList;
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.SortedDictionary;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * This file tests SortedDictionary. It does not extend TestDictionary, since those
+ * tests use null keys and keys that are not Comparable.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestSortedDictionary extends BaseTest {
+    private SortedDictionary<Integer, Integer> makeEvenDictionary(int limit) {
+        SortedDictionary<Integer, Integer> dict = new SortedDictionary<>();
+        for (int i = limit - 2; i >= 0; i -= 2) {
+            dict.put(i, i * 10);
+        }
+        return dict;
+    }
+
+    private void assertIterates(Iterator<KVPair<Integer, Integer>> iter, int from, int to, int step) {
+        for (int i = from; i < to; i += step) {
+            assertTrue(iter.hasNext());
+            KVPair<Integer, Integer> pair = iter.next();
+            assertEquals(i, pair.getKey());
+            assertEquals(i * 10, pair.getValue());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testBasicPutGetRemove() {
+        SortedDictionary<String, String> dict = new SortedDictionary<>();
+        dict.put("b", "valB");
+        dict.put("a", "valA");
+        dict.put("c", "valC");
+        assertEquals(3, dict.size());
+        assertEquals("valA", dict.get("a"));
+        dict.put("a", "newA");
+        assertEquals(3, dict.size());
+        assertEquals("newA", dict.get("a"));
+        assertEquals("valB", dict.remove("b"));
+        assertFalse(dict.containsKey("b"));
+        assertEquals("missing", dict.getOrDefault("b", "missing"));
+        assertEquals(2, dict.size());
+
+        try {
+            dict.get("b");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- fall through
+        }
+        try {
+            dict.remove("z");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- fall through
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullKeyThrows() {
+        SortedDictionary<String, String> dict = new SortedDictionary<>();
+        try {
+            dict.put(null, "val");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- fall through
+        }
+        assertEquals(0, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratesInKeyOrder() {
+        SortedDictionary<Integer, Integer> dict = makeEvenDictionary(10000);
+        assertEquals(5000, dict.size());
+        assertIterates(dict.iterator(), 0, 10000, 2);
+    }
+
+    @Test(timeout=SECOND)
+    public void testFloorAndCeiling() {
+        SortedDictionary<Integer, Integer> dict = makeEvenDictionary(10000);
+        for (int i = 0; i < 9999; i++) {
+            assertEquals(i - i % 2, dict.floorKey(i));
+            assertEquals(i + i % 2, dict.ceilingKey(i));
+        }
+        assertNull(dict.floorKey(-1));
+        assertEquals(0, dict.ceilingKey(-1));
+        assertEquals(9998, dict.floorKey(20000));
+        assertNull(dict.ceilingKey(9999));
+    }
+
+    @Test(timeout=SECOND)
+    public void testRange() {
+        SortedDictionary<Integer, Integer> dict = makeEvenDictionary(10000);
+        assertIterates(dict.range(101, 4001), 102, 4001, 2);
+        assertIterates(dict.range(100, 4000), 100, 4000, 2);
+        assertIterates(dict.range(-50, 20000), 0, 10000, 2);
+        assertIterates(dict.range(500, 500), 0, 0, 2);
+        assertIterates(dict.range(20000, 30000), 0, 0, 2);
+
+        try {
+            dict.range(10, 5);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- fall through
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testBulkLoad() {
+        for (int limit : new int[] {0, 1, 64, 65, 100, 4161, 10000}) {
+            IList<KVPair<Integer, Integer>> pairs = new ArrayBackedList<>();
+            for (int i = 0; i < limit; i++) {
+                pairs.add(new KVPair<>(i, i * 10));
+            }
+            SortedDictionary<Integer, Integer> dict = SortedDictionary.bulkLoad(pairs);
+            assertEquals(limit, dict.size());
+            assertIterates(dict.iterator(), 0, limit, 1);
+
+            // The loaded tree must still accept updates in both directions
+            for (int i = 0; i < limit; i += 3) {
+                assertEquals(i * 10, dict.remove(i));
+            }
+            dict.put(-1, -10);
+            dict.put(limit, limit * 10);
+            for (int i = -1; i <= limit; i++) {
+                assertEquals(i == -1 || i == limit || i % 3 != 0, dict.containsKey(i));
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testBulkLoadRejectsUnsortedInput() {
+        IList<KVPair<Integer, Integer>> pairs = new ArrayBackedList<>();
+        pairs.add(new KVPair<>(1, 1));
+        pairs.add(new KVPair<>(3, 3));
+        pairs.add(new KVPair<>(3, 3));
+        try {
+            SortedDictionary.bulkLoad(pairs);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- fall through
+        }
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testRandomOperationsMatchTreeMap() {
+        Random random = new Random(12);
+        SortedDictionary<Integer, Integer> dict = new SortedDictionary<>();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int step = 0; step < 300000; step++) {
+            int key = random.nextInt(50000);
+            if (random.nextInt(3) == 0) {
+                if (expected.containsKey(key)) {
+                    assertEquals(expected.remove(key), dict.remove(key));
+                } else {
+                    assertFalse(dict.containsKey(key));
+                }
+            } else {
+                expected.put(key, step);
+                dict.put(key, step);
+            }
+            if (step % 1000 == 0) {
+                assertEquals(expected.floorKey(key), dict.floorKey(key));
+                assertEquals(expected.ceilingKey(key), dict.ceilingKey(key));
+            }
+        }
+        assertEquals(expected.size(), dict.size());
+        Iterator<KVPair<Integer, Integer>> iter = dict.iterator();
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            KVPair<Integer, Integer> pair = iter.next();
+            assertEquals(entry.getKey(), pair.getKey());
+            assertEquals(entry.getValue(), pair.getValue());
+        }
+        assertFalse(iter.hasNext());
+
+        for (int key : expected.keySet()) {
+            dict.remove(key);
+        }
+        assertTrue(dict.isEmpty());
+        assertEquals(0, dict.getStats().getTreeHeight());
+    }
+}
@@ -0,0 +1,169 @@
+package datastructures.dictionaries;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.StringDictionary;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * This file tests StringDictionary. It does not extend TestDictionary, since those
+ * tests use null keys and keys that are not strings.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestStringDictionary extends BaseTest {
+    private StringDictionary<Integer> makeWordDictionary() {
+        StringDictionary<Integer> dict = new StringDictionary<>();
+        String[] words = {"test", "team", "tea", "ten", "toast", "to", "a", "", "inn"};
+        for (int i = 0; i < words.length; i++) {
+            dict.put(words[i], i);
+        }
+        return dict;
+    }
+
+    private void assertKeys(Iterator<KVPair<String, Integer>> iter, String... expected) {
+        for (String key : expected) {
+            assertTrue(iter.hasNext());
+            assertEquals(key, iter.next().getKey());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testBasicPutGetRemove() {
+        StringDictionary<Integer> dict = makeWordDictionary();
+        assertEquals(9, dict.size());
+        assertEquals(0, dict.get("test"));
+        assertEquals(2, dict.get("tea"));
+        assertEquals(7, dict.get(""));
+        assertFalse(dict.containsKey("te"));
+        assertFalse(dict.containsKey("teams"));
+        assertEquals(-1, dict.getOrDefault("t", -1));
+
+        dict.put("tea", 20);
+        assertEquals(9, dict.size());
+        assertEquals(20, dict.get("tea"));
+
+        assertEquals(20, dict.remove("tea"));
+        assertEquals(1, dict.get("team"));
+        assertEquals(0, dict.remove("test"));
+        assertEquals(1, dict.remove("team"));
+        assertEquals(3, dict.get("ten"));
+        assertEquals(6, dict.size());
+
+        try {
+            dict.remove("te");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- fall through
+        }
+        try {
+            dict.get("tea");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // All ok -- fall through
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullKeyThrows() {
+        StringDictionary<Integer> dict = new StringDictionary<>();
+        try {
+            dict.put(null, 1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- fall through
+        }
+        assertEquals(0, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testLookupFromCharSequenceRange() {
+        StringDictionary<Integer> dict = makeWordDictionary();
+        StringBuilder text = new StringBuilder("a toast to the team");
+        assertEquals(4, dict.getOrDefault(text, 2, 7, -1));
+        assertEquals(5, dict.getOrDefault(text, 8, 10, -1));
+        assertEquals(-1, dict.getOrDefault(text, 11, 14, -1));
+        assertTrue(dict.containsKey(text, 15, 19));
+        assertFalse(dict.containsKey(text, 15, 17));
+        assertTrue(dict.containsKey(text, 0, 1));
+        assertTrue(dict.containsKey(text, 3, 3));
+
+        try {
+            dict.containsKey(text, 15, 20);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // All ok -- fall through
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratesInKeyOrder() {
+        StringDictionary<Integer> dict = makeWordDictionary();
+        assertKeys(dict.iterator(), "", "a", "inn", "tea", "team", "ten", "test", "to", "toast");
+    }
+
+    @Test(timeout=SECOND)
+    public void testWithPrefix() {
+        StringDictionary<Integer> dict = makeWordDictionary();
+        assertKeys(dict.withPrefix("te"), "tea", "team", "ten", "test");
+        assertKeys(dict.withPrefix("tea"), "tea", "team");
+        assertKeys(dict.withPrefix("to"), "to", "toast");
+        assertKeys(dict.withPrefix("toa"), "toast");
+        assertKeys(dict.withPrefix("in"), "inn");
+        assertKeys(dict.withPrefix("tx"));
+        assertKeys(dict.withPrefix("toasts"));
+        assertKeys(dict.withPrefix(""), "", "a", "inn", "tea", "team", "ten", "test", "to", "toast");
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testRandomOperationsMatchTreeMap() {
+        Random random = new Random(16);
+        StringDictionary<Integer> dict = new StringDictionary<>();
+        TreeMap<String, Integer> expected = new TreeMap<>();
+        for (int step = 0; step < 200000; step++) {
+            // Short keys over a small alphabet, so they share lots of prefixes
+            char[] chars = new char[random.nextInt(6)];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = (char) ('a' + random.nextInt(4));
+            }
+            String key = new String(chars);
+            if (random.nextInt(3) == 0) {
+                if (expected.containsKey(key)) {
+                    assertEquals(expected.remove(key), dict.remove(key));
+                } else {
+                    assertFalse(dict.containsKey(key));
+                }
+            } else {
+                expected.put(key, step);
+                dict.put(key, step);
+            }
+        }
+        assertEquals(expected.size(), dict.size());
+        Iterator<KVPair<String, Integer>> iter = dict.iterator();
+        for (Map.Entry<String, Integer> entry : expected.entrySet()) {
+            KVPair<String, Integer> pair = iter.next();
+            assertEquals(entry.getKey(), pair.getKey());
+            assertEquals(entry.getValue(), pair.getValue());
+        }
+        assertFalse(iter.hasNext());
+
+        for (String key : expected.keySet()) {
+            dict.remove(key);
+        }
+        assertTrue(dict.isEmpty());
+        assertEquals(1, dict.getStats().getCapacity());
+    }
+}
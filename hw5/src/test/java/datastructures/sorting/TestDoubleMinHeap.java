@@ -0,0 +1,81 @@
+package datastructures.sorting;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.DoubleMinHeap;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class TestDoubleMinHeap extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testRemovesInPriorityOrder() {
+        DoubleMinHeap<String> heap = new DoubleMinHeap<>();
+        heap.insert(2.5, "b");
+        heap.insert(-1.0, "a");
+        heap.insert(10.0, "d");
+        heap.insert(3.0, "c");
+        heap.insert(Double.NEGATIVE_INFINITY, null);
+        assertEquals(5, heap.size());
+
+        assertEquals(Double.NEGATIVE_INFINITY, heap.peekMinKey());
+        assertNull(heap.removeMin());
+        for (String expected : new String[] {"a", "b", "c", "d"}) {
+            assertEquals(expected, heap.peekMin());
+            assertEquals(expected, heap.removeMin());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testEmptyAndNaN() {
+        DoubleMinHeap<String> heap = new DoubleMinHeap<>(0);
+        try {
+            heap.peekMinKey();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.replaceMin(1.0, "a");
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.insert(Double.NaN, "a");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        assertEquals(0, heap.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testReplaceMinKeepsTopK() {
+        Random rand = new Random(373);
+        double[] all = new double[20000];
+        DoubleMinHeap<Double> heap = new DoubleMinHeap<>(10);
+        for (int i = 0; i < all.length; i++) {
+            all[i] = rand.nextDouble();
+            if (heap.size() < 100) {
+                heap.insert(all[i], all[i]);
+            } else if (all[i] > heap.peekMinKey()) {
+                assertEquals(heap.peekMinKey(), heap.replaceMin(all[i], all[i]));
+            }
+        }
+
+        Arrays.sort(all);
+        for (int i = all.length - 100; i < all.length; i++) {
+            assertEquals(all[i], heap.peekMinKey());
+            assertEquals(all[i], heap.removeMin());
+        }
+        assertTrue(heap.isEmpty());
+        assertTrue(heap.getStats().getResizeCount() > 0);
+    }
+}
@@ -0,0 +1,58 @@
+package datastructures.sorting;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.LongMinHeap;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class TestLongMinHeap extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testRemovesInPriorityOrder() {
+        Random rand = new Random(373);
+        long[] keys = new long[10000];
+        LongMinHeap<Integer> heap = new LongMinHeap<>();
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = rand.nextLong();
+            heap.insert(keys[i], i);
+        }
+        assertEquals(keys.length, heap.size());
+
+        long[] sorted = keys.clone();
+        Arrays.sort(sorted);
+        for (long expected : sorted) {
+            assertEquals(expected, heap.peekMinKey());
+            assertEquals(expected, keys[heap.removeMin()]);
+        }
+        assertTrue(heap.isEmpty());
+        try {
+            heap.removeMin();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testReplaceMinWithLargerAndSmallerKeys() {
+        LongMinHeap<String> heap = new LongMinHeap<>();
+        heap.insert(5L, "five");
+        heap.insert(7L, "seven");
+        heap.insert(9L, "nine");
+
+        assertEquals("five", heap.replaceMin(8L, "eight"));
+        assertEquals(7L, heap.peekMinKey());
+        assertEquals("seven", heap.replaceMin(Long.MIN_VALUE, "min"));
+        assertEquals(Long.MIN_VALUE, heap.peekMinKey());
+
+        assertEquals("min", heap.removeMin());
+        assertEquals("eight", heap.removeMin());
+        assertEquals("nine", heap.removeMin());
+        assertTrue(heap.isEmpty());
+    }
+}
@@ -0,0 +1,129 @@
+package datastructures.sorting;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.MeldablePriorityQueue;
+import datastructures.concrete.MeldablePriorityQueue.Handle;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+
+public class TestMeldablePriorityQueue extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testMatchesReference() {
+        Random rand = new Random(373);
+        MeldablePriorityQueue<Integer> heap = new MeldablePriorityQueue<>();
+        PriorityQueue<Integer> reference = new PriorityQueue<>();
+        for (int i = 0; i < 50000; i++) {
+            if (reference.isEmpty() || rand.nextInt(3) > 0) {
+                int item = rand.nextInt(1000);
+                heap.insert(item);
+                reference.add(item);
+            } else {
+                assertEquals(reference.peek(), heap.peekMin());
+                assertEquals(reference.remove(), heap.removeMin());
+            }
+            assertEquals(reference.size(), heap.size());
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testMeldMovesEverything() {
+        MeldablePriorityQueue<Integer> merged = new MeldablePriorityQueue<>();
+        for (int i = 0; i < 64; i++) {
+            MeldablePriorityQueue<Integer> part = new MeldablePriorityQueue<>();
+            for (int j = i; j < 6400; j += 64) {
+                part.insert(j);
+            }
+            merged.meld(part);
+            assertTrue(part.isEmpty());
+        }
+        merged.meld(new MeldablePriorityQueue<>());
+        assertEquals(6400, merged.size());
+        for (int i = 0; i < 6400; i++) {
+            assertEquals(i, merged.removeMin());
+        }
+
+        try {
+            merged.meld(merged);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            merged.meld(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testDecreaseKey() {
+        MeldablePriorityQueue<Integer> heap = new MeldablePriorityQueue<>();
+        MeldablePriorityQueue<Integer> other = new MeldablePriorityQueue<>();
+        @SuppressWarnings("unchecked")
+        Handle<Integer>[] handles = (Handle<Integer>[]) new Handle[1000];
+        for (int i = 0; i < 1000; i++) {
+            handles[i] = (i % 2 == 0 ? heap : other).insertWithHandle(i + 1000);
+        }
+        heap.removeMin();
+        heap.meld(other);
+        // Handles from the melded queue still work
+        for (int i = 999; i >= 1; i--) {
+            heap.decreaseKey(handles[i], i);
+            assertEquals(i, heap.peekMin());
+            assertEquals(i, handles[i].getItem());
+        }
+        for (int i = 1; i < 1000; i++) {
+            assertEquals(i, heap.removeMin());
+        }
+        assertTrue(heap.isEmpty());
+
+        try {
+            heap.decreaseKey(handles[0], 0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        Handle<Integer> handle = heap.insertWithHandle(5);
+        heap.insert(3);
+        try {
+            heap.decreaseKey(handle, 6);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        heap.decreaseKey(handle, 5);
+        assertEquals(3, heap.removeMin());
+        assertEquals(5, heap.removeMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testEmptyAndNull() {
+        MeldablePriorityQueue<Integer> heap = new MeldablePriorityQueue<>();
+        try {
+            heap.removeMin();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.peekMin();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.insert(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        assertEquals(0, heap.getStats().getSize());
+    }
+}
@@ -0,0 +1,123 @@
+package datastructures.sorting;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.BucketQueue;
+import datastructures.concrete.RadixHeap;
+import datastructures.interfaces.IMonotonePriorityQueue;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Tests RadixHeap and BucketQueue, which share the IMonotonePriorityQueue contract.
+ */
+public class TestMonotonePriorityQueues extends BaseTest {
+    // Plays out a Dijkstra-like run: every new priority is the last one removed plus
+    // a random gap of at most maxGap, and the queue must agree with a binary heap.
+    private void checkAgainstReference(IMonotonePriorityQueue<Long> queue, int maxGap, long start) {
+        Random rand = new Random(373);
+        PriorityQueue<Long> reference = new PriorityQueue<>();
+        queue.insert(start, start);
+        reference.add(start);
+        for (int i = 0; i < 20000; i++) {
+            assertEquals(reference.size(), queue.size());
+            long min = queue.peekMinKey();
+            assertEquals(reference.peek(), (Long) min);
+            assertEquals(min, queue.removeMin());
+            reference.remove();
+            int children = reference.isEmpty() ? 1 + rand.nextInt(3) : rand.nextInt(3);
+            for (int j = 0; j < children; j++) {
+                long key = min + rand.nextInt(maxGap + 1);
+                queue.insert(key, key);
+                reference.add(key);
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRadixHeapMatchesReference() {
+        this.checkAgainstReference(new RadixHeap<>(), 1 << 20, 0);
+        this.checkAgainstReference(new RadixHeap<>(), 5, -1000);
+    }
+
+    @Test(timeout=SECOND)
+    public void testBucketQueueMatchesReference() {
+        this.checkAgainstReference(new BucketQueue<>(1), 1, 0);
+        this.checkAgainstReference(new BucketQueue<>(100), 100, 12345);
+    }
+
+    @Test(timeout=SECOND)
+    public void testRejectsPrioritiesOutOfOrder() {
+        IMonotonePriorityQueue<String> radix = new RadixHeap<>();
+        IMonotonePriorityQueue<String> buckets = new BucketQueue<>(10);
+        radix.insert(5, "a");
+        radix.insert(7, "b");
+        assertEquals("a", radix.removeMin());
+        try {
+            radix.insert(4, "c");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+
+        buckets.insert(5, "a");
+        assertEquals("a", buckets.removeMin());
+        buckets.insert(15, "b");
+        try {
+            buckets.insert(16, "c");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            buckets.insert(4, "c");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        buckets.insert(6, "c");
+        assertEquals("c", buckets.removeMin());
+        assertEquals(15L, buckets.peekMinKey());
+        assertEquals("b", buckets.removeMin());
+
+        // Once empty, either queue takes any priority again
+        radix.removeMin();
+        radix.insert(-3, "d");
+        assertEquals("d", radix.peekMin());
+        buckets.insert(0, "e");
+        assertEquals("e", buckets.peekMin());
+        buckets.insert(10, "f");
+        assertEquals("e", buckets.removeMin());
+    }
+
+    @Test(timeout=SECOND)
+    public void testEmptyQueuesThrow() {
+        IMonotonePriorityQueue<String> radix = new RadixHeap<>();
+        IMonotonePriorityQueue<String> buckets = new BucketQueue<>(0);
+        assertTrue(radix.isEmpty());
+        assertTrue(buckets.isEmpty());
+        try {
+            radix.removeMin();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            buckets.peekMinKey();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        try {
+            new BucketQueue<String>(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package search;
+
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import org.junit.Test;
+import search.models.TermDictionary;
+import search.models.TermVector;
+
+public class TestTermDictionary extends BaseTest {
+    public static final double DELTA = 0.000001;
+
+    @Test(timeout=SECOND)
+    public void testInternAssignsDenseIds() {
+        TermDictionary terms = new TermDictionary();
+        IList<String> words = new DoubleLinkedList<>();
+        for (String word : "the cat saw the other cat".split(" ")) {
+            words.add(word);
+        }
+        int[] ids = terms.internAll(words);
+        assertEquals(6, ids.length);
+        assertEquals(4, terms.size());
+        assertEquals(0, ids[0]);
+        assertEquals(1, ids[1]);
+        assertEquals(2, ids[2]);
+        assertEquals(0, ids[3]);
+        assertEquals(3, ids[4]);
+        assertEquals(1, ids[5]);
+        assertEquals("other", terms.termOf(3));
+        assertEquals(2, terms.intern("saw"));
+        assertEquals(4, terms.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testIdOfSlice() {
+        TermDictionary terms = new TermDictionary();
+        terms.intern("cat");
+        terms.intern("category");
+        String text = "a category of cats";
+        assertEquals(1, terms.idOf(text, 2, 10));
+        assertEquals(0, terms.idOf(text, 14, 17));
+        assertEquals(TermDictionary.NO_TERM, terms.idOf(text, 14, 18));
+        assertEquals(TermDictionary.NO_TERM, terms.idOf("dog"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testTermVectorDotAndNorm() {
+        TermVector a = new TermVector(new int[] {1, 4, 9}, new double[] {1.0, 2.0, 2.0});
+        TermVector b = new TermVector(new int[] {4, 5}, new double[] {3.0, 4.0});
+        assertEquals(3.0, a.getNorm(), DELTA);
+        assertEquals(5.0, b.getNorm(), DELTA);
+        assertEquals(6.0, a.dot(b), DELTA);
+        assertEquals(6.0, b.dot(a), DELTA);
+        assertEquals(0.0, a.weightOf(5), DELTA);
+    }
+}
@@ -14,6 +14,8 @@ import search.models.Webpage;
 
 import java.net.URI;
 
+import static org.junit.Assert.assertTrue;
+
 public class TestTfIdfAnalyzer extends BaseTest {
     // We say two floating point numbers are equal if they're within
     // this delta apart from each other.
@@ -111,6 +113,9 @@ public class TestTfIdfAnalyzer extends BaseTest {
         compareVectors(
                 documentCExpected,
                 vectors.get(URI.create("http://example.com/fake-page-c.html")));
+
+        // The word-keyed copy is only built once
+        assertTrue(vectors == analyzer.getDocumentTfIdfVectors());
     }
 
     @Test(timeout=SECOND)
@@ -1,14 +1,14 @@
 package datastructures.concrete;
 
-import datastructures.concrete.dictionaries.ChainedHashDictionary;
-import datastructures.interfaces.IDictionary;
+import datastructures.concrete.dictionaries.ObjectIntHashDictionary;
 import datastructures.interfaces.IDisjointSet;
+import datastructures.interfaces.IStatsProvider;
 //import misc.exceptions.NotYetImplementedException;
 
 /**
  * @see IDisjointSet for more details.
  */
-public class ArrayDisjointSet<T> implements IDisjointSet<T> {
+public class ArrayDisjointSet<T> implements IDisjointSet<T>, IStatsProvider {
 
     private static final int CAPACITY = 100;
 
@@ -16,7 +16,9 @@ public class ArrayDisjointSet<T> implements IDisjointSet<T> {
     // directly within our private tests.
     private int[] pointers;
     private int size;
-    private IDictionary<T, Integer> pointerIndex; // keep track of the index of T in pointers
+    private ObjectIntHashDictionary<T> pointerIndex; // keep track of the index of T in pointers
+    private int maxRank; // largest rank of any set; path compression never makes a tree taller
+    private int resizeCount;
 
     // However, feel free to add more methods and private helper methods.
     // You will probably need to add one or two more fields in order to
@@ -25,7 +27,9 @@ public class ArrayDisjointSet<T> implements IDisjointSet<T> {
     public ArrayDisjointSet() {
         this.pointers = new int[CAPACITY];
         this.size = 0;
-        this.pointerIndex = new ChainedHashDictionary<>();
+        this.pointerIndex = new ObjectIntHashDictionary<>();
+        this.maxRank = 0;
+        this.resizeCount = 0;
     }
 
     // Helper method that checks if item is contained inside this disjoint set
@@ -36,6 +40,7 @@ public class ArrayDisjointSet<T> implements IDisjointSet<T> {
 
     // Helper method that resize this disjoint set when full.
     private void resize() {
+        this.resizeCount++;
         int[] temp = new int[this.pointers.length*2]; // Create a new array with twice the capacity
         for (int i = 0; i < this.size; i++) { // Copy old array to new array
             temp[i] = pointers[i];
@@ -59,7 +64,7 @@ public class ArrayDisjointSet<T> implements IDisjointSet<T> {
         }
         this.size++;
         this.pointers[size-1] = -1; // Initial rank is -1
-        this.pointerIndex.put(item, size-1); // Keep track of item and its index in pointers
+        this.pointerIndex.putInt(item, size-1); // Keep track of item and its index in pointers
     }
 
     /**
@@ -72,7 +77,7 @@ public class ArrayDisjointSet<T> implements IDisjointSet<T> {
         if (!contains(item)) {
             throw new IllegalArgumentException("Item is not contained inside this disjoint set");
         }
-        int itemIndex = this.pointerIndex.get(item);
+        int itemIndex = this.pointerIndex.getInt(item);
         return findSet(itemIndex);
     }
 
@@ -108,10 +113,24 @@ public class ArrayDisjointSet<T> implements IDisjointSet<T> {
         if (item1Rank == item2Rank) {
             this.pointers[findSet(item2)] = rep1Index; // item2 representative points to item1's representative
             this.pointers[rep1Index]--; // Update the rank by 1 (minus 1)
+            this.maxRank = Math.max(this.maxRank, -this.pointers[rep1Index] - 1);
         } else if (item1Rank < item2Rank) { // item1's rank is greater than item2's rank
             this.pointers[findSet(item2)] = rep1Index; // Change rank of item2 to item1's index
         } else { // item2's rank is greater than item1's rank
             this.pointers[findSet(item1)] = rep2Index; // Change rank of item1 to item2's index
         }
     }
+
+    // Runs in O(buckets) time, since it includes the stats of the item index. The tree
+    // height is the largest rank, which is an upper bound: path compression can only
+    // make the trees shorter.
+    @Override
+    public StructureStats getStats() {
+        long bytes = StructureStats.objectBytes(2 * StructureStats.REFERENCE_BYTES + 3 * Integer.BYTES)
+                + StructureStats.arrayBytes(pointers.length, Integer.BYTES)
+                + pointerIndex.getStats().getEstimatedBytes();
+        StructureStats stats = new StructureStats(size, pointers.length, bytes, resizeCount);
+        stats.setTreeHeight(maxRank);
+        return stats;
+    }
 }
@@ -1,13 +1,15 @@
 package datastructures.concrete;
 
+import datastructures.interfaces.IList;
 import datastructures.interfaces.IPriorityQueue;
+import datastructures.interfaces.IStatsProvider;
 import misc.exceptions.EmptyContainerException;
 //import misc.exceptions.NotYetImplementedException;
 
 /**
  * @see IPriorityQueue for details on what each method must do.
  */
-public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
+public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T>, IStatsProvider {
     // See spec: you must implement a implement a 4-heap.
     private static final int NUM_CHILDREN = 4;
 
@@ -19,11 +21,46 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
     // Feel free to add more fields and constants.
     private int capacity;
     private int size;
+    private int resizeCount;
 
     public ArrayHeap() {
         this.heap = makeArrayOfT(30);
         this.capacity = 30;
         this.size = 0;
+        this.resizeCount = 0;
+    }
+
+    /**
+     * Creates a heap holding all the given items, in O(n) time.
+     *
+     * @throws IllegalArgumentException  if items is null or contains null
+     */
+    public ArrayHeap(IList<T> items) {
+        this();
+        this.insertAll(items);
+    }
+
+    /**
+     * Creates a heap holding all the given items, in O(n) time. The heap works on its
+     * own copy of the array, so the array itself is left as it is.
+     *
+     * @throws IllegalArgumentException  if items is null or contains null
+     */
+    public ArrayHeap(T[] items) {
+        if (items == null) {
+            throw new IllegalArgumentException("Items are null");
+        }
+        for (T item : items) {
+            if (item == null) {
+                throw new IllegalArgumentException("Item is null");
+            }
+        }
+        this.capacity = Math.max(30, items.length);
+        this.heap = makeArrayOfT(this.capacity);
+        System.arraycopy(items, 0, this.heap, 0, items.length);
+        this.size = items.length;
+        this.resizeCount = 0;
+        this.heapify();
     }
 
     /**
@@ -64,6 +101,43 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
         return result;
     }
 
+    /**
+     * Removes the k smallest elements (or all of them, if there are fewer than k), and
+     * adds them to the end of 'out' from smallest to largest.
+     *
+     * @throws IllegalArgumentException  if k < 0 or out is null
+     */
+    public void removeMin(int k, IList<T> out) {
+        if (k < 0 || out == null) {
+            throw new IllegalArgumentException();
+        }
+        int count = Math.min(k, size);
+        for (int i = 0; i < count; i++) {
+            out.add(removeMin());
+        }
+    }
+
+    /**
+     * Removes and returns the smallest element, and inserts the given item in its
+     * place. This does the work of removeMin followed by insert with a single
+     * percolation instead of two.
+     *
+     * @throws EmptyContainerException  if the queue is empty
+     * @throws IllegalArgumentException  if the item is null
+     */
+    public T replaceMin(T item) {
+        if (size == 0) {
+            throw new EmptyContainerException("Queue is empty");
+        }
+        if (item == null) {
+            throw new IllegalArgumentException("Item is null");
+        }
+        T result = heap[0];
+        heap[0] = item;
+        percolateDown(0, item);
+        return result;
+    }
+
     // Helper method for removeMin
     // Percolate down recursively
     private void percolateDown(int index, T value) {
@@ -134,6 +208,7 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
 
     // Helper method that resize the heap by increasing its capacity by a factor (number of children per node)
     private void resize() {
+        this.resizeCount++;
         T[] result = makeArrayOfT(this.capacity*NUM_CHILDREN);
         for (int i = 0; i < size; i++) {
             result[i] = heap[i];
@@ -142,6 +217,50 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
         this.heap = result;
     }
 
+    /**
+     * Inserts every item of the given list.
+     *
+     * When the list is at least as big as the heap, the items are appended unsorted
+     * and the whole heap is rebuilt bottom-up (Floyd's method), which takes O(n) time
+     * instead of the O(n log(n)) of inserting them one at a time.
+     *
+     * @throws IllegalArgumentException  if items is null or contains null; in that
+     *                                   case, the heap is left unchanged
+     */
+    public void insertAll(IList<T> items) {
+        if (items == null) {
+            throw new IllegalArgumentException("Items are null");
+        }
+        for (T item : items) {
+            if (item == null) {
+                throw new IllegalArgumentException("Item is null");
+            }
+        }
+        if (items.size() < size) {
+            for (T item : items) {
+                insert(item);
+            }
+            return;
+        }
+        while (capacity < size + items.size()) {
+            resize();
+        }
+        for (T item : items) {
+            heap[size] = item;
+            size++;
+        }
+        this.heapify();
+    }
+
+    // Rebuilds the heap property over the whole array bottom-up (Floyd's method).
+    // Every node past the last parent is already a valid heap of one, so fix up the
+    // parents from the bottom; most of them are near the bottom and sink only a little.
+    private void heapify() {
+        for (int i = (size - 2) / NUM_CHILDREN; i >= 0; i--) {
+            percolateDown(i, heap[i]);
+        }
+    }
+
     /**
      * Returns the number of elements contained within this queue.
      */
@@ -149,4 +268,14 @@ public class ArrayHeap<T extends Comparable<T>> implements IPriorityQueue<T> {
     public int size() {
         return this.size;
     }
+
+    // Runs in O(log n) time. The tree height is the number of levels below the root.
+    @Override
+    public StructureStats getStats() {
+        long bytes = StructureStats.objectBytes(StructureStats.REFERENCE_BYTES + 3 * Integer.BYTES)
+                + StructureStats.arrayBytes(heap.length, StructureStats.REFERENCE_BYTES);
+        StructureStats stats = new StructureStats(size, heap.length, bytes, resizeCount);
+        stats.setTreeHeight(StructureStats.dAryHeapHeight(size, NUM_CHILDREN));
+        return stats;
+    }
 }
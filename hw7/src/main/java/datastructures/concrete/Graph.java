@@ -1,11 +1,11 @@
 package datastructures.concrete;
 
-import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.OpenAddressingHashDictionary;
 import datastructures.interfaces.IList;
 import datastructures.interfaces.ISet;
 import datastructures.interfaces.IDisjointSet;
-import datastructures.interfaces.IPriorityQueue;
 import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IMonotonePriorityQueue;
 import misc.exceptions.NoPathExistsException;
 import datastructures.interfaces.IEdge;
 // import misc.exceptions.NotYetImplementedException;
@@ -57,10 +57,25 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
     // Working with generics is really not the focus of this class, so if you
     // get stuck, let us know we'll try and help you get unstuck as best as we can.
 
+    private static final int INITIAL_DEGREE = 4;
+
+    // Shortest path searches switch to integer costs when every edge weight is a whole
+    // multiple of some quantum, give or take this relative error.
+    private static final double QUANTUM_TOLERANCE = 1e-9;
+    // A path of at most numVertices() edges must cost less than this many quanta, so
+    // that every cost is exact as a double.
+    private static final long MAX_EXACT_UNITS = 1L << 53;
+    // Above this many quanta per edge, a radix heap is used instead of a bucket queue.
+    private static final int BUCKET_QUEUE_MAX_WEIGHT = 1024;
+
     private IDictionary<V, ISet<E>> listGraph; // use Adjacency List to represent our graph
     private IList<V> vertices;
     private IList<E> edges;
 
+    // Found when the graph is built and never changed, so that searches only read them
+    private final double weightQuantum;
+    private final long maxWeightUnits;
+
     /**
      * Constructs a new graph based on the given vertices and edges.
      *
@@ -73,22 +88,45 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
         if (vertices == null || edges == null || vertices.contains(null) || edges.contains(null)) {
             throw new IllegalArgumentException();
         }
-        listGraph = new ChainedHashDictionary<>();
+        listGraph = new OpenAddressingHashDictionary<>();
+        double smallestWeight = Double.POSITIVE_INFINITY;
         for (V vertex : vertices) {
-            listGraph.put(vertex, new ChainedHashSet<>());
+            // Most vertices only have a handful of edges, so start with a small set
+            listGraph.put(vertex, new ChainedHashSet<>(INITIAL_DEGREE));
         }
         for (E edge : edges) {
-            V v1 = edge.getVertex1();
-            V v2 = edge.getVertex2();
-            double weight = edge.getWeight();
-            if (weight < 0 || !vertices.contains(v1) || !vertices.contains(v2)) {
+            // Looking the endpoints up in listGraph (rather than the vertex list) keeps
+            // this check O(1) per edge
+            ISet<E> edges1 = listGraph.getOrDefault(edge.getVertex1(), null);
+            ISet<E> edges2 = listGraph.getOrDefault(edge.getVertex2(), null);
+            if (edge.getWeight() < 0 || edges1 == null || edges2 == null) {
                 throw new IllegalArgumentException();
             }
-            listGraph.get(v1).add(edge);
-            listGraph.get(v2).add(edge);
+            edges1.add(edge);
+            edges2.add(edge);
+            if (edge.getWeight() > 0) {
+                smallestWeight = Math.min(smallestWeight, edge.getWeight());
+            }
         }
         this.edges = edges;
         this.vertices = vertices;
+
+        // Shortest path searches count weights in whole multiples of a quantum when they
+        // can. Tries 1 (integer weights) and then the smallest positive weight, which
+        // catches graphs like grid mazes where every wall has the same length. If every
+        // weight is 0, trying 1 already succeeds.
+        double quantum = 1.0;
+        long maxUnits = this.findMaxWeightUnits(quantum);
+        if (maxUnits < 0) {
+            quantum = smallestWeight;
+            maxUnits = this.findMaxWeightUnits(quantum);
+        }
+        if (maxUnits < 0) {
+            quantum = 0.0;
+            maxUnits = 0;
+        }
+        this.weightQuantum = quantum;
+        this.maxWeightUnits = maxUnits;
     }
 
     /**
@@ -147,7 +185,10 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
         for (V vertex : vertices) {
             disjointVertices.makeSet(vertex);
         }
-        IList<E> sortedEdges = Sorter.topKSort(edges.size(), edges);
+        // Sorting dominates Kruskal's algorithm, so spread it over every core; small
+        // graphs fall back to the sequential sort
+        IList<E> sortedEdges = Sorter.parallelTopKSort(edges.size(), edges,
+                Runtime.getRuntime().availableProcessors());
         for (E edge : sortedEdges) {
             V v1 = edge.getVertex1();
             V v2 = edge.getVertex2();
@@ -183,66 +224,159 @@ public class Graph<V, E extends IEdge<V> & Comparable<E>> {
             return result;
         }
 
-        // Initialize MPQ and add vertex
-        IPriorityQueue<Node> nodeMPQ = new ArrayHeap<>();
-        // keep track of visited node
-        IDictionary<V, Node> visited = new ChainedHashDictionary();
-        // store all the vertex and nodes
-        IDictionary<V, Node> allNodes = new ChainedHashDictionary();
-        for (V vertex : this.vertices) {
-            Node vNode;
-            // cost from start to start is 0
-            if (vertex.equals(start)) {
-                vNode = new Node(vertex, 0, null);
-            } else {
-                vNode = new Node(vertex); // send original cost to infinity
-            }
-            nodeMPQ.insert(vNode);
-            allNodes.put(vertex, vNode);
+        if (!listGraph.containsKey(start) || !listGraph.containsKey(end)) {
+            throw new NoPathExistsException();
         }
 
-        while (visited.size() < allNodes.size() && !visited.containsKey(end)) {
-            Node currentNode = nodeMPQ.removeMin();
-            V currentVertex = currentNode.getVertex();
-
-            if (!visited.containsKey(currentVertex)) {
-                visited.put(currentVertex, currentNode); // mark current vertex / node as processed
-                if (!currentVertex.equals(end)) {
-                    for (E edge : listGraph.get(currentVertex)) {
-                        V otherVertex = edge.getOtherVertex(currentVertex);
-                        double newCost = currentNode.cost + edge.getWeight();
-                        if (newCost < allNodes.get(otherVertex).cost) {
-                            Node betterNode = new Node(otherVertex, newCost, edge);
-                            allNodes.put(otherVertex, betterNode);
-                            nodeMPQ.insert(betterNode);
-                        }
-                    }
-                }
-            }
+        // Weights can change after the quantum was found (see KruskalMazeCarver), so
+        // the search checks each edge it uses against the quantum, and gives up if one
+        // no longer fits.
+        IDictionary<V, Node> reached = null;
+        if (weightQuantum > 0) {
+            reached = this.searchInWeightUnits(start, end);
         }
-        if (!visited.containsKey(end) || visited.get(end).cost >= Double.POSITIVE_INFINITY) {
+        if (reached == null) {
+            reached = this.searchWithIndexedQueue(start, end);
+        }
+        if (!reached.containsKey(end)) {
             throw new NoPathExistsException();
         }
 
-        Node endNode = visited.get(end);
+        Node endNode = reached.get(end);
         // only starting node's prev is null
         while (endNode.predecessor != null) {
             E edge = endNode.predecessor;
             result.insert(0, edge);
-            endNode = visited.get(edge.getOtherVertex(endNode.vertex));
+            endNode = reached.get(edge.getOtherVertex(endNode.vertex));
         }
         return result;
     }
 
+    // Runs Dijkstra's algorithm from 'start' until 'end' is processed, and returns the
+    // node of every vertex reached, holding its cost and the edge it was reached by.
+    private IDictionary<V, Node> searchWithIndexedQueue(V start, V end) {
+        // Vertices only enter the queue once they are reached, and a shorter path to a
+        // queued vertex updates its node in place, so the queue never holds more than
+        // one node per vertex
+        IndexedPriorityQueue<Node> frontier = new IndexedPriorityQueue<>();
+        // every vertex reached so far, whether it is still queued or already processed
+        IDictionary<V, Node> reached = new OpenAddressingHashDictionary<>();
+        Node startNode = new Node(start, 0, null);
+        frontier.insert(startNode);
+        reached.put(start, startNode);
+
+        while (!frontier.isEmpty()) {
+            Node currentNode = frontier.removeMin();
+            V currentVertex = currentNode.getVertex();
+            if (currentVertex.equals(end)) {
+                break;
+            }
+            for (E edge : listGraph.get(currentVertex)) {
+                V otherVertex = edge.getOtherVertex(currentVertex);
+                double newCost = currentNode.cost + edge.getWeight();
+                Node otherNode = reached.getOrDefault(otherVertex, null);
+                if (otherNode == null) {
+                    otherNode = new Node(otherVertex, newCost, edge);
+                    reached.put(otherVertex, otherNode);
+                    frontier.insert(otherNode);
+                } else if (newCost < otherNode.cost) {
+                    // Edge weights are never negative, so a processed vertex can't get
+                    // cheaper: otherNode must still be in the queue
+                    otherNode.cost = newCost;
+                    otherNode.predecessor = edge;
+                    frontier.decreaseKey(otherNode);
+                }
+            }
+        }
+        return reached;
+    }
+
+    // Same as searchWithIndexedQueue, but with every weight counted in whole multiples
+    // of the weight quantum, so costs are integers and only ever popped in increasing
+    // order. That allows a bucket queue or radix heap, which can't change a queued
+    // priority, so a shorter path queues the vertex again and the old entry is skipped
+    // when popped. Each node's cost is a whole number of units, which a double holds
+    // exactly. Returns null if an edge weight has changed so that it no longer fits the
+    // quantum.
+    private IDictionary<V, Node> searchInWeightUnits(V start, V end) {
+        IMonotonePriorityQueue<Node> frontier;
+        if (maxWeightUnits <= BUCKET_QUEUE_MAX_WEIGHT) {
+            frontier = new BucketQueue<>((int) maxWeightUnits);
+        } else {
+            frontier = new RadixHeap<>();
+        }
+        IDictionary<V, Node> reached = new OpenAddressingHashDictionary<>();
+        Node startNode = new Node(start, 0, null);
+        frontier.insert(0, startNode);
+        reached.put(start, startNode);
+
+        while (!frontier.isEmpty()) {
+            long units = frontier.peekMinKey();
+            Node currentNode = frontier.removeMin();
+            if (units > currentNode.cost) {
+                continue; // stale: the vertex was queued again with a lower cost
+            }
+            V currentVertex = currentNode.getVertex();
+            if (currentVertex.equals(end)) {
+                break;
+            }
+            for (E edge : listGraph.get(currentVertex)) {
+                V otherVertex = edge.getOtherVertex(currentVertex);
+                long edgeUnits = toWeightUnits(edge.getWeight(), weightQuantum, maxWeightUnits);
+                if (edgeUnits < 0) {
+                    return null;
+                }
+                long newCost = units + edgeUnits;
+                Node otherNode = reached.getOrDefault(otherVertex, null);
+                if (otherNode == null) {
+                    otherNode = new Node(otherVertex, newCost, edge);
+                    reached.put(otherVertex, otherNode);
+                    frontier.insert(newCost, otherNode);
+                } else if (newCost < otherNode.cost) {
+                    otherNode.cost = newCost;
+                    otherNode.predecessor = edge;
+                    frontier.insert(newCost, otherNode);
+                }
+            }
+        }
+        return reached;
+    }
+
+    // Returns the most units any one edge weighs when counted in the given quantum, or
+    // -1 if some weight isn't a whole number of quanta, or path costs in those units
+    // could be too big to count exactly.
+    private long findMaxWeightUnits(double quantum) {
+        long limit = MAX_EXACT_UNITS / Math.max(1, vertices.size());
+        long maxUnits = 0;
+        for (E edge : edges) {
+            long units = toWeightUnits(edge.getWeight(), quantum, limit);
+            if (units < 0) {
+                return -1;
+            }
+            maxUnits = Math.max(maxUnits, units);
+        }
+        return maxUnits;
+    }
+
+    // Returns the weight as a whole number of quanta, or -1 if it isn't one or is more
+    // than 'limit'.
+    private static long toWeightUnits(double weight, double quantum, long limit) {
+        double units = weight / quantum;
+        // (Written this way round so that NaN fails too)
+        if (!(units >= 0 && units <= limit)) {
+            return -1;
+        }
+        if (Math.abs(units - Math.rint(units)) > QUANTUM_TOLERANCE * Math.max(1, units)) {
+            return -1;
+        }
+        return Math.round(units);
+    }
+
     private class Node implements Comparable<Node> {
         private V vertex;
         private double cost;
         private E predecessor;
 
-        public Node(V vertex) {
-            this(vertex, Double.POSITIVE_INFINITY, null);
-        }
-
         public Node(V vertex, double cost, E predecessor) {
             this.vertex = vertex;
             this.cost = cost;
@@ -0,0 +1,199 @@
+package datastructures.concrete;
+
+import datastructures.concrete.dictionaries.ObjectIntHashDictionary;
+import datastructures.interfaces.IPriorityQueue;
+import datastructures.interfaces.IStatsProvider;
+import misc.exceptions.EmptyContainerException;
+
+/**
+ * A 4-heap that remembers where each of its items is, so that an item already in the
+ * queue can be found, removed or moved to reflect a new priority in O(log(n)) time.
+ *
+ * Items are told apart by equals and hashCode, so the queue cannot hold two equal
+ * items at once, and an item's equals and hashCode must not depend on its priority.
+ * To change an item's priority, update the item itself, then call decreaseKey or
+ * increaseKey so the queue can move it to its new place.
+ *
+ * @see IPriorityQueue for details on what the basic methods do.
+ */
+public class IndexedPriorityQueue<T extends Comparable<T>> implements IPriorityQueue<T>, IStatsProvider {
+    private static final int NUM_CHILDREN = 4;
+
+    private T[] heap;
+    private int size;
+    private int resizeCount;
+
+    // positions.getInt(heap[i]) == i for every i < size
+    private ObjectIntHashDictionary<T> positions;
+
+    public IndexedPriorityQueue() {
+        this.heap = makeArrayOfT(30);
+        this.size = 0;
+        this.resizeCount = 0;
+        this.positions = new ObjectIntHashDictionary<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] makeArrayOfT(int arraySize) {
+        return (T[]) (new Comparable[arraySize]);
+    }
+
+    @Override
+    public T removeMin() {
+        if (size == 0) {
+            throw new EmptyContainerException("Queue is empty");
+        }
+        T result = heap[0];
+        this.removeAt(0);
+        return result;
+    }
+
+    @Override
+    public T peekMin() {
+        if (size == 0) {
+            throw new EmptyContainerException("Queue is empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Inserts the given item into the queue.
+     *
+     * @throws IllegalArgumentException  if the item is null, or the queue already
+     *                                   contains an item equal to it
+     */
+    @Override
+    public void insert(T item) {
+        if (item == null || positions.containsKey(item)) {
+            throw new IllegalArgumentException();
+        }
+        if (size == heap.length) {
+            this.resizeCount++;
+            T[] result = makeArrayOfT(heap.length * NUM_CHILDREN);
+            System.arraycopy(heap, 0, result, 0, size);
+            heap = result;
+        }
+        heap[size] = item;
+        positions.putInt(item, size);
+        size++;
+        this.percolateUp(size - 1);
+    }
+
+    /**
+     * Returns 'true' if the queue contains an item equal to the given one.
+     */
+    public boolean contains(T item) {
+        return item != null && positions.containsKey(item);
+    }
+
+    /**
+     * Removes the given item from the queue.
+     *
+     * @throws IllegalArgumentException  if the queue does not contain the item
+     */
+    public void remove(T item) {
+        this.removeAt(this.positionOf(item));
+    }
+
+    /**
+     * Moves the given item towards the front of the queue after its priority has
+     * been lowered (made smaller by compareTo).
+     *
+     * @throws IllegalArgumentException  if the queue does not contain the item
+     */
+    public void decreaseKey(T item) {
+        this.percolateUp(this.positionOf(item));
+    }
+
+    /**
+     * Moves the given item towards the back of the queue after its priority has
+     * been raised (made larger by compareTo).
+     *
+     * @throws IllegalArgumentException  if the queue does not contain the item
+     */
+    public void increaseKey(T item) {
+        this.percolateDown(this.positionOf(item));
+    }
+
+    private int positionOf(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException();
+        }
+        int index = positions.getIntOrDefault(item, -1);
+        if (index == -1) {
+            throw new IllegalArgumentException();
+        }
+        return index;
+    }
+
+    // Removes the item at the given index by moving the last item into its place,
+    // then moving that item up or down to wherever it belongs.
+    private void removeAt(int index) {
+        positions.removeInt(heap[index]);
+        size--;
+        if (index == size) {
+            heap[size] = null;
+            return;
+        }
+        heap[index] = heap[size];
+        heap[size] = null;
+        positions.putInt(heap[index], index);
+        this.percolateDown(this.percolateUp(index));
+    }
+
+    // Returns the index the item ends up at.
+    private int percolateUp(int index) {
+        T item = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) / NUM_CHILDREN;
+            if (item.compareTo(heap[parent]) >= 0) {
+                break;
+            }
+            this.place(heap[parent], index);
+            index = parent;
+        }
+        this.place(item, index);
+        return index;
+    }
+
+    private void percolateDown(int index) {
+        T item = heap[index];
+        while (NUM_CHILDREN * index + 1 < size) {
+            int first = NUM_CHILDREN * index + 1;
+            int smallest = first;
+            int end = Math.min(first + NUM_CHILDREN, size);
+            for (int child = first + 1; child < end; child++) {
+                if (heap[child].compareTo(heap[smallest]) < 0) {
+                    smallest = child;
+                }
+            }
+            if (heap[smallest].compareTo(item) >= 0) {
+                break;
+            }
+            this.place(heap[smallest], index);
+            index = smallest;
+        }
+        this.place(item, index);
+    }
+
+    private void place(T item, int index) {
+        heap[index] = item;
+        positions.putInt(item, index);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    // Runs in O(log n) time. Includes the position index alongside the heap array.
+    @Override
+    public StructureStats getStats() {
+        long bytes = StructureStats.objectBytes(2 * StructureStats.REFERENCE_BYTES + 2 * Integer.BYTES)
+                + StructureStats.arrayBytes(heap.length, StructureStats.REFERENCE_BYTES)
+                + positions.getStats().getEstimatedBytes();
+        StructureStats stats = new StructureStats(size, heap.length, bytes, resizeCount);
+        stats.setTreeHeight(StructureStats.dAryHeapHeight(size, NUM_CHILDREN));
+        return stats;
+    }
+}
@@ -0,0 +1,138 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IMonotonePriorityQueue;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Arrays;
+
+/**
+ * A monotone priority queue that sorts values into buckets by how many of their
+ * priority's bits differ from the last priority removed.
+ *
+ * Bucket 0 holds values whose priority equals the last one removed, and bucket i holds
+ * values whose priority first differs from it at bit i - 1. When bucket 0 runs out,
+ * the smallest priority in the next non-empty bucket becomes the new "last", and that
+ * bucket's values are spread over the buckets below it. A value can only move down,
+ * at most 64 times, so each operation costs O(log(C)) amortized time, where C is the
+ * largest gap between a priority and the last one removed. No comparisons between
+ * values are made, and entries are stored in flat arrays with no per-entry objects.
+ */
+public class RadixHeap<T> implements IMonotonePriorityQueue<T> {
+    private static final int NUM_BUCKETS = Long.SIZE + 1;
+
+    private Bucket<T>[] buckets;
+    private long last; // every priority in the heap is >= last
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public RadixHeap() {
+        this.buckets = (Bucket<T>[]) new Bucket[NUM_BUCKETS];
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            this.buckets[i] = new Bucket<>();
+        }
+        this.last = 0;
+        this.size = 0;
+    }
+
+    private int bucketOf(long key) {
+        return Long.SIZE - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    @Override
+    public void insert(long key, T value) {
+        if (key < last) {
+            if (size > 0) {
+                throw new IllegalArgumentException("Priority is below the last one removed");
+            }
+            // Only an empty heap can start over lower down
+            last = key;
+        }
+        buckets[bucketOf(key)].add(key, value);
+        size++;
+    }
+
+    @Override
+    public T removeMin() {
+        this.fillFirstBucket();
+        size--;
+        return buckets[0].removeLast();
+    }
+
+    @Override
+    public T peekMin() {
+        this.fillFirstBucket();
+        return buckets[0].values[buckets[0].size - 1];
+    }
+
+    @Override
+    public long peekMinKey() {
+        this.fillFirstBucket();
+        return last;
+    }
+
+    // Makes sure bucket 0 holds the values with the smallest priority.
+    private void fillFirstBucket() {
+        if (size == 0) {
+            throw new EmptyContainerException("Queue is empty");
+        }
+        if (buckets[0].size > 0) {
+            return;
+        }
+        int index = 1;
+        while (buckets[index].size == 0) {
+            index++;
+        }
+        Bucket<T> bucket = buckets[index];
+        long min = bucket.keys[0];
+        for (int i = 1; i < bucket.size; i++) {
+            min = Math.min(min, bucket.keys[i]);
+        }
+        last = min;
+        // Every priority in this bucket now agrees with 'last' on more bits than before,
+        // so each one lands in a lower bucket
+        for (int i = 0; i < bucket.size; i++) {
+            buckets[bucketOf(bucket.keys[i])].add(bucket.keys[i], bucket.values[i]);
+        }
+        bucket.clear();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private static class Bucket<T> {
+        public long[] keys;
+        public T[] values;
+        public int size;
+
+        @SuppressWarnings("unchecked")
+        public Bucket() {
+            this.keys = new long[4];
+            this.values = (T[]) new Object[4];
+            this.size = 0;
+        }
+
+        public void add(long key, T value) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            keys[size] = key;
+            values[size] = value;
+            size++;
+        }
+
+        public T removeLast() {
+            size--;
+            T result = values[size];
+            values[size] = null;
+            return result;
+        }
+
+        public void clear() {
+            Arrays.fill(values, 0, size, null);
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IStatsProvider;
+
+import java.util.Arrays;
+
+/**
+ * A snapshot of the size, shape and estimated memory footprint of a data structure.
+ *
+ * Not every statistic applies to every structure. Those that don't are -1, or null for
+ * the chain length histogram.
+ *
+ * The byte estimates assume a 64-bit JVM with compressed references. That means
+ * 12-byte object headers, 16-byte array headers and 4-byte references, with every
+ * object padded to a multiple of 8 bytes. They count the structure's own objects and
+ * arrays, but not the items, keys or values stored in it.
+ *
+ * @see IStatsProvider
+ */
+public class StructureStats {
+    public static final int OBJECT_HEADER_BYTES = 12;
+    public static final int ARRAY_HEADER_BYTES = 16;
+    public static final int REFERENCE_BYTES = 4;
+
+    private final int size;
+    private final int capacity;
+    private final long estimatedBytes;
+    private final int resizeCount;
+    private int maxProbeLength;
+    private int[] chainLengthHistogram;
+    private int treeHeight;
+
+    public StructureStats(int size, int capacity, long estimatedBytes, int resizeCount) {
+        this.size = size;
+        this.capacity = capacity;
+        this.estimatedBytes = estimatedBytes;
+        this.resizeCount = resizeCount;
+        this.maxProbeLength = -1;
+        this.chainLengthHistogram = null;
+        this.treeHeight = -1;
+    }
+
+    /**
+     * Returns the estimated size of an object with the given number of bytes of fields.
+     */
+    public static long objectBytes(int fieldBytes) {
+        return align(OBJECT_HEADER_BYTES + fieldBytes);
+    }
+
+    /**
+     * Returns the estimated size of an array with the given length and element size.
+     */
+    public static long arrayBytes(int length, int elementBytes) {
+        return align(ARRAY_HEADER_BYTES + (long) length * elementBytes);
+    }
+
+    /**
+     * Returns the height of a complete heap where every node has 'arity' children and
+     * the given number of items: the number of levels below the root.
+     */
+    public static int dAryHeapHeight(int size, int arity) {
+        int height = 0;
+        long levelWidth = 1;
+        long nodesSoFar = 1;
+        while (nodesSoFar < size) {
+            levelWidth *= arity;
+            nodesSoFar += levelWidth;
+            height++;
+        }
+        return height;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * Returns the number of items or key-value pairs in the structure.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of items the structure can hold before it next has to resize
+     * (or the number of buckets, for hash tables).
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns size / capacity, or 0 if the capacity is 0.
+     */
+    public double getLoadFactor() {
+        return this.capacity == 0 ? 0.0 : (double) this.size / this.capacity;
+    }
+
+    public long getEstimatedBytes() {
+        return this.estimatedBytes;
+    }
+
+    /**
+     * Returns how many times the structure has grown its storage since it was created.
+     */
+    public int getResizeCount() {
+        return this.resizeCount;
+    }
+
+    /**
+     * Returns the most entries a lookup has to compare against: the longest chain or
+     * probe sequence for hash tables, and the whole array for unsorted arrays.
+     */
+    public int getMaxProbeLength() {
+        return this.maxProbeLength;
+    }
+
+    public void setMaxProbeLength(int maxProbeLength) {
+        this.maxProbeLength = maxProbeLength;
+    }
+
+    /**
+     * Returns an array whose element i is the number of buckets holding exactly i
+     * entries. The last element counts every bucket at least that long.
+     */
+    public int[] getChainLengthHistogram() {
+        return this.chainLengthHistogram;
+    }
+
+    public void setChainLengthHistogram(int[] chainLengthHistogram) {
+        this.chainLengthHistogram = chainLengthHistogram;
+    }
+
+    /**
+     * Returns the height of the tallest tree in the structure (a single node has height 0).
+     * For structures that only track an upper bound, returns that bound.
+     */
+    public int getTreeHeight() {
+        return this.treeHeight;
+    }
+
+    public void setTreeHeight(int treeHeight) {
+        this.treeHeight = treeHeight;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        out.append("size=").append(size);
+        out.append(" capacity=").append(capacity);
+        out.append(" bytes=").append(estimatedBytes);
+        out.append(" resizes=").append(resizeCount);
+        if (maxProbeLength != -1) {
+            out.append(" maxProbe=").append(maxProbeLength);
+        }
+        if (treeHeight != -1) {
+            out.append(" treeHeight=").append(treeHeight);
+        }
+        if (chainLengthHistogram != null) {
+            out.append(" chainLengths=").append(Arrays.toString(chainLengthHistogram));
+        }
+        return out.toString();
+    }
+}
@@ -1,7 +1,9 @@
 package datastructures.concrete.dictionaries;
 
 import datastructures.concrete.KVPair;
+import datastructures.concrete.StructureStats;
 import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IStatsProvider;
 import misc.exceptions.NoSuchKeyException;
 import java.util.NoSuchElementException;
 import java.util.Iterator;
@@ -11,11 +13,12 @@ import java.util.Iterator;
 /**
  * @see datastructures.interfaces.IDictionary
  */
-public class ArrayDictionary<K, V> implements IDictionary<K, V> {
+public class ArrayDictionary<K, V> implements IDictionary<K, V>, IStatsProvider {
     // You may not change or rename this field.
     // We will be inspecting it in our private tests.
     private Pair<K, V>[] pairs;
     private int size;
+    private int resizeCount;
 
     private static final int DEFAULT_CAPACITY = 10;
 
@@ -29,6 +32,7 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
         }
         pairs = this.makeArrayOfPairs(arraySize);
         this.size = 0;
+        this.resizeCount = 0;
     }
 
     /**
@@ -100,6 +104,7 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
             this.pairs[getKeyIndex(key)].value = value;
         } else {
             if (this.size == this.pairs.length) {
+                this.resizeCount++;
                 Pair<K, V>[] newPairs = makeArrayOfPairs(size*2);
                 for (int i = 0; i < size; i++) {
                     newPairs[i] = this.pairs[i];
@@ -139,6 +144,21 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
         return size;
     }
 
+    // Runs in O(1) time. Lookups scan the array, so every pair is on the probe path.
+    @Override
+    public StructureStats getStats() {
+        StructureStats stats = new StructureStats(size, pairs.length, estimateBytes(), resizeCount);
+        stats.setMaxProbeLength(size);
+        return stats;
+    }
+
+    // Lets ChainedHashDictionary add up its chains without creating a StructureStats per chain.
+    long estimateBytes() {
+        return StructureStats.objectBytes(StructureStats.REFERENCE_BYTES + 2 * Integer.BYTES)
+                + StructureStats.arrayBytes(pairs.length, StructureStats.REFERENCE_BYTES)
+                + size * StructureStats.objectBytes(2 * StructureStats.REFERENCE_BYTES);
+    }
+
     public Iterator<KVPair<K, V>> iterator() {
         return new ArrayDictionaryIterator<>(this.size, this.pairs);
     }
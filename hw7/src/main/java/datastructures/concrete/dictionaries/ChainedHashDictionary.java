@@ -1,7 +1,9 @@
 package datastructures.concrete.dictionaries;
 
 import datastructures.concrete.KVPair;
+import datastructures.concrete.StructureStats;
 import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IStatsProvider;
 // import javafx.util.Pair;
 import misc.exceptions.NoSuchKeyException;
 //import misc.exceptions.NotYetImplementedException;
@@ -13,15 +15,20 @@ import java.util.NoSuchElementException;
 /**
  * @see IDictionary and the assignment page for more details on what each method should do
  */
-public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
+public class ChainedHashDictionary<K, V> implements IDictionary<K, V>, IStatsProvider {
     // You may not change or rename this field: we will be inspecting
     // it using our private tests.
     private IDictionary<K, V>[] chains;
     private int capacity; // Initial counts for chains
     private int size; // tracks the number of key-value pairs
+    private int resizeCount; // number of times the table has grown
 
     private static final double LOAD_FACTOR = 0.5;
 
+    // The last bucket of the chain length histogram in getStats() counts every chain
+    // of length CHAIN_HISTOGRAM_LENGTH - 1 or more.
+    private static final int CHAIN_HISTOGRAM_LENGTH = 8;
+
 
     // You're encouraged to add extra fields (and helper methods) though!
 
@@ -29,6 +36,7 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
         this.capacity = 30;
         this.chains = makeArrayOfChains(capacity);
         this.size = 0;
+        this.resizeCount = 0;
     }
 
     /**
@@ -61,6 +69,7 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
 
 
     private void resize() {
+        this.resizeCount++;
         IDictionary<K, V>[] oldChains = this.chains;
         this.capacity *= 2;
         this.chains = makeArrayOfChains(capacity);
@@ -153,6 +162,21 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
         return this.size;
     }
 
+    // Runs in O(buckets) time: looks at every bucket once, but never at the pairs.
+    @Override
+    public StructureStats getStats() {
+        ChainTally tally = new ChainTally();
+        long bytes = StructureStats.objectBytes(StructureStats.REFERENCE_BYTES + 3 * Integer.BYTES)
+                + StructureStats.arrayBytes(chains.length, StructureStats.REFERENCE_BYTES);
+        for (IDictionary<K, V> chain : chains) {
+            tally.add(chain);
+        }
+        StructureStats stats = new StructureStats(size, chains.length, bytes + tally.bytes, resizeCount);
+        stats.setMaxProbeLength(tally.maxLength);
+        stats.setChainLengthHistogram(tally.histogram);
+        return stats;
+    }
+
     // Returns an iterator that, when used, will yield all key-value pairs
     // contained within this dictionary
     @Override
@@ -249,4 +273,20 @@ public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
             return itr.next();
         }
     }
+
+    // Adds up the chains of one table for getStats().
+    private static class ChainTally {
+        public final int[] histogram = new int[CHAIN_HISTOGRAM_LENGTH];
+        public int maxLength = 0;
+        public long bytes = 0;
+
+        public void add(IDictionary<?, ?> chain) {
+            int length = chain == null ? 0 : chain.size();
+            histogram[Math.min(length, CHAIN_HISTOGRAM_LENGTH - 1)]++;
+            maxLength = Math.max(maxLength, length);
+            if (chain != null) {
+                bytes += ((ArrayDictionary<?, ?>) chain).estimateBytes();
+            }
+        }
+    }
 }
@@ -0,0 +1,252 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A hash dictionary that stores keys, values and cached hash codes in flat arrays,
+ * using Robin Hood linear probing with backward-shift deletion.
+ *
+ * Robin Hood probing keeps every probe run short and sorted by distance from home,
+ * so a lookup usually touches one or two cache lines and a miss can stop early.
+ *
+ * @see IDictionary
+ */
+public class OpenAddressingHashDictionary<K, V> implements IDictionary<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double LOAD_FACTOR = 0.75;
+
+    // Invariants:
+    //  - hashes[i] == 0 means slot i is empty; occupied slots always cache a non-zero hash.
+    //  - Walking forward from any key's home slot, the probe distances of the
+    //    occupied slots never drop below that key's own distance until we reach it.
+    private int[] hashes;
+    private K[] keys;
+    private V[] values;
+    private int mask;
+    private int size;
+
+    public OpenAddressingHashDictionary() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public OpenAddressingHashDictionary(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException();
+        }
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity *= 2;
+        }
+        allocate(capacity);
+        this.size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        this.hashes = new int[capacity];
+        this.keys = (K[]) new Object[capacity];
+        this.values = (V[]) new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    // Spreads the bits of the hash code and reserves 0 as the "empty slot" marker.
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        h *= 0x9E3779B9;
+        h ^= h >>> 16;
+        return h == 0 ? 1 : h;
+    }
+
+    // Returns how far the slot at 'index' is from the home slot of the given hash.
+    private int probeDistance(int hash, int index) {
+        return (index - (hash & mask)) & mask;
+    }
+
+    private static boolean keysEqual(Object a, Object b) {
+        return a == b || (a != null && a.equals(b));
+    }
+
+    // Returns the slot holding the given key, or -1 if it is absent.
+    private int findSlot(K key) {
+        int hash = hash(key);
+        int index = hash & mask;
+        int distance = 0;
+        while (hashes[index] != 0 && probeDistance(hashes[index], index) >= distance) {
+            if (hashes[index] == hash && keysEqual(keys[index], key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+            distance++;
+        }
+        return -1;
+    }
+
+    // Returns the value corresponding to the given key.
+    @Override
+    public V get(K key) {
+        int index = findSlot(key);
+        if (index == -1) {
+            throw new NoSuchKeyException();
+        }
+        return values[index];
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        int index = findSlot(key);
+        return index == -1 ? defaultValue : values[index];
+    }
+
+    // Adds the key-value pair to the dictionary. If the key already exists in the dictionary,
+    // replace its value with the given one.
+    @Override
+    public void put(K key, V value) {
+        int hash = hash(key);
+        int index = hash & mask;
+        int distance = 0;
+        while (hashes[index] != 0) {
+            if (hashes[index] == hash && keysEqual(keys[index], key)) {
+                values[index] = value;
+                return;
+            }
+            int existingDistance = probeDistance(hashes[index], index);
+            if (existingDistance < distance) {
+                // The key would have been placed before this "richer" resident, so it's new
+                break;
+            }
+            index = (index + 1) & mask;
+            distance++;
+        }
+        if (size + 1 > hashes.length * LOAD_FACTOR) {
+            resize();
+            insertNew(hash, key, value, hash & mask, 0);
+        } else {
+            insertNew(hash, key, value, index, distance);
+        }
+        size++;
+    }
+
+    // Robin Hood insertion of a key known to be absent, starting at the given slot and
+    // probe distance: whenever the carried entry is further from home than the resident,
+    // they swap and the resident is carried on down the run.
+    private void insertNew(int hash, K key, V value, int index, int distance) {
+        while (hashes[index] != 0) {
+            int existingDistance = probeDistance(hashes[index], index);
+            if (existingDistance < distance) {
+                int tempHash = hashes[index];
+                K tempKey = keys[index];
+                V tempValue = values[index];
+                hashes[index] = hash;
+                keys[index] = key;
+                values[index] = value;
+                hash = tempHash;
+                key = tempKey;
+                value = tempValue;
+                distance = existingDistance;
+            }
+            index = (index + 1) & mask;
+            distance++;
+        }
+        hashes[index] = hash;
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    // Pre : Throws NoSuchKeyException if the dictionary does not contain the given key.
+    // Post: Remove the key-value pair corresponding to the given key from the dictionary.
+    @Override
+    public V remove(K key) {
+        int index = findSlot(key);
+        if (index == -1) {
+            throw new NoSuchKeyException();
+        }
+        V removed = values[index];
+        // Backward-shift deletion: slide the rest of the run back by one until we
+        // reach an empty slot or an entry that already sits in its home slot
+        int next = (index + 1) & mask;
+        while (hashes[next] != 0 && probeDistance(hashes[next], next) > 0) {
+            hashes[index] = hashes[next];
+            keys[index] = keys[next];
+            values[index] = values[next];
+            index = next;
+            next = (next + 1) & mask;
+        }
+        hashes[index] = 0;
+        keys[index] = null;
+        values[index] = null;
+        size--;
+        return removed;
+    }
+
+    // Doubles the table and re-inserts every entry using its cached hash.
+    private void resize() {
+        int[] oldHashes = this.hashes;
+        K[] oldKeys = this.keys;
+        V[] oldValues = this.values;
+        allocate(oldHashes.length * 2);
+        for (int i = 0; i < oldHashes.length; i++) {
+            if (oldHashes[i] != 0) {
+                insertNew(oldHashes[i], oldKeys[i], oldValues[i], oldHashes[i] & mask, 0);
+            }
+        }
+    }
+
+    // Returns 'true' if the dictionary contains the given key and 'false' otherwise.
+    @Override
+    public boolean containsKey(K key) {
+        return findSlot(key) != -1;
+    }
+
+    // Returns the number of key-value pairs stored in this dictionary.
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new OpenAddressingIterator<>(this.hashes, this.keys, this.values);
+    }
+
+    private static class OpenAddressingIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private int[] hashes;
+        private K[] keys;
+        private V[] values;
+        private int index;
+
+        public OpenAddressingIterator(int[] hashes, K[] keys, V[] values) {
+            this.hashes = hashes;
+            this.keys = keys;
+            this.values = values;
+            this.index = findNext(0);
+        }
+
+        // Returns the next occupied slot at or after 'from', or hashes.length if there is none.
+        private int findNext(int from) {
+            while (from < hashes.length && hashes[from] == 0) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < hashes.length;
+        }
+
+        @Override
+        public KVPair<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            KVPair<K, V> result = new KVPair<>(keys[index], values[index]);
+            index = findNext(index + 1);
+            return result;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package datastructures;
 
 import datastructures.concrete.ArrayDisjointSet;
+import datastructures.concrete.StructureStats;
 import datastructures.interfaces.IDisjointSet;
 import misc.BaseTest;
 import org.junit.Test;
@@ -156,4 +157,21 @@ public class TestArrayDisjointSet extends BaseTest {
     //     forest.union("a", "c"); // a should still have rank -2
     // }
 
+    @Test(timeout=SECOND)
+    public void testStatsTreeHeight() {
+        String[] items = new String[] {"a", "b", "c", "d", "e"};
+        ArrayDisjointSet<String> forest = new ArrayDisjointSet<>();
+        for (String item : items) {
+            forest.makeSet(item);
+        }
+        assertEquals(0, forest.getStats().getTreeHeight());
+        forest.union("a", "b");
+        forest.union("c", "d");
+        assertEquals(1, forest.getStats().getTreeHeight());
+        forest.union("a", "d");
+        forest.union("a", "e");
+        StructureStats stats = forest.getStats();
+        assertEquals(2, stats.getTreeHeight());
+        assertEquals(5, stats.getSize());
+    }
 }
@@ -11,6 +11,7 @@ import org.junit.Test;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.stream.StreamSupport;
 
 public class TestChainedHashSet extends BaseTest {
     protected ISet<String> makeBasicSet() {
@@ -385,4 +386,73 @@ public class TestChainedHashSet extends BaseTest {
             assertFalse(set.contains(i));
         }
     }
+
+    @Test(timeout=SECOND)
+    public void testIteratorVisitsEveryItemOnce() {
+        ISet<Integer> set = new ChainedHashSet<>(0);
+        for (int i = 0; i < 500; i++) {
+            set.add(i);
+        }
+        ISet<Integer> seen = new ChainedHashSet<>();
+        for (int item : set) {
+            assertFalse(seen.contains(item));
+            seen.add(item);
+        }
+        assertEquals(500, seen.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddAll() {
+        ISet<String> set = this.makeBasicSet();
+        ISet<String> other = new ChainedHashSet<>();
+        other.add("keyC");
+        other.add("keyD");
+        set.addAll(other);
+        this.assertSetMatches(new String[] {"keyA", "keyB", "keyC", "keyD"}, set);
+        assertEquals(2, other.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveAllIgnoresMissingItems() {
+        ISet<String> set = this.makeBasicSet();
+        ISet<String> other = new ChainedHashSet<>();
+        other.add("keyA");
+        other.add("keyZ");
+        set.removeAll(other);
+        this.assertSetMatches(new String[] {"keyB", "keyC"}, set);
+        assertFalse(set.contains("keyA"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testRetainAll() {
+        ISet<Integer> set = new ChainedHashSet<>();
+        ISet<Integer> evens = new ChainedHashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            set.add(i);
+            evens.add(2 * i);
+        }
+        set.retainAll(evens);
+        assertEquals(500, set.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 0, set.contains(i));
+        }
+
+        set.retainAll(new ChainedHashSet<>());
+        assertTrue(set.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testParallelStreamVisitsEveryItem() {
+        ISet<Integer> set = new ChainedHashSet<>();
+        long expectedSum = 0;
+        for (int i = 0; i < 10000; i++) {
+            set.add(i);
+            expectedSum += i;
+        }
+        assertEquals(10000L, StreamSupport.stream(set.spliterator(), true).count());
+        assertEquals(expectedSum, StreamSupport.stream(set.spliterator(), true)
+                .mapToLong(item -> item)
+                .sum());
+        assertEquals(0L, StreamSupport.stream(new ChainedHashSet<Integer>().spliterator(), true).count());
+    }
 }
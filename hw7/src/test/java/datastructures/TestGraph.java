@@ -9,6 +9,10 @@ import misc.BaseTest;
 import misc.exceptions.NoPathExistsException;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -346,4 +350,149 @@ public class TestGraph extends BaseTest {
             // Do nothing: this is ok
         }
     }
+
+    // The edges of a grid of 'size' x 'size' vertices, numbered row by row: one to each
+    // right and lower neighbor, plus some random diagonals.
+    private IList<SimpleEdge<Integer>> buildGridEdges(int size, Random rand, DoubleSupplier weights) {
+        IList<SimpleEdge<Integer>> edges = new DoubleLinkedList<>();
+        for (int i = 0; i < size * size; i++) {
+            if (i % size != size - 1) {
+                edges.add(edge(i, i + 1, weights.getAsDouble()));
+            }
+            if (i + size < size * size) {
+                edges.add(edge(i, i + size, weights.getAsDouble()));
+                if (i % size != size - 1 && rand.nextInt(4) == 0) {
+                    edges.add(edge(i, i + size + 1, weights.getAsDouble()));
+                }
+            }
+        }
+        return edges;
+    }
+
+    // Bellman-Ford, as a slow but simple reference
+    private double[] findDistances(int numVertices, IList<SimpleEdge<Integer>> edges, int start) {
+        double[] dist = new double[numVertices];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        dist[start] = 0;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (SimpleEdge<Integer> e : edges) {
+                int a = e.getVertex1();
+                int b = e.getVertex2();
+                if (dist[a] + e.getWeight() < dist[b]) {
+                    dist[b] = dist[a] + e.getWeight();
+                    changed = true;
+                } else if (dist[b] + e.getWeight() < dist[a]) {
+                    dist[a] = dist[b] + e.getWeight();
+                    changed = true;
+                }
+            }
+        }
+        return dist;
+    }
+
+    @Test(timeout=SECOND)
+    public void testFindingShortestPathWithEveryKindOfWeight() {
+        Random rand = new Random(373);
+        int size = 20;
+        IList<Integer> vertices = new DoubleLinkedList<>();
+        for (int i = 0; i < size * size; i++) {
+            vertices.add(i);
+        }
+        // Small integers, large integers, multiples of 0.37, and arbitrary doubles
+        DoubleSupplier[] weightKinds = {
+            () -> rand.nextInt(10),
+            () -> rand.nextInt(1 << 20),
+            () -> 0.37 * (1 + rand.nextInt(50)),
+            () -> rand.nextDouble() * 100,
+        };
+        for (DoubleSupplier weights : weightKinds) {
+            IList<SimpleEdge<Integer>> edges = this.buildGridEdges(size, rand, weights);
+            Graph<Integer, SimpleEdge<Integer>> graph = new Graph<>(vertices, edges);
+            double[] dist = this.findDistances(size * size, edges, 0);
+            for (int end = 1; end < size * size; end += 7) {
+                double cost = 0.0;
+                Integer current = 0;
+                for (SimpleEdge<Integer> e : graph.findShortestPathBetween(0, end)) {
+                    cost += e.getWeight();
+                    current = e.getOtherVertex(current);
+                }
+                assertEquals(end, current);
+                assertEquals(dist[end], cost, 1e-6 * Math.max(1, dist[end]));
+            }
+        }
+    }
+
+    // An edge whose weight can be changed after the graph is built, like a maze Wall
+    private static class ReweightableEdge implements IEdge<String>, Comparable<ReweightableEdge> {
+        private String vertex1;
+        private String vertex2;
+        private double weight;
+
+        public ReweightableEdge(String vertex1, String vertex2, double weight) {
+            this.vertex1 = vertex1;
+            this.vertex2 = vertex2;
+            this.weight = weight;
+        }
+
+        @Override
+        public String getVertex1() {
+            return this.vertex1;
+        }
+
+        @Override
+        public String getVertex2() {
+            return this.vertex2;
+        }
+
+        @Override
+        public double getWeight() {
+            return this.weight;
+        }
+
+        @Override
+        public int compareTo(ReweightableEdge other) {
+            return Double.compare(this.weight, other.weight);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testFindingShortestPathAfterWeightsChange() {
+        IList<String> vertices = new DoubleLinkedList<>();
+        vertices.add("a");
+        vertices.add("b");
+        vertices.add("c");
+        ReweightableEdge ab = new ReweightableEdge("a", "b", 1);
+        ReweightableEdge bc = new ReweightableEdge("b", "c", 1);
+        ReweightableEdge ac = new ReweightableEdge("a", "c", 3);
+        IList<ReweightableEdge> edges = new DoubleLinkedList<>();
+        edges.add(ab);
+        edges.add(bc);
+        edges.add(ac);
+        Graph<String, ReweightableEdge> graph = new Graph<>(vertices, edges);
+        assertEquals(2, graph.findShortestPathBetween("a", "c").size());
+
+        // No longer a whole number, so the quantum found when the graph was built doesn't fit
+        ac.weight = 0.5;
+        assertEquals(1, graph.findShortestPathBetween("a", "c").size());
+        assertEquals(ac, graph.findShortestPathBetween("c", "a").get(0));
+
+        ab.weight = 0.125;
+        bc.weight = 0.25;
+        assertEquals(2, graph.findShortestPathBetween("a", "c").size());
+        // Rounded to whole quanta, both paths would look free
+        ab.weight = 0.18;
+        bc.weight = 0.18;
+        ac.weight = 0.34;
+        assertEquals(1, graph.findShortestPathBetween("a", "c").size());
+
+        // A whole number again, but much bigger than any weight seen before
+        ac.weight = 2;
+        ab.weight = 5000;
+        bc.weight = 1;
+        assertEquals(1, graph.findShortestPathBetween("a", "c").size());
+        ac.weight = 5002;
+        assertEquals(2, graph.findShortestPathBetween("a", "c").size());
+    }
 }
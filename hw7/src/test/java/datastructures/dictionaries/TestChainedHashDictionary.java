@@ -1,6 +1,7 @@
 package datastructures.dictionaries;
 
 import datastructures.concrete.KVPair;
+import datastructures.concrete.StructureStats;
 import datastructures.concrete.dictionaries.ChainedHashDictionary;
 import datastructures.interfaces.IDictionary;
 import org.junit.Assert;
@@ -166,4 +167,27 @@ public class TestChainedHashDictionary extends TestDictionary {
         IDictionary<String, String>[] chains = getField(map, "chains", IDictionary[].class);
         assertNotNull(chains);
     }
-}
\ No newline at end of file
+
+    @Test(timeout=SECOND)
+    public void testStatsDescribeChains() {
+        ChainedHashDictionary<Integer, Integer> dict = new ChainedHashDictionary<>();
+        long emptyBytes = dict.getStats().getEstimatedBytes();
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, i);
+        }
+        StructureStats stats = dict.getStats();
+        assertEquals(1000, stats.getSize());
+        assertTrue(stats.getCapacity() > 0);
+        assertTrue(stats.getResizeCount() > 0);
+        assertTrue(stats.getMaxProbeLength() >= 1);
+        assertTrue(stats.getEstimatedBytes() > emptyBytes);
+
+        int nonEmptyChains = 0;
+        int[] histogram = stats.getChainLengthHistogram();
+        for (int i = 1; i < histogram.length; i++) {
+            nonEmptyChains += histogram[i];
+        }
+        assertTrue(nonEmptyChains > 0);
+        assertTrue(nonEmptyChains <= 1000);
+    }
+}
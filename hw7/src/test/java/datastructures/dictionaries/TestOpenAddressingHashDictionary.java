@@ -0,0 +1,29 @@
+package datastructures.dictionaries;
+
+import datastructures.concrete.dictionaries.OpenAddressingHashDictionary;
+import datastructures.interfaces.IDictionary;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestOpenAddressingHashDictionary extends TestDictionary {
+    protected <K, V> IDictionary<K, V> newDictionary() {
+        return new OpenAddressingHashDictionary<>();
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveInsideCollidingRunsKeepsOtherKeys() {
+        IDictionary<Wrapper<Integer>, Integer> dict = this.newDictionary();
+        for (int i = 0; i < 1000; i++) {
+            dict.put(new Wrapper<>(i, i % 7), i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            assertEquals(i, dict.remove(new Wrapper<>(i, i % 7)));
+        }
+        assertEquals(500, dict.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 1, dict.containsKey(new Wrapper<>(i, i % 7)));
+        }
+    }
+}
@@ -5,6 +5,9 @@ import static org.junit.Assert.fail;
 
 import misc.BaseTest;
 import datastructures.concrete.ArrayHeap;
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.StructureStats;
+import datastructures.interfaces.IList;
 import datastructures.interfaces.IPriorityQueue;
 import misc.exceptions.EmptyContainerException;
 import org.junit.Test;
@@ -265,4 +268,166 @@ public class TestArrayHeapFunctionality extends BaseTest {
         assertEquals("test", heap.removeMin());
     }
 
+    @Test(timeout=SECOND)
+    public void testStatsTreeHeight() {
+        ArrayHeap<Integer> heap = new ArrayHeap<>();
+        assertEquals(0, heap.getStats().getTreeHeight());
+        for (int i = 0; i < 5; i++) {
+            heap.insert(i);
+        }
+        assertEquals(1, heap.getStats().getTreeHeight());
+        heap.insert(5);
+        StructureStats stats = heap.getStats();
+        assertEquals(2, stats.getTreeHeight());
+        assertEquals(6, stats.getSize());
+        assertTrue(stats.getCapacity() >= 6);
+    }
+
+    @Test(timeout=SECOND)
+    public void testHeapifyConstructor() {
+        IList<Integer> items = new DoubleLinkedList<>();
+        for (int i = 0; i < 1000; i++) {
+            items.add((i * 7919) % 1000);
+        }
+        ArrayHeap<Integer> heap = new ArrayHeap<>(items);
+        assertEquals(1000, heap.size());
+        assertEquals(1000, items.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, heap.removeMin());
+        }
+        assertTrue(heap.isEmpty());
+
+        items.add(null);
+        try {
+            new ArrayHeap<>(items);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testHeapifyArrayConstructor() {
+        Integer[] items = new Integer[1000];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = (i * 7919) % 1000;
+        }
+        Integer[] original = items.clone();
+        ArrayHeap<Integer> heap = new ArrayHeap<>(items);
+        assertEquals(1000, heap.size());
+        heap.insert(-1);
+        assertEquals(-1, heap.removeMin());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, heap.removeMin());
+        }
+        assertTrue(heap.isEmpty());
+        for (int i = 0; i < items.length; i++) {
+            assertEquals(original[i], items[i]);
+        }
+
+        ArrayHeap<Integer> empty = new ArrayHeap<>(new Integer[0]);
+        assertTrue(empty.isEmpty());
+        empty.insert(3);
+        assertEquals(3, empty.peekMin());
+
+        items[500] = null;
+        try {
+            new ArrayHeap<>(items);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInsertAllFewAndMany() {
+        ArrayHeap<Integer> heap = new ArrayHeap<>();
+        for (int i = 0; i < 100; i += 2) {
+            heap.insert(i);
+        }
+        // Fewer items than the heap holds, then more
+        IList<Integer> few = new DoubleLinkedList<>();
+        for (int i = 1; i < 20; i += 2) {
+            few.add(i);
+        }
+        heap.insertAll(few);
+        IList<Integer> many = new DoubleLinkedList<>();
+        for (int i = 199; i >= 21; i -= 2) {
+            many.add(i);
+        }
+        for (int i = 100; i < 200; i += 2) {
+            many.add(i);
+        }
+        heap.insertAll(many);
+
+        assertEquals(200, heap.size());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i, heap.removeMin());
+        }
+
+        IList<Integer> withNull = new DoubleLinkedList<>();
+        withNull.add(3);
+        withNull.add(null);
+        try {
+            heap.insertAll(withNull);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveMinBatch() {
+        ArrayHeap<Integer> heap = new ArrayHeap<>();
+        for (int i = 9; i >= 0; i--) {
+            heap.insert(i);
+        }
+        IList<Integer> out = new DoubleLinkedList<>();
+        out.add(-1);
+        heap.removeMin(4, out);
+        assertEquals(5, out.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, out.get(i + 1));
+        }
+        assertEquals(6, heap.size());
+
+        heap.removeMin(100, out);
+        assertEquals(11, out.size());
+        assertEquals(9, out.get(10));
+        assertTrue(heap.isEmpty());
+
+        heap.removeMin(0, out);
+        try {
+            heap.removeMin(-1, out);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testReplaceMin() {
+        ArrayHeap<Integer> heap = new ArrayHeap<>();
+        try {
+            heap.replaceMin(1);
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+        for (int i = 0; i < 50; i++) {
+            heap.insert(i * 2);
+        }
+        assertEquals(0, heap.replaceMin(51));
+        assertEquals(2, heap.replaceMin(-5));
+        assertEquals(-5, heap.peekMin());
+        assertEquals(50, heap.size());
+
+        assertEquals(-5, heap.removeMin());
+        for (int i = 2; i < 26; i++) {
+            assertEquals(i * 2, heap.removeMin());
+        }
+        assertEquals(51, heap.removeMin());
+        assertEquals(52, heap.removeMin());
+    }
 }
@@ -0,0 +1,160 @@
+package datastructures.sorting;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.IndexedPriorityQueue;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class TestIndexedPriorityQueue extends BaseTest {
+    // Compared by priority, but told apart by identity, like Graph's nodes
+    private static class Item implements Comparable<Item> {
+        public int priority;
+
+        public Item(int priority) {
+            this.priority = priority;
+        }
+
+        @Override
+        public int compareTo(Item other) {
+            return Integer.compare(this.priority, other.priority);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveMinReturnsItemsInOrder() {
+        IndexedPriorityQueue<Integer> heap = new IndexedPriorityQueue<>();
+        for (int i = 0; i < 1000; i++) {
+            heap.insert((i * 7919) % 1000);
+        }
+        assertEquals(1000, heap.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, heap.peekMin());
+            assertEquals(i, heap.removeMin());
+        }
+        assertTrue(heap.isEmpty());
+        try {
+            heap.removeMin();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // All ok -- expected result
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testContainsAndRemove() {
+        IndexedPriorityQueue<Integer> heap = new IndexedPriorityQueue<>();
+        for (int i = 0; i < 100; i++) {
+            heap.insert(i);
+        }
+        for (int i = 0; i < 100; i += 3) {
+            heap.remove(i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 3 != 0, heap.contains(i));
+        }
+        assertFalse(heap.contains(null));
+        for (int i = 0; i < 100; i++) {
+            if (i % 3 != 0) {
+                assertEquals(i, heap.removeMin());
+            }
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testRejectsDuplicatesAndUnknownItems() {
+        IndexedPriorityQueue<Integer> heap = new IndexedPriorityQueue<>();
+        heap.insert(5);
+        try {
+            heap.insert(5);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.insert(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.remove(6);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        try {
+            heap.decreaseKey(6);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // All ok -- expected result
+        }
+        assertEquals(1, heap.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testChangingPrioritiesInPlace() {
+        IndexedPriorityQueue<Item> heap = new IndexedPriorityQueue<>();
+        Item[] items = new Item[500];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = new Item(1000 + i);
+            heap.insert(items[i]);
+        }
+
+        // Reverse the order: the last item becomes the smallest
+        for (int i = items.length - 1; i >= 0; i--) {
+            items[i].priority = items.length - i;
+            heap.decreaseKey(items[i]);
+        }
+        items[items.length - 1].priority = 5000;
+        heap.increaseKey(items[items.length - 1]);
+
+        for (int i = items.length - 2; i >= 0; i--) {
+            assertTrue(heap.removeMin() == items[i]);
+        }
+        assertTrue(heap.removeMin() == items[items.length - 1]);
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testRandomOperationsKeepHeapOrder() {
+        Random rand = new Random(373);
+        IndexedPriorityQueue<Item> heap = new IndexedPriorityQueue<>();
+        Item[] items = new Item[2000];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = new Item(rand.nextInt(100000));
+            heap.insert(items[i]);
+        }
+        for (int i = 0; i < 5000; i++) {
+            Item item = items[rand.nextInt(items.length)];
+            if (!heap.contains(item)) {
+                continue;
+            }
+            int choice = rand.nextInt(3);
+            if (choice == 0) {
+                item.priority -= rand.nextInt(1000);
+                heap.decreaseKey(item);
+            } else if (choice == 1) {
+                item.priority += rand.nextInt(1000);
+                heap.increaseKey(item);
+            } else {
+                heap.remove(item);
+            }
+        }
+
+        int last = Integer.MIN_VALUE;
+        int count = heap.size();
+        for (int i = 0; i < count; i++) {
+            Item item = heap.removeMin();
+            assertTrue(item.priority >= last);
+            last = item.priority;
+        }
+        assertTrue(heap.isEmpty());
+    }
+}
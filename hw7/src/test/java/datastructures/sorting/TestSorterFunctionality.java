@@ -7,6 +7,9 @@ import misc.Sorter;
 import org.junit.Test;
 import static org.junit.Assert.fail;
 
+import java.util.Iterator;
+import java.util.Random;
+
 /**
  * See spec for details on what kinds of tests this class should include.
  */
@@ -180,4 +183,59 @@ public class TestSorterFunctionality extends BaseTest {
         assertEquals("b", top.get(1));
         assertEquals("c", top.get(2));
     }
+
+    @Test(timeout=SECOND)
+    public void testParallelMatchesSequential() {
+        Random rand = new Random(373);
+        IList<Integer> list = new DoubleLinkedList<>();
+        for (int i = 0; i < 50000; i++) {
+            list.add(rand.nextInt(5000));
+        }
+        int[] ks = {1, 10, 5000, 50000, 100000};
+        for (int k : ks) {
+            IList<Integer> expected = Sorter.topKSort(k, list);
+            for (int parallelism = 2; parallelism <= 4; parallelism++) {
+                IList<Integer> actual = Sorter.parallelTopKSort(k, list, parallelism);
+                assertEquals(expected.size(), actual.size());
+                Iterator<Integer> iter = actual.iterator();
+                for (Integer item : expected) {
+                    assertEquals(item, iter.next());
+                }
+            }
+        }
+        assertEquals(50000, list.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testParallelSmallInputsAndErrors() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        for (int i = 20; i > 0; i--) {
+            list.add(i);
+        }
+        IList<Integer> top = Sorter.parallelTopKSort(5, list, 8);
+        assertEquals(5, top.size());
+        for (int i = 0; i < top.size(); i++) {
+            assertEquals(16 + i, top.get(i));
+        }
+        assertEquals(0, Sorter.parallelTopKSort(0, list, 8).size());
+
+        try {
+            Sorter.parallelTopKSort(-1, list, 2);
+            fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException ex) {
+            // Do nothing
+        }
+        try {
+            Sorter.parallelTopKSort(1, null, 2);
+            fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException ex) {
+            // Do nothing
+        }
+        try {
+            Sorter.parallelTopKSort(1, list, 0);
+            fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException ex) {
+            // Do nothing
+        }
+    }
 }